@@ -0,0 +1,79 @@
+package com.gklyphon.sabor_digital.benchmarks.lookup;
+
+import com.gklyphon.sabor_digital.restaurant.application.services.impl.MenuItemServiceImpl;
+import com.gklyphon.sabor_digital.restaurant.domain.entities.MenuItem;
+import com.gklyphon.sabor_digital.restaurant.infrastructure.repositories.IMenuItemRepository;
+import com.gklyphon.sabor_digital.table.application.services.impl.TableServiceImpl;
+import com.gklyphon.sabor_digital.table.domain.models.Table;
+import com.gklyphon.sabor_digital.table.infrastructure.repositories.ITableRepository;
+import com.gklyphon.sabor_digital.waiter.application.services.impl.WaiterServiceImpl;
+import com.gklyphon.sabor_digital.waiter.domain.models.Waiter;
+import com.gklyphon.sabor_digital.waiter.infrastructure.repositories.IWaiterRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Measures the missing-ID check of the {@code findByIdIn} lookups used by the order service
+ * to validate menu items, tables and waiters, with every requested ID present.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/16
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindByIdInBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private List<Long> ids;
+    private MenuItemServiceImpl menuItemService;
+    private TableServiceImpl tableService;
+    private WaiterServiceImpl waiterService;
+
+    @Setup
+    public void setUp() {
+        ids = LongStream.rangeClosed(1, size).boxed().toList();
+        Map<Long, MenuItem> menuItems = ids.stream().collect(Collectors.toMap(id -> id, id -> new MenuItem.Builder().id(id).build()));
+        Map<Long, Table> tables = ids.stream().collect(Collectors.toMap(id -> id, id -> new Table.Builder().id(id).build()));
+        Map<Long, Waiter> waiters = ids.stream().collect(Collectors.toMap(id -> id, id -> new Waiter.Builder().id(id).build()));
+
+        menuItemService = new MenuItemServiceImpl(
+                StubRepositories.findByIdIn(IMenuItemRepository.class, requested -> lookup(menuItems, requested)), null, null);
+        tableService = new TableServiceImpl(
+                StubRepositories.findByIdIn(ITableRepository.class, requested -> lookup(tables, requested)), null, null, null);
+        waiterService = new WaiterServiceImpl(
+                StubRepositories.findByIdIn(IWaiterRepository.class, requested -> lookup(waiters, requested)), null, null, null);
+    }
+
+    /**
+     * Answers a padded {@code IN} chunk the way the database would, returning each matching row once.
+     */
+    private static <T> List<T> lookup(Map<Long, T> rows, List<Long> requested) {
+        return requested.stream().distinct().map(rows::get).toList();
+    }
+
+    @Benchmark
+    public List<MenuItem> menuItems() {
+        return menuItemService.findByIdIn(ids);
+    }
+
+    @Benchmark
+    public List<Table> tables() {
+        return tableService.findByIdIn(ids);
+    }
+
+    @Benchmark
+    public List<Waiter> waiters() {
+        return waiterService.findByIdIn(ids);
+    }
+}
@@ -0,0 +1,37 @@
+package com.gklyphon.sabor_digital.benchmarks.lookup;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Creates in-memory repository stubs answering only {@code findByIdIn}, so benchmarks measure
+ * the service logic around the query instead of the database.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/16
+ */
+final class StubRepositories {
+
+    private StubRepositories() {
+    }
+
+    /**
+     * Creates a stub of the given repository interface.
+     *
+     * @param repositoryType the repository interface
+     * @param findByIdIn the answer of {@code findByIdIn}
+     * @return the repository stub
+     */
+    static <R> R findByIdIn(Class<R> repositoryType, Function<List<Long>, List<?>> findByIdIn) {
+        return repositoryType.cast(Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findByIdIn")) {
+                        @SuppressWarnings("unchecked")
+                        List<Long> ids = (List<Long>) args[0];
+                        return findByIdIn.apply(ids);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }));
+    }
+}
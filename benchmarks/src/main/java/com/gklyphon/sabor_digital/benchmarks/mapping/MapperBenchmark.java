@@ -0,0 +1,82 @@
+package com.gklyphon.sabor_digital.benchmarks.mapping;
+
+import com.gklyphon.sabor_digital.order.application.dtos.OrderDto;
+import com.gklyphon.sabor_digital.order.domain.models.Order;
+import com.gklyphon.sabor_digital.order.domain.models.enums.OrderStatus;
+import com.gklyphon.sabor_digital.order.domain.models.enums.OrderType;
+import com.gklyphon.sabor_digital.order.domain.models.enums.PaymentType;
+import com.gklyphon.sabor_digital.restaurant.application.dtos.MenuItemDto;
+import com.gklyphon.sabor_digital.restaurant.domain.entities.MenuItem;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the MapStruct conversions performed on every order and menu item request.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/16
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private com.gklyphon.sabor_digital.order.application.mapper.IMapper orderMapper;
+    private com.gklyphon.sabor_digital.restaurant.application.mapper.IMapper restaurantMapper;
+    private OrderDto orderDto;
+    private Order order;
+    private MenuItemDto menuItemDto;
+    private MenuItem menuItem;
+
+    @Setup
+    public void setUp() {
+        orderMapper = Mappers.getMapper(com.gklyphon.sabor_digital.order.application.mapper.IMapper.class);
+        restaurantMapper = Mappers.getMapper(com.gklyphon.sabor_digital.restaurant.application.mapper.IMapper.class);
+        orderDto = new OrderDto.Builder()
+                .itemsId(List.of(1L, 2L, 3L, 4L, 5L))
+                .restaurantId(1L)
+                .tableId(1L)
+                .waiterId(1L)
+                .price(new BigDecimal("245.50"))
+                .orderType(OrderType.DINE_IN)
+                .paymentType(PaymentType.CREDIT_CARD)
+                .orderStatus(OrderStatus.PENDING)
+                .build();
+        order = orderMapper.fromOrderDtoToOrder(orderDto);
+        order.setId(1L);
+        menuItemDto = new MenuItemDto.Builder()
+                .name("Tacos al pastor")
+                .price(new BigDecimal("61.50"))
+                .preparationTime(10)
+                .menuId(1L)
+                .build();
+        menuItem = restaurantMapper.fromMenuItemDtoToMenuItem(menuItemDto);
+    }
+
+    @Benchmark
+    public Order orderDtoToOrder() {
+        return orderMapper.fromOrderDtoToOrder(orderDto);
+    }
+
+    @Benchmark
+    public OrderDto orderToOrderDto() {
+        return orderMapper.fromOrderToOrderDto(order);
+    }
+
+    @Benchmark
+    public MenuItem menuItemDtoToMenuItem() {
+        return restaurantMapper.fromMenuItemDtoToMenuItem(menuItemDto);
+    }
+
+    @Benchmark
+    public MenuItemDto menuItemToMenuItemDto() {
+        return restaurantMapper.fromMenuItemToMenuItemDto(menuItem);
+    }
+}
@@ -0,0 +1,107 @@
+package com.gklyphon.sabor_digital.benchmarks.serialization;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gklyphon.sabor_digital.order.domain.models.Order;
+import com.gklyphon.sabor_digital.order.domain.models.enums.OrderStatus;
+import com.gklyphon.sabor_digital.order.domain.models.enums.OrderType;
+import com.gklyphon.sabor_digital.order.domain.models.enums.PaymentType;
+import com.gklyphon.sabor_digital.restaurant.domain.entities.MenuItem;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.DefaultLinkRelationProvider;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Measures the Jackson serialization of the order and menu item responses, including the HAL
+ * paged model returned by the restaurant order listing.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/16
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"10", "50"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Order order;
+    private List<MenuItem> menuItems;
+    private PagedModel<EntityModel<Order>> orderPage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .addModule(new Jackson2HalModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .handlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                        new DefaultLinkRelationProvider(), CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY))
+                .build();
+        order = order(1L);
+        menuItems = LongStream.rangeClosed(1, pageSize)
+                .mapToObj(id -> new MenuItem.Builder()
+                        .id(id)
+                        .name("Menu item " + id)
+                        .price(new BigDecimal("61.50"))
+                        .preparationTime(10)
+                        .build())
+                .toList();
+        List<EntityModel<Order>> content = LongStream.rangeClosed(1, pageSize)
+                .mapToObj(id -> EntityModel.of(order(id)))
+                .toList();
+        orderPage = PagedModel.of(content, new PagedModel.PageMetadata(pageSize, 0, 1000),
+                Link.of("http://localhost:8081/api/orders/all-by-restaurant/1?page=0&size=" + pageSize));
+    }
+
+    @Benchmark
+    public String order() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(order);
+    }
+
+    @Benchmark
+    public String menuItems() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(menuItems);
+    }
+
+    @Benchmark
+    public String orderPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(orderPage);
+    }
+
+    private static Order order(Long id) {
+        Order order = new Order.Builder()
+                .id(id)
+                .itemsId(List.of(1L, 2L, 3L, 4L, 5L))
+                .restaurantId(1L)
+                .tableId(1L)
+                .waiterId(1L)
+                .price(new BigDecimal("245.50"))
+                .orderType(OrderType.DINE_IN)
+                .paymentType(PaymentType.CREDIT_CARD)
+                .orderStatus(OrderStatus.PENDING)
+                .build();
+        order.setCreatedAt(LocalDateTime.of(2025, 4, 16, 20, 30));
+        order.setUpdatedAt(order.getCreatedAt());
+        return order;
+    }
+}
@@ -0,0 +1,106 @@
+package com.gklyphon.sabor_digital.benchmarks.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.sabor_digital.order.application.dtos.*;
+import com.gklyphon.sabor_digital.order.application.services.impl.OrderValidationServiceImpl;
+import com.gklyphon.sabor_digital.order.infrastructure.feign.clients.IRestaurantClient;
+import com.gklyphon.sabor_digital.order.infrastructure.feign.clients.ITableClient;
+import com.gklyphon.sabor_digital.order.infrastructure.feign.clients.IWaiterClient;
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import feign.jackson.JacksonDecoder;
+import feign.jackson.JacksonEncoder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code verifyClientResponses} end to end through real Feign clients, against a local
+ * HTTP stub answering the restaurant, table and waiter existence checks with bodiless {@code HEAD}
+ * responses and the menu item lookup with canned JSON.
+ * The stub disables Nagle's algorithm so delayed ACKs on loopback do not dominate the measurement.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/16
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class OrderValidationBenchmark {
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private OrderValidationServiceImpl orderValidationService;
+    private OrderDto orderDto;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<Long> itemsId = List.of(1L, 2L, 3L);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        stub(objectMapper, "/api/restaurants/1", new RestaurantDto.Builder().name("Sabor").address("Main St. 1").build());
+        stub(objectMapper, "/api/menu-items/by-ids", itemsId.stream()
+                .map(id -> new MenuItemDto.Builder().id(id).name("Item " + id).price(new BigDecimal("61.50")).build())
+                .toList());
+        stub(objectMapper, "/api/tables/1", new TableDto.Builder().id(1L).restaurantId(1L).tableIdentifier("T1").build());
+        stub(objectMapper, "/api/waiters/1", new WaiterDto.Builder().id(1L).restaurantId(1L).firstname("John").build());
+        server.start();
+
+        String url = "http://127.0.0.1:" + server.getAddress().getPort();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        orderValidationService = new OrderValidationServiceImpl(
+                client(IRestaurantClient.class, url, objectMapper),
+                client(ITableClient.class, url, objectMapper),
+                client(IWaiterClient.class, url, objectMapper),
+                executor, 3000);
+        orderDto = new OrderDto.Builder().restaurantId(1L).tableId(1L).waiterId(1L).itemsId(itemsId).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+        executor.close();
+    }
+
+    @Benchmark
+    public OrderReferencesDto verifyClientResponses() {
+        return orderValidationService.verifyClientResponses(orderDto);
+    }
+
+    private void stub(ObjectMapper objectMapper, String path, Object body) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(body);
+        server.createContext(path, exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            if ("HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(200, -1);
+                exchange.close();
+                return;
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, json.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(json);
+            }
+        });
+    }
+
+    private static <T> T client(Class<T> type, String url, ObjectMapper objectMapper) {
+        return Feign.builder()
+                .contract(new SpringMvcContract())
+                .encoder(new JacksonEncoder(objectMapper))
+                .decoder(new JacksonDecoder(objectMapper))
+                .target(type, url);
+    }
+}
@@ -0,0 +1,84 @@
+package com.gklyphon.sabor_digital.commons.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Runs {@code IN (...)} lookups over large ID lists in bounded chunks.
+ *
+ * <p>Every chunk is padded to the next bucket size (a power of two between {@link #MIN_BUCKET_SIZE}
+ * and {@link #MAX_CHUNK_SIZE}) by repeating its last ID, so the database only ever sees a handful of
+ * distinct statement shapes and can reuse their cached plans, and a single statement never gets close
+ * to the bind parameter limit of the driver.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/19
+ */
+public final class ChunkedInQuery {
+
+    /**
+     * Smallest number of bind parameters sent in a single {@code IN} clause.
+     */
+    public static final int MIN_BUCKET_SIZE = 16;
+
+    /**
+     * Largest number of bind parameters sent in a single {@code IN} clause.
+     */
+    public static final int MAX_CHUNK_SIZE = 1024;
+
+    private ChunkedInQuery() {
+    }
+
+    /**
+     * Executes the query once per chunk of IDs and concatenates the results.
+     *
+     * @param ids the IDs to look up, expected to be distinct and not {@code null}
+     * @param query the {@code IN} lookup to execute for each padded chunk
+     * @return the results of every chunk, in chunk order
+     */
+    public static <T> List<T> findAll(List<Long> ids, Function<List<Long>, List<T>> query) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (ids.size() <= MAX_CHUNK_SIZE) {
+            return new ArrayList<>(query.apply(pad(ids)));
+        }
+        List<T> results = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += MAX_CHUNK_SIZE) {
+            int to = Math.min(from + MAX_CHUNK_SIZE, ids.size());
+            results.addAll(query.apply(pad(ids.subList(from, to))));
+        }
+        return results;
+    }
+
+    /**
+     * Pads a chunk up to its bucket size by repeating its last ID.
+     *
+     * @param chunk the chunk to pad, holding at most {@link #MAX_CHUNK_SIZE} IDs
+     * @return the padded chunk
+     */
+    static List<Long> pad(List<Long> chunk) {
+        int bucketSize = bucketSize(chunk.size());
+        List<Long> padded = new ArrayList<>(bucketSize);
+        padded.addAll(chunk);
+        Long last = chunk.get(chunk.size() - 1);
+        while (padded.size() < bucketSize) {
+            padded.add(last);
+        }
+        return padded;
+    }
+
+    /**
+     * Computes the bucket size of a chunk.
+     *
+     * @param size the number of IDs in the chunk
+     * @return the smallest power of two not lower than the size and {@link #MIN_BUCKET_SIZE}
+     */
+    static int bucketSize(int size) {
+        if (size <= MIN_BUCKET_SIZE) {
+            return MIN_BUCKET_SIZE;
+        }
+        return Math.min(Integer.highestOneBit(size - 1) << 1, MAX_CHUNK_SIZE);
+    }
+}
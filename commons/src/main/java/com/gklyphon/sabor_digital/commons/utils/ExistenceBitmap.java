@@ -0,0 +1,84 @@
+package com.gklyphon.sabor_digital.commons.utils;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.LongPredicate;
+
+/**
+ * Compact answer to a bulk existence check: bit {@code i} is set when the {@code i}-th requested ID exists.
+ *
+ * <p>Bits are packed eight per byte, least significant bit first, as produced by {@link BitSet#toByteArray()};
+ * trailing zero bytes are omitted, so checking a thousand IDs takes at most 125 bytes.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/05/07
+ */
+public final class ExistenceBitmap {
+
+    private ExistenceBitmap() {
+    }
+
+    /**
+     * Builds the bitmap answering an existence check.
+     *
+     * @param ids the requested IDs, possibly with duplicates or {@code null} elements
+     * @param exists tells whether an ID exists
+     * @return the packed bitmap, with one bit per requested ID
+     */
+    public static byte[] of(List<Long> ids, LongPredicate exists) {
+        BitSet bits = new BitSet(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            if (id != null && exists.test(id)) {
+                bits.set(i);
+            }
+        }
+        return bits.toByteArray();
+    }
+
+    /**
+     * Tells whether the ID at a position of the request exists.
+     *
+     * @param bitmap the packed bitmap, {@code null} being read as empty
+     * @param index the position of the ID in the request
+     * @return {@code true} if its bit is set
+     */
+    public static boolean contains(byte[] bitmap, int index) {
+        int offset = index >>> 3;
+        return bitmap != null && index >= 0 && offset < bitmap.length && (bitmap[offset] & (1 << (index & 7))) != 0;
+    }
+
+    /**
+     * Tells whether every requested ID exists.
+     *
+     * @param bitmap the packed bitmap, {@code null} being read as empty
+     * @param count the number of requested IDs
+     * @return {@code true} if the first {@code count} bits are set
+     */
+    public static boolean containsAll(byte[] bitmap, int count) {
+        for (int i = 0; i < count; i++) {
+            if (!contains(bitmap, i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Selects the requested IDs whose bit is set.
+     *
+     * @param ids the requested IDs
+     * @param bitmap the packed bitmap answered for {@code ids}, {@code null} being read as empty
+     * @return the existing IDs, in request order
+     */
+    public static List<Long> existing(List<Long> ids, byte[] bitmap) {
+        List<Long> existing = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            if (contains(bitmap, i)) {
+                existing.add(ids.get(i));
+            }
+        }
+        return existing;
+    }
+}
@@ -0,0 +1,227 @@
+package com.gklyphon.sabor_digital.commons.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * Open-addressing hash set of primitive {@code long} values, used to compare large batches of IDs
+ * without boxing or allocating a node per entry.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/18
+ */
+public final class LongHashSet {
+
+    private static final int MIN_CAPACITY = 8;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private long[] keys;
+    private boolean containsZero;
+    private int size;
+    private int mask;
+    private int resizeThreshold;
+
+    /**
+     * Constructs a set able to hold the expected number of values without resizing.
+     *
+     * @param expectedSize the expected number of values
+     */
+    public LongHashSet(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Creates a set holding the given values, ignoring {@code null} elements.
+     *
+     * @param values the values to add
+     * @return the set
+     */
+    public static LongHashSet of(Collection<Long> values) {
+        LongHashSet set = new LongHashSet(values.size());
+        for (Long value : values) {
+            if (value != null) {
+                set.add(value);
+            }
+        }
+        return set;
+    }
+
+    /**
+     * Removes duplicated and {@code null} values, keeping the first occurrence of each value in order.
+     *
+     * @param values the values to deduplicate
+     * @return the distinct values
+     */
+    public static List<Long> distinct(Collection<Long> values) {
+        LongHashSet seen = new LongHashSet(values.size());
+        List<Long> distinct = new ArrayList<>(values.size());
+        for (Long value : values) {
+            if (value != null && seen.add(value)) {
+                distinct.add(value);
+            }
+        }
+        return distinct;
+    }
+
+    /**
+     * Adds a value to the set.
+     *
+     * @param value the value to add
+     * @return {@code true} if the value was not already present
+     */
+    public boolean add(long value) {
+        if (value == 0L) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int index = indexOf(value);
+        while (keys[index] != 0L) {
+            if (keys[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = value;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a value belongs to the set.
+     *
+     * @param value the value to look up
+     * @return {@code true} if the value is present
+     */
+    public boolean contains(long value) {
+        if (value == 0L) {
+            return containsZero;
+        }
+        int index = indexOf(value);
+        while (keys[index] != 0L) {
+            if (keys[index] == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Removes a value from the set, shifting back the entries of its probe sequence so lookups
+     * never need tombstones.
+     *
+     * @param value the value to remove
+     * @return {@code true} if the value was present
+     */
+    public boolean remove(long value) {
+        if (value == 0L) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+        int index = indexOf(value);
+        while (keys[index] != value) {
+            if (keys[index] == 0L) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        int hole = index;
+        int next = (hole + 1) & mask;
+        while (keys[next] != 0L) {
+            int home = indexOf(keys[next]);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = 0L;
+        size--;
+        return true;
+    }
+
+    /**
+     * Performs the given action for each value of the set, in no particular order.
+     *
+     * @param action the action to perform
+     */
+    public void forEach(LongConsumer action) {
+        if (containsZero) {
+            action.accept(0L);
+        }
+        for (long key : keys) {
+            if (key != 0L) {
+                action.accept(key);
+            }
+        }
+    }
+
+    /**
+     * Returns the given values that are not in the set, in encounter order.
+     *
+     * @param values the values to check
+     * @return the values missing from the set
+     */
+    public List<Long> missing(Collection<Long> values) {
+        List<Long> missing = new ArrayList<>();
+        for (Long value : values) {
+            if (value != null && !contains(value)) {
+                missing.add(value);
+            }
+        }
+        return missing;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int indexOf(long value) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        mask = capacity - 1;
+        resizeThreshold = capacity >>> 1;
+    }
+
+    private void rehash(int capacity) {
+        long[] previous = keys;
+        allocate(capacity);
+        for (long key : previous) {
+            if (key != 0L) {
+                int index = indexOf(key);
+                while (keys[index] != 0L) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+            }
+        }
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity >>> 1 < expectedSize && capacity < MAX_CAPACITY) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
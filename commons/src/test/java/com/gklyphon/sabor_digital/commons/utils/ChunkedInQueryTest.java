@@ -0,0 +1,40 @@
+package com.gklyphon.sabor_digital.commons.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChunkedInQueryTest {
+
+    @Test
+    void bucketSize_shouldRoundUpToPowerOfTwo() {
+        assertEquals(16, ChunkedInQuery.bucketSize(1));
+        assertEquals(16, ChunkedInQuery.bucketSize(16));
+        assertEquals(32, ChunkedInQuery.bucketSize(17));
+        assertEquals(1024, ChunkedInQuery.bucketSize(513));
+        assertEquals(1024, ChunkedInQuery.bucketSize(1024));
+    }
+
+    @Test
+    void findAll_shouldSplitIntoPaddedChunks() {
+        List<Long> ids = LongStream.rangeClosed(1, 2_500).boxed().toList();
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        List<Long> result = ChunkedInQuery.findAll(ids, chunk -> {
+            chunkSizes.add(chunk.size());
+            return chunk.stream().distinct().toList();
+        });
+
+        assertEquals(List.of(1024, 1024, 512), chunkSizes);
+        assertEquals(ids, result);
+    }
+
+    @Test
+    void findAll_shouldNotQuery_whenIdsAreEmpty() {
+        assertTrue(ChunkedInQuery.findAll(List.of(), chunk -> fail("unexpected query")).isEmpty());
+    }
+}
@@ -0,0 +1,56 @@
+package com.gklyphon.sabor_digital.commons.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExistenceBitmapTest {
+
+    @Test
+    void of_shouldSetTheBitOfEveryExistingPosition() {
+        Set<Long> existing = Set.of(3L, 5L);
+        byte[] bitmap = ExistenceBitmap.of(Arrays.asList(3L, 4L, null, 5L, 3L), existing::contains);
+
+        assertArrayEquals(new byte[]{0b11001}, bitmap);
+        assertTrue(ExistenceBitmap.contains(bitmap, 0));
+        assertFalse(ExistenceBitmap.contains(bitmap, 1));
+        assertFalse(ExistenceBitmap.contains(bitmap, 2));
+        assertTrue(ExistenceBitmap.contains(bitmap, 3));
+        assertTrue(ExistenceBitmap.contains(bitmap, 4));
+    }
+
+    @Test
+    void of_shouldPackEightIdsPerByte() {
+        List<Long> ids = LongStream.range(0, 1_000).boxed().toList();
+        byte[] bitmap = ExistenceBitmap.of(ids, id -> true);
+
+        assertEquals(125, bitmap.length);
+        assertTrue(ExistenceBitmap.containsAll(bitmap, ids.size()));
+    }
+
+    @Test
+    void contains_shouldReadMissingTrailingBytesAsUnset() {
+        byte[] bitmap = ExistenceBitmap.of(List.of(1L, 2L, 3L), id -> id == 1L);
+
+        assertEquals(1, bitmap.length);
+        assertFalse(ExistenceBitmap.contains(bitmap, 42));
+        assertFalse(ExistenceBitmap.contains(bitmap, -1));
+        assertFalse(ExistenceBitmap.contains(null, 0));
+        assertFalse(ExistenceBitmap.containsAll(bitmap, 2));
+        assertTrue(ExistenceBitmap.containsAll(new byte[0], 0));
+    }
+
+    @Test
+    void existing_shouldSelectTheIdsWhoseBitIsSet() {
+        List<Long> ids = List.of(7L, 8L, 9L, 10L);
+        byte[] bitmap = ExistenceBitmap.of(ids, id -> id % 2 == 0);
+
+        assertEquals(List.of(8L, 10L), ExistenceBitmap.existing(ids, bitmap));
+        assertEquals(List.of(), ExistenceBitmap.existing(ids, null));
+    }
+}
@@ -0,0 +1,59 @@
+package com.gklyphon.sabor_digital.commons.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongHashSetTest {
+
+    @Test
+    void add_shouldIgnoreDuplicates() {
+        LongHashSet set = new LongHashSet(2);
+        assertTrue(set.add(0L));
+        assertTrue(set.add(7L));
+        assertFalse(set.add(7L));
+        assertFalse(set.add(0L));
+        assertEquals(2, set.size());
+        assertTrue(set.contains(0L));
+        assertTrue(set.contains(7L));
+        assertFalse(set.contains(8L));
+    }
+
+    @Test
+    void add_shouldKeepAllValues_whenGrowingBeyondExpectedSize() {
+        LongHashSet set = new LongHashSet(1);
+        LongStream.rangeClosed(-5_000, 5_000).forEach(set::add);
+        assertEquals(10_001, set.size());
+        assertTrue(LongStream.rangeClosed(-5_000, 5_000).allMatch(set::contains));
+        assertFalse(set.contains(5_001L));
+    }
+
+    @Test
+    void distinct_shouldKeepFirstOccurrenceOrder() {
+        assertEquals(List.of(3L, 1L, 2L), LongHashSet.distinct(Arrays.asList(3L, 1L, null, 3L, 2L, 1L)));
+    }
+
+    @Test
+    void missing_shouldReturnValuesNotInSet() {
+        LongHashSet found = LongHashSet.of(List.of(1L, 3L));
+        assertEquals(List.of(2L, 4L), found.missing(List.of(1L, 2L, 3L, 4L)));
+    }
+
+    @Test
+    void remove_shouldKeepRemainingValuesReachable() {
+        LongHashSet set = new LongHashSet(16);
+        LongStream.rangeClosed(0, 2_000).forEach(set::add);
+        LongStream.rangeClosed(0, 2_000).filter(value -> value % 3 == 0).forEach(value -> assertTrue(set.remove(value)));
+
+        assertFalse(set.remove(3L));
+        assertEquals(1_334, set.size());
+        assertTrue(LongStream.rangeClosed(0, 2_000).allMatch(value -> set.contains(value) == (value % 3 != 0)));
+        long[] sum = {0};
+        set.forEach(value -> sum[0] += value);
+        assertEquals(LongStream.rangeClosed(0, 2_000).filter(value -> value % 3 != 0).sum(), sum[0]);
+    }
+}
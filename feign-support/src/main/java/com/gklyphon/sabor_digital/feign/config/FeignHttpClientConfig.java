@@ -0,0 +1,111 @@
+package com.gklyphon.sabor_digital.feign.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.DefaultSchemePortResolver;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.routing.RoutingSupport;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.cloud.openfeign.clientconfig.HttpClient5FeignConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Tunes the pooled Apache HttpClient 5 transport shared by every Feign client.
+ *
+ * <p>The connection pool itself is auto-configured by Spring Cloud OpenFeign from the
+ * {@code spring.cloud.openfeign.httpclient.*} properties. This configuration keeps idle connections alive for
+ * less than the servers do, so a pooled connection is never reused after the server closed it, and publishes
+ * the pool utilization, in total and for each downstream service. Gzip responses are decoded by the client.
+ * It is registered as an auto-configuration, so every service depending on this module picks it up.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/28
+ */
+@AutoConfiguration
+public class FeignHttpClientConfig {
+
+    /**
+     * Caps how long an idle connection is kept, whatever the server advertises, and closes the connections
+     * idle for longer in the background.
+     *
+     * @param keepAlive the longest idle time of a pooled connection
+     * @return the customizer of the HTTP client
+     */
+    @Bean
+    HttpClient5FeignConfiguration.HttpClientBuilderCustomizer keepAliveCustomizer(
+            @Value("${http-client.keep-alive:15s}") Duration keepAlive) {
+        TimeValue maxKeepAlive = TimeValue.ofMilliseconds(keepAlive.toMillis());
+        return builder -> builder
+                .setKeepAliveStrategy((response, context) -> {
+                    TimeValue advertised = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return TimeValue.isPositive(advertised) && advertised.compareTo(maxKeepAlive) < 0 ? advertised : maxKeepAlive;
+                })
+                .evictIdleConnections(maxKeepAlive);
+    }
+
+    /**
+     * Publishes the utilization of the connection pool, in total and for each downstream service.
+     *
+     * @param connectionManager the connection manager of the Feign clients
+     * @param meteredHosts the base URLs of the downstream services
+     * @return the binder registering the pool meters
+     */
+    @Bean
+    MeterBinder feignConnectionPoolMetrics(HttpClientConnectionManager connectionManager,
+                                           @Value("${http-client.metered-hosts:}") List<String> meteredHosts) {
+        return registry -> {
+            if (!(connectionManager instanceof PoolingHttpClientConnectionManager pool)) {
+                return;
+            }
+            new PoolingHttpClientConnectionManagerMetricsBinder(pool, "feign").bindTo(registry);
+            for (String url : meteredHosts) {
+                if (url.isBlank()) {
+                    continue;
+                }
+                HttpRoute route = routeOf(url.trim());
+                String host = route.getTargetHost().toHostString();
+                routeGauge(registry, pool, route, host, "leased", PoolStats::getLeased);
+                routeGauge(registry, pool, route, host, "available", PoolStats::getAvailable);
+                routeGauge(registry, pool, route, host, "pending", PoolStats::getPending);
+                Gauge.builder("feign.pool.route.max", pool, p -> p.getMaxPerRoute(route))
+                        .description("Maximum number of pooled connections to a downstream service")
+                        .tag("host", host)
+                        .register(registry);
+            }
+        };
+    }
+
+    private static void routeGauge(MeterRegistry registry, PoolingHttpClientConnectionManager pool, HttpRoute route,
+                                   String host, String state, ToIntFunction<PoolStats> value) {
+        Gauge.builder("feign.pool.route.connections", pool, p -> value.applyAsInt(p.getStats(route)))
+                .description("Pooled connections to a downstream service, by state")
+                .tag("host", host)
+                .tag("state", state)
+                .register(registry);
+    }
+
+    /**
+     * Resolves the route the client uses for a base URL, with the default port of its scheme when omitted.
+     *
+     * @param url the base URL of a downstream service
+     * @return the route of the service
+     */
+    private static HttpRoute routeOf(String url) {
+        HttpHost target = RoutingSupport.normalize(HttpHost.create(URI.create(url)), DefaultSchemePortResolver.INSTANCE);
+        return new HttpRoute(target, null, "https".equalsIgnoreCase(target.getSchemeName()));
+    }
+}
@@ -0,0 +1,54 @@
+package com.gklyphon.sabor_digital.feign.config;
+
+import com.gklyphon.sabor_digital.feign.resilience.DeadlineFilter;
+import com.gklyphon.sabor_digital.feign.resilience.ResilienceCapability;
+import com.gklyphon.sabor_digital.feign.resilience.ResilientFeignClient;
+import feign.Capability;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Duration;
+
+/**
+ * Protects the service from slow or failing downstream services.
+ *
+ * <p>Every Feign client sends its calls through a {@link ResilientFeignClient}, backed by the circuit
+ * breakers and bulkheads configured under {@code resilience4j.*}, whose state is published as
+ * {@code resilience4j.*} meters and by the {@code circuitbreakers} actuator endpoint. Incoming requests get a
+ * deadline that bounds and is forwarded with those calls.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/05/05
+ */
+@AutoConfiguration
+public class FeignResilienceConfig {
+
+    /**
+     * Wraps the HTTP client of every Feign client with the circuit breaker and bulkhead of its service.
+     *
+     * @param circuitBreakers the registry providing a circuit breaker per downstream service
+     * @param bulkheads the registry providing a bulkhead per downstream service
+     * @param meterRegistry the registry counting the rejected calls
+     * @return the Feign capability
+     */
+    @Bean
+    Capability resilienceCapability(CircuitBreakerRegistry circuitBreakers, BulkheadRegistry bulkheads,
+                                    MeterRegistry meterRegistry) {
+        return new ResilienceCapability(circuitBreakers, bulkheads, meterRegistry);
+    }
+
+    /**
+     * Binds a deadline to every incoming request.
+     *
+     * @param defaultTimeout the time given to requests that do not carry a deadline
+     * @return the deadline filter
+     */
+    @Bean
+    DeadlineFilter deadlineFilter(@Value("${resilience.deadline.default-timeout:5s}") Duration defaultTimeout) {
+        return new DeadlineFilter(defaultTimeout);
+    }
+}
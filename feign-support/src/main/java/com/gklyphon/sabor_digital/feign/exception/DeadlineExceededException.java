@@ -0,0 +1,19 @@
+package com.gklyphon.sabor_digital.feign.exception;
+
+/**
+ * Exception thrown when the deadline of a request expires before a call to another service can be sent.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/05/05
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    /**
+     * Constructs a new DeadlineExceededException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
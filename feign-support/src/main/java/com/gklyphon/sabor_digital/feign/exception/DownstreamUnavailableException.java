@@ -0,0 +1,20 @@
+package com.gklyphon.sabor_digital.feign.exception;
+
+/**
+ * Exception thrown when a call to another service is rejected without being sent, because its circuit
+ * breaker is open or too many calls to it are already in flight.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/05/05
+ */
+public class DownstreamUnavailableException extends RuntimeException {
+
+    /**
+     * Constructs a new DownstreamUnavailableException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public DownstreamUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,102 @@
+package com.gklyphon.sabor_digital.feign.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Point in time by which the request being handled must be answered.
+ *
+ * <p>The deadline of an incoming request is bound to the thread handling it by {@link DeadlineFilter}, and
+ * every outgoing Feign call sends the time left in the {@link #HEADER} header, so each service in a chain
+ * works within the budget of the original caller.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/05/05
+ */
+public final class Deadline {
+
+    /**
+     * Header carrying the milliseconds left to answer a request.
+     */
+    public static final String HEADER = "X-Request-Timeout-Ms";
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long expiresAtNanos;
+
+    private Deadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    /**
+     * Creates a deadline expiring after the given timeout.
+     *
+     * @param timeout the time left from now
+     * @return the deadline
+     */
+    public static Deadline after(Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * Returns the deadline bound to the current thread.
+     *
+     * @return the current deadline, or {@code null} if none is bound
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds a deadline to the current thread.
+     *
+     * @param deadline the deadline to bind, or {@code null} to unbind
+     * @return the deadline previously bound, to be restored afterwards
+     */
+    public static Deadline bind(Deadline deadline) {
+        Deadline previous = CURRENT.get();
+        if (deadline != null) {
+            CURRENT.set(deadline);
+        } else {
+            CURRENT.remove();
+        }
+        return previous;
+    }
+
+    /**
+     * Wraps a task so it runs under the deadline bound to the calling thread, wherever it is executed.
+     *
+     * @param task the task to wrap
+     * @return the task bound to the current deadline
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        Deadline deadline = current();
+        return () -> {
+            Deadline previous = bind(deadline);
+            try {
+                return task.get();
+            } finally {
+                bind(previous);
+            }
+        };
+    }
+
+    /**
+     * Returns the time left before the deadline.
+     *
+     * @return the milliseconds left, {@code 0} once expired
+     */
+    public long remainingMillis() {
+        return Math.max(0L, TimeUnit.NANOSECONDS.toMillis(expiresAtNanos - System.nanoTime()));
+    }
+
+    /**
+     * Checks whether the deadline has passed.
+     *
+     * @return {@code true} if no time is left
+     */
+    public boolean isExpired() {
+        return expiresAtNanos - System.nanoTime() <= 0;
+    }
+}
@@ -0,0 +1,65 @@
+package com.gklyphon.sabor_digital.feign.resilience;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Filter binding the {@link Deadline} of each incoming request to the thread handling it.
+ *
+ * <p>The deadline is taken from the {@link Deadline#HEADER} header sent by the caller, or from the default
+ * timeout when the header is absent or malformed. The caller cannot extend the budget beyond the default timeout,
+ * so larger values are capped to it. Requests arriving with no time left are answered with
+ * {@code 504 Gateway Timeout} without being handled.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/05/05
+ */
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    private final Duration defaultTimeout;
+
+    /**
+     * Constructs a DeadlineFilter.
+     *
+     * @param defaultTimeout the time given to requests that do not carry a deadline
+     */
+    public DeadlineFilter(Duration defaultTimeout) {
+        this.defaultTimeout = defaultTimeout;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Deadline deadline = Deadline.after(timeoutOf(request.getHeader(Deadline.HEADER)));
+        if (deadline.isExpired()) {
+            response.sendError(HttpStatus.GATEWAY_TIMEOUT.value(), "Request deadline exceeded");
+            return;
+        }
+        Deadline previous = Deadline.bind(deadline);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Deadline.bind(previous);
+        }
+    }
+
+    private Duration timeoutOf(String header) {
+        if (header == null || header.isBlank()) {
+            return defaultTimeout;
+        }
+        long millis;
+        try {
+            millis = Long.parseLong(header.trim());
+        } catch (NumberFormatException ex) {
+            return defaultTimeout;
+        }
+        return Duration.ofMillis(Math.max(0, Math.min(millis, defaultTimeout.toMillis())));
+    }
+}
@@ -0,0 +1,39 @@
+package com.gklyphon.sabor_digital.feign.resilience;
+
+import feign.Capability;
+import feign.Client;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Feign capability sending the calls of every Feign client through a {@link ResilientFeignClient}.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/05/05
+ */
+public class ResilienceCapability implements Capability {
+
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final BulkheadRegistry bulkheads;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructs a ResilienceCapability.
+     *
+     * @param circuitBreakers the registry providing a circuit breaker per downstream service
+     * @param bulkheads the registry providing a bulkhead per downstream service
+     * @param meterRegistry the registry counting the rejected calls
+     */
+    public ResilienceCapability(CircuitBreakerRegistry circuitBreakers, BulkheadRegistry bulkheads,
+                                MeterRegistry meterRegistry) {
+        this.circuitBreakers = circuitBreakers;
+        this.bulkheads = bulkheads;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return new ResilientFeignClient(client, circuitBreakers, bulkheads, meterRegistry);
+    }
+}
@@ -0,0 +1,120 @@
+package com.gklyphon.sabor_digital.feign.resilience;
+
+import com.gklyphon.sabor_digital.feign.exception.DeadlineExceededException;
+import com.gklyphon.sabor_digital.feign.exception.DownstreamUnavailableException;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feign {@link Client} guarding the calls to each downstream service.
+ *
+ * <p>Calls are grouped by the name of their Feign client. Each call must fit within the {@link Deadline}
+ * of the current request, which also bounds its timeouts and is forwarded to the downstream service; it
+ * must then obtain a slot from the bulkhead of the service, which limits the calls in flight, and be
+ * permitted by its circuit breaker, which opens when too many calls fail, answer with a server error or are
+ * slow. Rejected calls fail immediately and are counted in {@code feign.calls.rejected}.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/05/05
+ */
+public class ResilientFeignClient implements Client {
+
+    static final String REJECTED_CALLS = "feign.calls.rejected";
+
+    private final Client delegate;
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final BulkheadRegistry bulkheads;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructs a ResilientFeignClient.
+     *
+     * @param delegate the client sending the requests
+     * @param circuitBreakers the registry providing a circuit breaker per downstream service
+     * @param bulkheads the registry providing a bulkhead per downstream service
+     * @param meterRegistry the registry counting the rejected calls
+     */
+    public ResilientFeignClient(Client delegate, CircuitBreakerRegistry circuitBreakers,
+                                BulkheadRegistry bulkheads, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.circuitBreakers = circuitBreakers;
+        this.bulkheads = bulkheads;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        String service = request.requestTemplate().feignTarget().name();
+        Deadline deadline = Deadline.current();
+        long remainingMillis = deadline != null ? deadline.remainingMillis() : -1L;
+        if (deadline != null && remainingMillis <= 0) {
+            reject(service, "deadline_exceeded");
+            throw new DeadlineExceededException("Request deadline exceeded before calling " + service);
+        }
+
+        Bulkhead bulkhead = bulkheads.bulkhead(service);
+        if (!bulkhead.tryAcquirePermission()) {
+            reject(service, "bulkhead_full");
+            throw new DownstreamUnavailableException("Too many concurrent calls to " + service);
+        }
+        try {
+            CircuitBreaker circuitBreaker = circuitBreakers.circuitBreaker(service);
+            if (!circuitBreaker.tryAcquirePermission()) {
+                reject(service, "circuit_open");
+                throw new DownstreamUnavailableException("Circuit breaker for " + service + " is open");
+            }
+            long start = circuitBreaker.getCurrentTimestamp();
+            try {
+                Response response = deadline != null
+                        ? delegate.execute(withTimeout(request, remainingMillis), shorten(options, remainingMillis))
+                        : delegate.execute(request, options);
+                circuitBreaker.onResult(circuitBreaker.getCurrentTimestamp() - start,
+                        circuitBreaker.getTimestampUnit(), response);
+                return response;
+            } catch (IOException | RuntimeException | Error ex) {
+                circuitBreaker.onError(circuitBreaker.getCurrentTimestamp() - start,
+                        circuitBreaker.getTimestampUnit(), ex);
+                throw ex;
+            }
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    private void reject(String service, String reason) {
+        meterRegistry.counter(REJECTED_CALLS, "client", service, "reason", reason).increment();
+    }
+
+    /**
+     * Copies a request adding the {@link Deadline#HEADER} header with the time left.
+     */
+    private static Request withTimeout(Request request, long remainingMillis) {
+        Map<String, Collection<String>> headers = new LinkedHashMap<>(request.headers());
+        headers.put(Deadline.HEADER, List.of(Long.toString(remainingMillis)));
+        return Request.create(request.httpMethod(), request.url(), headers, request.body(), request.charset(),
+                request.requestTemplate());
+    }
+
+    /**
+     * Caps the connect and read timeouts of a call to the time left.
+     */
+    private static Request.Options shorten(Request.Options options, long remainingMillis) {
+        return new Request.Options(
+                Math.min(options.connectTimeoutMillis(), remainingMillis), TimeUnit.MILLISECONDS,
+                Math.min(options.readTimeoutMillis(), remainingMillis), TimeUnit.MILLISECONDS,
+                options.isFollowRedirects());
+    }
+}
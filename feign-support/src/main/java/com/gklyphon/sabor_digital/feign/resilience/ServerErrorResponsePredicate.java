@@ -0,0 +1,21 @@
+package com.gklyphon.sabor_digital.feign.resilience;
+
+import feign.Response;
+
+import java.util.function.Predicate;
+
+/**
+ * Circuit breaker result predicate recording server error responses as failed calls, so a downstream
+ * service answering {@code 5xx} trips its circuit breaker like one that cannot be reached. Client errors
+ * such as {@code 404 Not Found} are regular answers.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/05/05
+ */
+public class ServerErrorResponsePredicate implements Predicate<Object> {
+
+    @Override
+    public boolean test(Object result) {
+        return result instanceof Response response && response.status() >= 500;
+    }
+}
@@ -0,0 +1,66 @@
+package com.gklyphon.sabor_digital.feign.resilience;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeadlineFilterTest {
+
+    private final DeadlineFilter filter = new DeadlineFilter(Duration.ofSeconds(5));
+
+    @Test
+    void testDoFilter_UsesDefaultTimeoutWithoutHeader() throws Exception {
+        Deadline deadline = filter(null, new MockHttpServletResponse());
+
+        assertNotNull(deadline);
+        assertTrue(deadline.remainingMillis() > 4_000 && deadline.remainingMillis() <= 5_000);
+    }
+
+    @Test
+    void testDoFilter_CapsHugeTimeoutToDefault() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        Deadline deadline = filter(String.valueOf(Long.MAX_VALUE), response);
+
+        assertEquals(200, response.getStatus());
+        assertNotNull(deadline);
+        assertTrue(deadline.remainingMillis() > 4_000 && deadline.remainingMillis() <= 5_000);
+    }
+
+    @Test
+    void testDoFilter_TreatsOverflowingTimeoutAsMalformed() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        Deadline deadline = filter("99999999999999999999999", response);
+
+        assertEquals(200, response.getStatus());
+        assertNotNull(deadline);
+        assertTrue(deadline.remainingMillis() <= 5_000);
+    }
+
+    @Test
+    void testDoFilter_RejectsNegativeTimeout() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        Deadline deadline = filter("-1", response);
+
+        assertEquals(504, response.getStatus());
+        assertNull(deadline);
+    }
+
+    private Deadline filter(String header, MockHttpServletResponse response) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (header != null) {
+            request.addHeader(Deadline.HEADER, header);
+        }
+        AtomicReference<Deadline> bound = new AtomicReference<>();
+        filter.doFilter(request, response, (req, res) -> bound.set(Deadline.current()));
+        assertNull(Deadline.current());
+        return bound.get();
+    }
+}
@@ -0,0 +1,162 @@
+package com.gklyphon.sabor_digital.feign.resilience;
+
+import com.gklyphon.sabor_digital.feign.exception.DeadlineExceededException;
+import com.gklyphon.sabor_digital.feign.exception.DownstreamUnavailableException;
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Target;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResilientFeignClientTest {
+
+    private static final String SERVICE = "waiter-service";
+    private static final Request.Options OPTIONS = new Request.Options(2, TimeUnit.SECONDS, 5, TimeUnit.SECONDS, true);
+
+    @Mock
+    private Client delegate;
+
+    private final CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+            .slidingWindowSize(2)
+            .minimumNumberOfCalls(2)
+            .failureRateThreshold(50)
+            .recordResult(new ServerErrorResponsePredicate())
+            .build());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ResilientFeignClient resilientFeignClient;
+
+    @BeforeEach
+    void setUp() {
+        BulkheadRegistry bulkheads = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        resilientFeignClient = new ResilientFeignClient(delegate, circuitBreakers, bulkheads, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Deadline.bind(null);
+    }
+
+    @Test
+    void testExecute_ServerErrorsOpenCircuit() throws Exception {
+        Request request = request();
+        when(delegate.execute(any(), any())).thenReturn(response(request, 503));
+
+        resilientFeignClient.execute(request, OPTIONS);
+        resilientFeignClient.execute(request, OPTIONS);
+
+        assertThrows(DownstreamUnavailableException.class, () -> resilientFeignClient.execute(request, OPTIONS));
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreakers.circuitBreaker(SERVICE).getState());
+        assertEquals(1.0, rejected("circuit_open"));
+        verify(delegate, times(2)).execute(any(), any());
+    }
+
+    @Test
+    void testExecute_ClientErrorsKeepCircuitClosed() throws Exception {
+        Request request = request();
+        when(delegate.execute(any(), any())).thenReturn(response(request, 404));
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(404, resilientFeignClient.execute(request, OPTIONS).status());
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreakers.circuitBreaker(SERVICE).getState());
+    }
+
+    @Test
+    void testExecute_RejectsCallsBeyondBulkhead() throws Exception {
+        Request request = request();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.execute(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return response(request, 200);
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Response> inFlight = executor.submit(() -> resilientFeignClient.execute(request, OPTIONS));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            assertThrows(DownstreamUnavailableException.class, () -> resilientFeignClient.execute(request, OPTIONS));
+
+            release.countDown();
+            assertEquals(200, inFlight.get(5, TimeUnit.SECONDS).status());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1.0, rejected("bulkhead_full"));
+    }
+
+    @Test
+    void testExecute_ForwardsRemainingDeadline() throws Exception {
+        Request request = request();
+        when(delegate.execute(any(), any())).thenReturn(response(request, 200));
+        Deadline.bind(Deadline.after(Duration.ofSeconds(1)));
+
+        resilientFeignClient.execute(request, OPTIONS);
+
+        ArgumentCaptor<Request> sent = ArgumentCaptor.forClass(Request.class);
+        ArgumentCaptor<Request.Options> options = ArgumentCaptor.forClass(Request.Options.class);
+        verify(delegate).execute(sent.capture(), options.capture());
+        long forwarded = Long.parseLong(sent.getValue().headers().get(Deadline.HEADER).iterator().next());
+        assertTrue(forwarded > 0 && forwarded <= 1000);
+        assertTrue(options.getValue().readTimeoutMillis() <= 1000);
+        assertTrue(options.getValue().connectTimeoutMillis() <= 1000);
+    }
+
+    @Test
+    void testExecute_FailsFastOnceDeadlineExpired() throws Exception {
+        Deadline.bind(Deadline.after(Duration.ZERO));
+
+        assertThrows(DeadlineExceededException.class, () -> resilientFeignClient.execute(request(), OPTIONS));
+
+        verify(delegate, never()).execute(any(), any());
+        assertEquals(1.0, rejected("deadline_exceeded"));
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.counter(ResilientFeignClient.REJECTED_CALLS, "client", SERVICE, "reason", reason).count();
+    }
+
+    private static Request request() {
+        RequestTemplate template = new RequestTemplate();
+        template.feignTarget(new Target.HardCodedTarget<>(Object.class, SERVICE, "http://waiter"));
+        return Request.create(Request.HttpMethod.GET, "http://waiter/api/waiters/1", new HashMap<>(), null,
+                StandardCharsets.UTF_8, template);
+    }
+
+    private static Response response(Request request, int status) {
+        return Response.builder().status(status).request(request).headers(new HashMap<>()).build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.gklyphon.sabor_digital.order.application.dtos;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) holding a page fetched with keyset pagination.
+ *
+ * @param <T> the type of the page elements
+ * @author JFCiscoHuerta
+ * @date 2025/04/14
+ */
+public class CursorPageDto<T> {
+
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+    private Long totalElements;
+
+    /**
+     * Default constructor.
+     */
+    public CursorPageDto() {
+    }
+
+    /**
+     * Constructs a new {@code CursorPageDto} with the specified attributes.
+     *
+     * @param content       The elements of the page.
+     * @param nextCursor    The token to request the next page, {@code null} on the last page.
+     * @param hasNext       Whether more elements follow this page.
+     * @param totalElements The total number of elements, {@code null} when it was not requested.
+     */
+    public CursorPageDto(List<T> content, String nextCursor, boolean hasNext, Long totalElements) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+        this.totalElements = totalElements;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public Long getTotalElements() {
+        return totalElements;
+    }
+
+    public void setTotalElements(Long totalElements) {
+        this.totalElements = totalElements;
+    }
+}
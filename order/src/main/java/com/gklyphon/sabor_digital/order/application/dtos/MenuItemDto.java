@@ -10,6 +10,7 @@ import java.math.BigDecimal;
  */
 public class MenuItemDto {
 
+    private Long id;
     private String name;
     private BigDecimal price;
     private int preparationTime;
@@ -36,6 +37,14 @@ public class MenuItemDto {
         this.menuId = menuId;
     }
 
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
     public String getName() {
         return name;
     }
@@ -69,6 +78,7 @@ public class MenuItemDto {
     }
 
     public MenuItemDto(Builder builder) {
+        this.id = builder.id;
         this.preparationTime = builder.preparationTime;
         this.price = builder.price;
         this.name = builder.name;
@@ -76,11 +86,17 @@ public class MenuItemDto {
     }
 
     public static class Builder {
+        private Long id;
         private String name;
         private BigDecimal price;
         private int preparationTime;
         private Long menuId;
 
+        public Builder id(Long id) {
+            this.id = id;
+            return this;
+        }
+
         public Builder name(String name) {
             this.name = name;
             return this;
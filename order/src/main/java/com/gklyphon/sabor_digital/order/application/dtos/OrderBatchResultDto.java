@@ -0,0 +1,90 @@
+package com.gklyphon.sabor_digital.order.application.dtos;
+
+/**
+ * Data Transfer Object (DTO) describing the outcome of a single order within a batch ingestion.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/08
+ */
+public class OrderBatchResultDto {
+
+    private int index;
+    private boolean success;
+    private Long orderId;
+    private String error;
+
+    /**
+     * Default constructor.
+     */
+    public OrderBatchResultDto() {
+    }
+
+    /**
+     * Constructs a new {@code OrderBatchResultDto} with the specified attributes.
+     *
+     * @param index   The position of the order within the submitted batch.
+     * @param success Whether the order was persisted.
+     * @param orderId The ID assigned to the persisted order, if any.
+     * @param error   The reason the order was rejected, if any.
+     */
+    public OrderBatchResultDto(int index, boolean success, Long orderId, String error) {
+        this.index = index;
+        this.success = success;
+        this.orderId = orderId;
+        this.error = error;
+    }
+
+    /**
+     * Creates a result for a persisted order.
+     *
+     * @param index   The position of the order within the submitted batch.
+     * @param orderId The ID assigned to the persisted order.
+     * @return the successful result
+     */
+    public static OrderBatchResultDto created(int index, Long orderId) {
+        return new OrderBatchResultDto(index, true, orderId, null);
+    }
+
+    /**
+     * Creates a result for a rejected order.
+     *
+     * @param index The position of the order within the submitted batch.
+     * @param error The reason the order was rejected.
+     * @return the failed result
+     */
+    public static OrderBatchResultDto rejected(int index, String error) {
+        return new OrderBatchResultDto(index, false, null, error);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,105 @@
+package com.gklyphon.sabor_digital.order.application.dtos;
+
+import com.gklyphon.sabor_digital.order.domain.models.enums.OrderStatus;
+import com.gklyphon.sabor_digital.order.domain.models.enums.OrderType;
+import com.gklyphon.sabor_digital.order.domain.models.enums.PaymentType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for one line of the order export.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/24
+ */
+public class OrderExportDto {
+
+    private final Long id;
+    private final Long restaurantId;
+    private final Long waiterId;
+    private final Long tableId;
+    private final BigDecimal price;
+    private final OrderType orderType;
+    private final PaymentType paymentType;
+    private final OrderStatus orderStatus;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final List<Long> itemsId;
+
+    /**
+     * Constructs a new {@code OrderExportDto} with the specified attributes.
+     *
+     * @param id           The ID of the order.
+     * @param restaurantId The ID of the restaurant.
+     * @param waiterId     The ID of the waiter.
+     * @param tableId      The ID of the table.
+     * @param price        The total price of the order.
+     * @param orderType    The type of the order.
+     * @param paymentType  The payment type of the order.
+     * @param orderStatus  The status of the order.
+     * @param createdAt    The creation timestamp of the order.
+     * @param updatedAt    The modification timestamp of the order.
+     * @param itemsId      The item IDs of the order.
+     */
+    public OrderExportDto(Long id, Long restaurantId, Long waiterId, Long tableId, BigDecimal price,
+                          OrderType orderType, PaymentType paymentType, OrderStatus orderStatus,
+                          LocalDateTime createdAt, LocalDateTime updatedAt, List<Long> itemsId) {
+        this.id = id;
+        this.restaurantId = restaurantId;
+        this.waiterId = waiterId;
+        this.tableId = tableId;
+        this.price = price;
+        this.orderType = orderType;
+        this.paymentType = paymentType;
+        this.orderStatus = orderStatus;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.itemsId = itemsId;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getRestaurantId() {
+        return restaurantId;
+    }
+
+    public Long getWaiterId() {
+        return waiterId;
+    }
+
+    public Long getTableId() {
+        return tableId;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public OrderType getOrderType() {
+        return orderType;
+    }
+
+    public PaymentType getPaymentType() {
+        return paymentType;
+    }
+
+    public OrderStatus getOrderStatus() {
+        return orderStatus;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public List<Long> getItemsId() {
+        return itemsId;
+    }
+}
@@ -0,0 +1,40 @@
+package com.gklyphon.sabor_digital.order.application.dtos;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) holding the remote entities referenced by an order that are needed
+ * after validation, as returned by the restaurant service.
+ *
+ * <p>The restaurant, table and waiter are only checked for existence, so they are not transferred.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/02
+ */
+public class OrderReferencesDto {
+
+    private List<MenuItemDto> menuItems;
+
+    /**
+     * Default constructor.
+     */
+    public OrderReferencesDto() {
+    }
+
+    /**
+     * Constructs a new {@code OrderReferencesDto} with the specified attributes.
+     *
+     * @param menuItems The menu items included in the order.
+     */
+    public OrderReferencesDto(List<MenuItemDto> menuItems) {
+        this.menuItems = menuItems;
+    }
+
+    public List<MenuItemDto> getMenuItems() {
+        return menuItems;
+    }
+
+    public void setMenuItems(List<MenuItemDto> menuItems) {
+        this.menuItems = menuItems;
+    }
+}
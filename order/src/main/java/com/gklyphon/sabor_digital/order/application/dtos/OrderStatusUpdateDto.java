@@ -0,0 +1,39 @@
+package com.gklyphon.sabor_digital.order.application.dtos;
+
+import com.gklyphon.sabor_digital.order.domain.models.enums.OrderStatus;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Data Transfer Object (DTO) carrying the requested status of an order.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/12
+ */
+public class OrderStatusUpdateDto {
+
+    @NotNull(message = "Order status is required")
+    private OrderStatus orderStatus;
+
+    /**
+     * Default constructor.
+     */
+    public OrderStatusUpdateDto() {
+    }
+
+    /**
+     * Constructs a new {@code OrderStatusUpdateDto}.
+     *
+     * @param orderStatus The requested status of the order.
+     */
+    public OrderStatusUpdateDto(OrderStatus orderStatus) {
+        this.orderStatus = orderStatus;
+    }
+
+    public OrderStatus getOrderStatus() {
+        return orderStatus;
+    }
+
+    public void setOrderStatus(OrderStatus orderStatus) {
+        this.orderStatus = orderStatus;
+    }
+}
@@ -0,0 +1,109 @@
+package com.gklyphon.sabor_digital.order.application.dtos;
+
+import com.gklyphon.sabor_digital.order.domain.models.enums.OrderType;
+import com.gklyphon.sabor_digital.order.domain.models.enums.PaymentType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for the sales of a restaurant within a time window, with their
+ * breakdown per hour, order type and payment type.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/25
+ */
+public class SalesStatsDto {
+
+    private final Long restaurantId;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final long orderCount;
+    private final BigDecimal revenue;
+    private final List<Bucket> buckets;
+
+    /**
+     * Constructs a new {@code SalesStatsDto}.
+     *
+     * @param restaurantId The ID of the restaurant.
+     * @param from         The start of the window, inclusive.
+     * @param to           The end of the window, exclusive.
+     * @param orderCount   The number of orders in the window.
+     * @param revenue      The revenue of the window.
+     * @param buckets      The non-empty buckets of the window.
+     */
+    public SalesStatsDto(Long restaurantId, LocalDateTime from, LocalDateTime to, long orderCount,
+                         BigDecimal revenue, List<Bucket> buckets) {
+        this.restaurantId = restaurantId;
+        this.from = from;
+        this.to = to;
+        this.orderCount = orderCount;
+        this.revenue = revenue;
+        this.buckets = buckets;
+    }
+
+    public Long getRestaurantId() {
+        return restaurantId;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public List<Bucket> getBuckets() {
+        return buckets;
+    }
+
+    /**
+     * The sales of one hour, order type and payment type.
+     */
+    public static class Bucket {
+
+        private final LocalDateTime hour;
+        private final OrderType orderType;
+        private final PaymentType paymentType;
+        private final long orderCount;
+        private final BigDecimal revenue;
+
+        public Bucket(LocalDateTime hour, OrderType orderType, PaymentType paymentType, long orderCount, BigDecimal revenue) {
+            this.hour = hour;
+            this.orderType = orderType;
+            this.paymentType = paymentType;
+            this.orderCount = orderCount;
+            this.revenue = revenue;
+        }
+
+        public LocalDateTime getHour() {
+            return hour;
+        }
+
+        public OrderType getOrderType() {
+            return orderType;
+        }
+
+        public PaymentType getPaymentType() {
+            return paymentType;
+        }
+
+        public long getOrderCount() {
+            return orderCount;
+        }
+
+        public BigDecimal getRevenue() {
+            return revenue;
+        }
+    }
+}
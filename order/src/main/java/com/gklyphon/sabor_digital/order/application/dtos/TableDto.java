@@ -4,6 +4,7 @@ import java.util.List;
 
 public class TableDto {
 
+    private Long id;
     private Long restaurantId;
     private String tableIdentifier;
     private List<Long> waitersId;
@@ -17,6 +18,14 @@ public class TableDto {
         this.waitersId = waitersId;
     }
 
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
     public Long getRestaurantId() {
         return restaurantId;
     }
@@ -42,16 +51,23 @@ public class TableDto {
     }
 
     public TableDto(Builder builder) {
+        this.id = builder.id;
         this.restaurantId = builder.restaurantId;
         this.tableIdentifier = builder.tableIdentifier;
         this.waitersId = builder.waitersId;
     }
 
     public static class Builder {
+        private Long id;
         private Long restaurantId;
         private String tableIdentifier;
         private List<Long> waitersId;
 
+        public Builder id(Long id) {
+            this.id = id;
+            return this;
+        }
+
         public Builder restaurantId(Long restaurantId) {
             this.restaurantId = restaurantId;
             return this;
@@ -0,0 +1,65 @@
+package com.gklyphon.sabor_digital.order.application.dtos;
+
+import com.gklyphon.sabor_digital.order.application.leaderboard.TopSellersWindow;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for the most ordered menu items of a restaurant within a recent time window.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/26
+ */
+public class TopSellersDto {
+
+    private final Long restaurantId;
+    private final TopSellersWindow window;
+    private final List<Entry> items;
+
+    /**
+     * Constructs a new {@code TopSellersDto}.
+     *
+     * @param restaurantId The ID of the restaurant.
+     * @param window       The time window the items are ranked over.
+     * @param items        The items, most ordered first.
+     */
+    public TopSellersDto(Long restaurantId, TopSellersWindow window, List<Entry> items) {
+        this.restaurantId = restaurantId;
+        this.window = window;
+        this.items = items;
+    }
+
+    public Long getRestaurantId() {
+        return restaurantId;
+    }
+
+    public TopSellersWindow getWindow() {
+        return window;
+    }
+
+    public List<Entry> getItems() {
+        return items;
+    }
+
+    /**
+     * The number of times one menu item was ordered.
+     */
+    public static class Entry {
+
+        private final Long itemId;
+        private final long quantity;
+
+        public Entry(Long itemId, long quantity) {
+            this.itemId = itemId;
+            this.quantity = quantity;
+        }
+
+        public Long getItemId() {
+            return itemId;
+        }
+
+        public long getQuantity() {
+            return quantity;
+        }
+    }
+}
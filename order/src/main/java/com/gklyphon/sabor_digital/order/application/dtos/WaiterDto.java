@@ -4,6 +4,7 @@ import java.util.List;
 
 public class WaiterDto {
 
+    private Long id;
     private String firstname;
     private String lastname;
     private String phone;
@@ -23,6 +24,14 @@ public class WaiterDto {
         this.restaurantId = restaurantId;
     }
 
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
     public String getFirstname() {
         return firstname;
     }
@@ -72,6 +81,7 @@ public class WaiterDto {
     }
 
     public WaiterDto(Builder builder) {
+        this.id = builder.id;
         this.firstname = builder.firstname;
         this.lastname = builder.lastname;
         this.phone = builder.phone;
@@ -81,6 +91,7 @@ public class WaiterDto {
     }
 
     public static class Builder {
+        private Long id;
         private String firstname;
         private String lastname;
         private String phone;
@@ -88,6 +99,11 @@ public class WaiterDto {
         private List<Long> tablesId;
         private Long restaurantId;
 
+        public Builder id(Long id) {
+            this.id = id;
+            return this;
+        }
+
         public Builder firstname(String firstname) {
             this.firstname = firstname;
             return this;
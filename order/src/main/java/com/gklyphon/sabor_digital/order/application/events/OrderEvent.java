@@ -0,0 +1,61 @@
+package com.gklyphon.sabor_digital.order.application.events;
+
+import com.gklyphon.sabor_digital.order.domain.models.Order;
+import com.gklyphon.sabor_digital.order.domain.models.enums.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * In-process event published whenever an order is created or changes.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/10
+ */
+public class OrderEvent {
+
+    private final Long orderId;
+    private final Long restaurantId;
+    private final OrderStatus orderStatus;
+    private final LocalDateTime timestamp;
+
+    /**
+     * Constructs a new {@code OrderEvent}.
+     *
+     * @param orderId      The ID of the order.
+     * @param restaurantId The ID of the restaurant the order belongs to.
+     * @param orderStatus  The status of the order after the change.
+     * @param timestamp    The moment the change happened.
+     */
+    public OrderEvent(Long orderId, Long restaurantId, OrderStatus orderStatus, LocalDateTime timestamp) {
+        this.orderId = orderId;
+        this.restaurantId = restaurantId;
+        this.orderStatus = orderStatus;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Creates an event describing the current state of the given order.
+     *
+     * @param order the created or changed order
+     * @return the corresponding event
+     */
+    public static OrderEvent of(Order order) {
+        return new OrderEvent(order.getId(), order.getRestaurantId(), order.getOrderStatus(), LocalDateTime.now());
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getRestaurantId() {
+        return restaurantId;
+    }
+
+    public OrderStatus getOrderStatus() {
+        return orderStatus;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+}
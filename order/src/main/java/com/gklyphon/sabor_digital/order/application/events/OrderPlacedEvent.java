@@ -0,0 +1,64 @@
+package com.gklyphon.sabor_digital.order.application.events;
+
+import com.gklyphon.sabor_digital.order.domain.models.Order;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-process event published when a new order is stored, carrying the items that were ordered.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/26
+ */
+public class OrderPlacedEvent {
+
+    private final Long orderId;
+    private final Long restaurantId;
+    private final LocalDateTime createdAt;
+    private final List<Long> itemsId;
+
+    /**
+     * Constructs a new {@code OrderPlacedEvent}.
+     *
+     * @param orderId      The ID of the order.
+     * @param restaurantId The ID of the restaurant the order belongs to.
+     * @param createdAt    The creation timestamp of the order.
+     * @param itemsId      The IDs of the ordered items, one per unit.
+     */
+    public OrderPlacedEvent(Long orderId, Long restaurantId, LocalDateTime createdAt, List<Long> itemsId) {
+        this.orderId = orderId;
+        this.restaurantId = restaurantId;
+        this.createdAt = createdAt;
+        this.itemsId = itemsId;
+    }
+
+    /**
+     * Creates an event describing a newly stored order.
+     *
+     * @param order the stored order
+     * @return the corresponding event
+     */
+    public static OrderPlacedEvent of(Order order) {
+        LocalDateTime createdAt = order.getCreatedAt() != null ? order.getCreatedAt() : LocalDateTime.now();
+        List<Long> itemsId = order.getItemsId() != null ? new ArrayList<>(order.getItemsId()) : List.of();
+        return new OrderPlacedEvent(order.getId(), order.getRestaurantId(), createdAt, itemsId);
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getRestaurantId() {
+        return restaurantId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public List<Long> getItemsId() {
+        return itemsId;
+    }
+}
@@ -0,0 +1,14 @@
+package com.gklyphon.sabor_digital.order.application.idempotency;
+
+/**
+ * Response of a request carrying an idempotency key, either produced by executing the request or
+ * replayed from the response stored when it was first executed.
+ *
+ * @param status   the HTTP status of the response
+ * @param body     the serialized JSON body of the response
+ * @param replayed whether the response was replayed instead of produced
+ * @author JFCiscoHuerta
+ * @date 2025/04/27
+ */
+public record IdempotentResponse(int status, byte[] body, boolean replayed) {
+}
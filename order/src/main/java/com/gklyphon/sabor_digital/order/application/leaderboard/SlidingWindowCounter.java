@@ -0,0 +1,153 @@
+package com.gklyphon.sabor_digital.order.application.leaderboard;
+
+import com.gklyphon.sabor_digital.order.application.dtos.TopSellersDto;
+import com.gklyphon.sabor_digital.order.application.utils.LongLongHashMap;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Sliding-window tally of the menu items ordered at one restaurant.
+ *
+ * <p>Quantities are kept in a ring of fixed-width time buckets spanning the longest {@link TopSellersWindow},
+ * plus one running total per window. Adding an item touches its bucket and the totals of the windows it falls
+ * in; when time moves past a bucket its quantities are subtracted from the totals of the windows it leaves,
+ * so ranking a window only scans the items currently in it. Buckets are identified by their index since the
+ * epoch, and every method is synchronized.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/26
+ */
+public final class SlidingWindowCounter {
+
+    private static final TopSellersWindow[] WINDOWS = TopSellersWindow.values();
+    private static final Comparator<TopSellersDto.Entry> RANKING = Comparator
+            .comparingLong(TopSellersDto.Entry::getQuantity)
+            .thenComparing(TopSellersDto.Entry::getItemId, Comparator.reverseOrder());
+
+    private final long bucketSeconds;
+    private final int[] spans = new int[WINDOWS.length];
+    private final LongLongHashMap[] totals = new LongLongHashMap[WINDOWS.length];
+    private final LongLongHashMap[] buckets;
+    private final long[] bucketIds;
+    private long head = Long.MIN_VALUE;
+
+    /**
+     * Constructs an empty counter.
+     *
+     * @param bucketWidth the width of a bucket, which must divide every window length
+     */
+    public SlidingWindowCounter(Duration bucketWidth) {
+        this.bucketSeconds = bucketWidth.toSeconds();
+        int ringLength = 0;
+        for (TopSellersWindow window : WINDOWS) {
+            if (bucketSeconds <= 0 || window.getLength().toSeconds() % bucketSeconds != 0) {
+                throw new IllegalArgumentException("Bucket width must divide the length of every window");
+            }
+            spans[window.ordinal()] = (int) (window.getLength().toSeconds() / bucketSeconds);
+            totals[window.ordinal()] = new LongLongHashMap(64);
+            ringLength = Math.max(ringLength, spans[window.ordinal()]);
+        }
+        this.buckets = new LongLongHashMap[ringLength];
+        this.bucketIds = new long[ringLength];
+        Arrays.fill(bucketIds, Long.MIN_VALUE);
+    }
+
+    /**
+     * Records that an item was ordered. Quantities older than the longest window are ignored.
+     *
+     * @param epochSecond the moment the item was ordered, in seconds since the epoch
+     * @param itemId the ID of the menu item
+     * @param quantity the number of units ordered
+     */
+    public synchronized void add(long epochSecond, long itemId, long quantity) {
+        long bucket = Math.floorDiv(epochSecond, bucketSeconds);
+        advance(bucket);
+        long age = head - bucket;
+        if (age >= buckets.length) {
+            return;
+        }
+        int slot = (int) Math.floorMod(bucket, (long) buckets.length);
+        if (bucketIds[slot] != bucket || buckets[slot] == null) {
+            bucketIds[slot] = bucket;
+            buckets[slot] = new LongLongHashMap(8);
+        }
+        buckets[slot].addTo(itemId, quantity);
+        for (int w = 0; w < WINDOWS.length; w++) {
+            if (age < spans[w]) {
+                totals[w].addTo(itemId, quantity);
+            }
+        }
+    }
+
+    /**
+     * Ranks the items ordered within a window ending at the given moment, most ordered first and
+     * by ascending ID on ties.
+     *
+     * @param window the window to rank
+     * @param nowEpochSecond the end of the window, in seconds since the epoch
+     * @param limit the maximum number of items
+     * @return the most ordered items
+     */
+    public synchronized List<TopSellersDto.Entry> top(TopSellersWindow window, long nowEpochSecond, int limit) {
+        advance(Math.floorDiv(nowEpochSecond, bucketSeconds));
+        if (limit <= 0) {
+            return List.of();
+        }
+        PriorityQueue<TopSellersDto.Entry> best = new PriorityQueue<>(limit + 1, RANKING);
+        totals[window.ordinal()].forEach((itemId, quantity) -> {
+            if (quantity > 0) {
+                best.add(new TopSellersDto.Entry(itemId, quantity));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        });
+        List<TopSellersDto.Entry> ranked = new ArrayList<>(best);
+        ranked.sort(RANKING.reversed());
+        return ranked;
+    }
+
+    /**
+     * Moves the newest bucket forward, subtracting the buckets that leave each window and recycling
+     * the slots of the buckets that leave the longest one.
+     *
+     * @param bucket the new newest bucket
+     */
+    private void advance(long bucket) {
+        if (head == Long.MIN_VALUE) {
+            head = bucket;
+            return;
+        }
+        if (bucket <= head) {
+            return;
+        }
+        if (bucket - head >= buckets.length) {
+            Arrays.fill(buckets, null);
+            Arrays.fill(bucketIds, Long.MIN_VALUE);
+            for (int w = 0; w < WINDOWS.length; w++) {
+                totals[w] = new LongLongHashMap(64);
+            }
+            head = bucket;
+            return;
+        }
+        for (long next = head + 1; next <= bucket; next++) {
+            for (int w = 0; w < WINDOWS.length; w++) {
+                long leaving = next - spans[w];
+                int slot = (int) Math.floorMod(leaving, (long) buckets.length);
+                if (bucketIds[slot] == leaving && buckets[slot] != null) {
+                    LongLongHashMap total = totals[w];
+                    buckets[slot].forEach((itemId, quantity) -> total.addTo(itemId, -quantity));
+                }
+            }
+            int slot = (int) Math.floorMod(next, (long) buckets.length);
+            buckets[slot] = null;
+            bucketIds[slot] = next;
+        }
+        head = bucket;
+    }
+}
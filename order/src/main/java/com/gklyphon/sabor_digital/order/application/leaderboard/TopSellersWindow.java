@@ -0,0 +1,25 @@
+package com.gklyphon.sabor_digital.order.application.leaderboard;
+
+import java.time.Duration;
+
+/**
+ * Time windows over which the top-selling menu items of a restaurant are ranked.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/26
+ */
+public enum TopSellersWindow {
+
+    HOUR(Duration.ofHours(1)),
+    DAY(Duration.ofDays(1));
+
+    private final Duration length;
+
+    TopSellersWindow(Duration length) {
+        this.length = length;
+    }
+
+    public Duration getLength() {
+        return length;
+    }
+}
@@ -0,0 +1,89 @@
+package com.gklyphon.sabor_digital.order.application.rollups;
+
+import com.gklyphon.sabor_digital.order.domain.models.Order;
+import com.gklyphon.sabor_digital.order.domain.models.SalesRollupId;
+import com.gklyphon.sabor_digital.order.domain.models.enums.OrderStatus;
+import com.gklyphon.sabor_digital.order.domain.models.enums.OrderType;
+import com.gklyphon.sabor_digital.order.domain.models.enums.PaymentType;
+import com.gklyphon.sabor_digital.order.infrastructure.repositories.projections.OrderStatusView;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Snapshot of the fields of an order that determine what it adds to the sales rollups. It is taken
+ * before and after every change, so the rollups can be adjusted by the difference.
+ *
+ * @param restaurantId the ID of the restaurant
+ * @param createdAt    the creation timestamp of the order
+ * @param orderType    the type of the order
+ * @param paymentType  the payment type of the order
+ * @param orderStatus  the status of the order
+ * @param price        the total price of the order
+ * @author JFCiscoHuerta
+ * @date 2025/04/25
+ */
+public record SalesContribution(Long restaurantId, LocalDateTime createdAt, OrderType orderType,
+                                PaymentType paymentType, OrderStatus orderStatus, BigDecimal price) {
+
+    /**
+     * Takes the snapshot of an order.
+     *
+     * @param order the order
+     * @return the snapshot
+     */
+    public static SalesContribution of(Order order) {
+        return new SalesContribution(order.getRestaurantId(), order.getCreatedAt(), order.getOrderType(),
+                order.getPaymentType(), order.getOrderStatus(), order.getPrice());
+    }
+
+    /**
+     * Takes the snapshot of an order from its status view.
+     *
+     * @param view the status view of the order
+     * @return the snapshot
+     */
+    public static SalesContribution of(OrderStatusView view) {
+        return new SalesContribution(view.getRestaurantId(), view.getCreatedAt(), view.getOrderType(),
+                view.getPaymentType(), view.getOrderStatus(), view.getPrice());
+    }
+
+    /**
+     * Returns the same snapshot with another status.
+     *
+     * @param status the new status
+     * @return the snapshot with the given status
+     */
+    public SalesContribution withStatus(OrderStatus status) {
+        return new SalesContribution(restaurantId, createdAt, orderType, paymentType, status, price);
+    }
+
+    /**
+     * Tells whether the order is counted in the rollups: cancelled orders and orders missing a key field are not.
+     *
+     * @return {@code true} if the order is counted
+     */
+    public boolean counted() {
+        return orderStatus != OrderStatus.CANCELLED && restaurantId != null && createdAt != null
+                && orderType != null && paymentType != null;
+    }
+
+    /**
+     * Returns the bucket the order is counted in.
+     *
+     * @return the bucket of the order
+     */
+    public SalesRollupId bucket() {
+        return new SalesRollupId(restaurantId, createdAt.truncatedTo(ChronoUnit.HOURS), orderType, paymentType);
+    }
+
+    /**
+     * Returns the revenue the order adds to its bucket.
+     *
+     * @return the price of the order, zero if it has none
+     */
+    public BigDecimal revenue() {
+        return price != null ? price : BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,33 @@
+package com.gklyphon.sabor_digital.order.application.services;
+
+import com.gklyphon.sabor_digital.order.application.idempotency.IdempotentResponse;
+
+import java.util.function.Supplier;
+
+/**
+ * Service interface executing requests at most once per idempotency key.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/27
+ */
+public interface IIdempotencyService {
+
+    /**
+     * Executes a request unless a request with the same key was already executed, in which case the
+     * original response is replayed without executing it again.
+     *
+     * @param key the idempotency key sent by the client
+     * @param request the request body, compared with the one first sent with the key
+     * @param status the HTTP status of a successful response
+     * @param action the execution of the request, producing the response body
+     * @return the produced or replayed response
+     */
+    IdempotentResponse execute(String key, Object request, int status, Supplier<?> action);
+
+    /**
+     * Deletes the stored responses whose key has expired.
+     *
+     * @return the number of deleted responses
+     */
+    int purgeExpired();
+}
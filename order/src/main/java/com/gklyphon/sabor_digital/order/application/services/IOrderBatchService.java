@@ -0,0 +1,25 @@
+package com.gklyphon.sabor_digital.order.application.services;
+
+import com.gklyphon.sabor_digital.order.application.dtos.OrderBatchResultDto;
+import com.gklyphon.sabor_digital.order.application.dtos.OrderDto;
+
+import java.util.List;
+
+/**
+ * Service interface for ingesting many orders at once.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/08
+ */
+public interface IOrderBatchService {
+
+    /**
+     * Validates and persists a batch of orders.
+     *
+     * @param orderDtos the orders to persist
+     * @return one result per submitted order, in submission order
+     * @throws com.gklyphon.sabor_digital.order.infrastructure.exception.exceptions.BatchTooLargeException
+     *         if the batch holds more orders than accepted at once
+     */
+    List<OrderBatchResultDto> saveAll(List<OrderDto> orderDtos);
+}
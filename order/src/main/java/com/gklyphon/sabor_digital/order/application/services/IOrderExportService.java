@@ -0,0 +1,27 @@
+package com.gklyphon.sabor_digital.order.application.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+/**
+ * Service interface for exporting orders in bulk to analytics consumers.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/24
+ */
+public interface IOrderExportService {
+
+    /**
+     * Writes the orders of a restaurant created within a time window as newline-delimited JSON,
+     * one order with its item IDs per line, oldest first.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param from the start of the window, inclusive
+     * @param to the end of the window, exclusive
+     * @param output the stream the orders are written to; it is flushed but not closed
+     * @return the number of exported orders
+     * @throws IOException if the orders cannot be written
+     */
+    long exportByRestaurant(Long restaurantId, LocalDateTime from, LocalDateTime to, OutputStream output) throws IOException;
+}
@@ -0,0 +1,24 @@
+package com.gklyphon.sabor_digital.order.application.services;
+
+import com.gklyphon.sabor_digital.order.application.dtos.MenuItemDto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Service interface for computing the price of an order on the server side.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/06
+ */
+public interface IOrderPricingService {
+
+    /**
+     * Computes the total price of an order from the prices of its menu items.
+     *
+     * @param itemsId the IDs of the ordered items, repeated once per unit ordered
+     * @param menuItems the menu items referenced by the order
+     * @return the total price of the order
+     */
+    BigDecimal calculateTotal(List<Long> itemsId, List<MenuItemDto> menuItems);
+}
@@ -1,7 +1,9 @@
 package com.gklyphon.sabor_digital.order.application.services;
 
+import com.gklyphon.sabor_digital.order.application.dtos.CursorPageDto;
 import com.gklyphon.sabor_digital.order.application.dtos.OrderDto;
 import com.gklyphon.sabor_digital.order.domain.models.Order;
+import com.gklyphon.sabor_digital.order.domain.models.enums.OrderStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -22,4 +24,23 @@ public interface IOrderService extends IService<Order, OrderDto> {
      * @return a page of orders related to the specified restaurant
      */
     Page<Order> findAllByRestaurantId(Long restaurantId, Pageable pageable);
+
+    /**
+     * Finds the orders of a restaurant using keyset pagination, newest first.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param cursor the token returned with the previous page, or {@code null} for the first page
+     * @param size the page size
+     * @param includeTotal whether to count all the orders of the restaurant
+     * @return the requested page of orders
+     */
+    CursorPageDto<Order> findAllByRestaurantId(Long restaurantId, String cursor, int size, boolean includeTotal);
+
+    /**
+     * Moves an order to a new status, enforcing the allowed status transitions.
+     *
+     * @param id the ID of the order
+     * @param orderStatus the requested status
+     */
+    void updateStatus(Long id, OrderStatus orderStatus);
 }
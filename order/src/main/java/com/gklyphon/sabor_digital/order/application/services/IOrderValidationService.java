@@ -0,0 +1,21 @@
+package com.gklyphon.sabor_digital.order.application.services;
+
+import com.gklyphon.sabor_digital.order.application.dtos.OrderDto;
+import com.gklyphon.sabor_digital.order.application.dtos.OrderReferencesDto;
+
+/**
+ * Service interface for verifying the remote entities referenced by an order.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/02
+ */
+public interface IOrderValidationService {
+
+    /**
+     * Verifies that the restaurant, menu items, table and waiter referenced by the order exist.
+     *
+     * @param orderDto the order to verify
+     * @return the referenced menu items, whose prices are needed to price the order
+     */
+    OrderReferencesDto verifyClientResponses(OrderDto orderDto);
+}
@@ -0,0 +1,42 @@
+package com.gklyphon.sabor_digital.order.application.services;
+
+import com.gklyphon.sabor_digital.order.application.dtos.SalesStatsDto;
+import com.gklyphon.sabor_digital.order.application.rollups.SalesContribution;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Service interface maintaining and reading the pre-aggregated sales of each restaurant.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/25
+ */
+public interface ISalesRollupService {
+
+    /**
+     * Adjusts the rollups for a change of one order, in the caller's transaction.
+     *
+     * @param before the order before the change, or {@code null} if it was created
+     * @param after the order after the change, or {@code null} if it was deleted
+     */
+    void record(SalesContribution before, SalesContribution after);
+
+    /**
+     * Adjusts the rollups for a change of several orders, in the caller's transaction.
+     *
+     * @param removed the orders before the change
+     * @param added the orders after the change
+     */
+    void record(Collection<SalesContribution> removed, Collection<SalesContribution> added);
+
+    /**
+     * Retrieves the sales of a restaurant for the hours starting within a time window.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param from the start of the window, inclusive
+     * @param to the end of the window, exclusive
+     * @return the sales of the window and their breakdown
+     */
+    SalesStatsDto getStats(Long restaurantId, LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,28 @@
+package com.gklyphon.sabor_digital.order.application.services;
+
+import com.gklyphon.sabor_digital.order.application.dtos.TopSellersDto;
+import com.gklyphon.sabor_digital.order.application.leaderboard.TopSellersWindow;
+
+/**
+ * Service interface ranking the most ordered menu items of each restaurant over recent time windows.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/26
+ */
+public interface ITopSellersService {
+
+    /**
+     * Retrieves the most ordered menu items of a restaurant within a window ending now.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param window the time window
+     * @param limit the maximum number of items
+     * @return the most ordered items, most ordered first
+     */
+    TopSellersDto getTopSellers(Long restaurantId, TopSellersWindow window, int limit);
+
+    /**
+     * Rebuilds the counters from the items of the orders stored within the longest window.
+     */
+    void rebuild();
+}
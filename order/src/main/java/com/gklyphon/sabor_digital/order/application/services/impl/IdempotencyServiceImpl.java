@@ -0,0 +1,202 @@
+package com.gklyphon.sabor_digital.order.application.services.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gklyphon.sabor_digital.order.application.idempotency.IdempotentResponse;
+import com.gklyphon.sabor_digital.order.application.services.IIdempotencyService;
+import com.gklyphon.sabor_digital.order.domain.models.IdempotencyRecord;
+import com.gklyphon.sabor_digital.order.infrastructure.exception.exceptions.IdempotencyConflictException;
+import com.gklyphon.sabor_digital.order.infrastructure.exception.exceptions.InvalidIdempotencyKeyException;
+import com.gklyphon.sabor_digital.order.infrastructure.repositories.IIdempotencyRecordRepository;
+import org.hibernate.service.spi.ServiceException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of {@link IIdempotencyService} backed by a bounded in-memory cache in front of the
+ * {@code idempotency_keys} table.
+ *
+ * <p>Replays are answered from the cache, or from the table after a restart or on another instance, without
+ * executing the request. A new key is inserted in the same transaction as the effect of the request, before
+ * executing it: a concurrent request with the same key on another instance waits on the primary key and then
+ * replays the committed response, while one on this instance is rejected right away. Only successful responses
+ * are stored, so a failed request can be retried with the same key. Keys expire after a configurable TTL.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/27
+ */
+@Service
+public class IdempotencyServiceImpl implements IIdempotencyService {
+
+    /**
+     * Longest accepted idempotency key.
+     */
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final IIdempotencyRecordRepository idempotencyRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Cache<String, StoredResponse> responses;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructs an IdempotencyServiceImpl with the necessary dependencies.
+     *
+     * @param idempotencyRecordRepository the repository for the stored responses
+     * @param transactionManager the transaction manager shared by the stored response and the request effect
+     * @param objectMapper the mapper serializing the requests and responses
+     * @param ttl how long a key is honored
+     * @param cacheSize the maximum number of responses kept in memory
+     */
+    public IdempotencyServiceImpl(IIdempotencyRecordRepository idempotencyRecordRepository,
+                                  PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+                                  @Value("${order.idempotency.ttl:24h}") Duration ttl,
+                                  @Value("${order.idempotency.cache-size:10000}") long cacheSize) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Executes a request unless a request with the same key was already executed, in which case the
+     * original response is replayed without executing it again.
+     *
+     * @param key the idempotency key sent by the client
+     * @param request the request body, compared with the one first sent with the key
+     * @param status the HTTP status of a successful response
+     * @param action the execution of the request, producing the response body
+     * @return the produced or replayed response
+     * @throws InvalidIdempotencyKeyException if the key is blank or longer than {@value #MAX_KEY_LENGTH} characters
+     * @throws IdempotencyConflictException if the key was used for a different request, or the request that
+     *         first used it is still being processed on this instance
+     */
+    @Override
+    public IdempotentResponse execute(String key, Object request, int status, Supplier<?> action) {
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException(
+                    "Idempotency key must have between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+        String requestHash = hash(request);
+        StoredResponse stored = lookup(key);
+        if (stored != null) {
+            return replay(stored, requestHash);
+        }
+        if (!inFlight.add(key)) {
+            throw new IdempotencyConflictException("A request with this idempotency key is still being processed");
+        }
+        try {
+            StoredResponse created = transactionTemplate.execute(tx -> {
+                LocalDateTime now = LocalDateTime.now();
+                idempotencyRecordRepository.deleteExpired(key, now);
+                IdempotencyRecord record = idempotencyRecordRepository.saveAndFlush(
+                        new IdempotencyRecord(key, requestHash, now, now.plus(ttl)));
+                byte[] body = serialize(action.get());
+                record.setResponse(status, body);
+                return new StoredResponse(requestHash, status, body, record.getExpiresAt());
+            });
+            responses.put(key, created);
+            return new IdempotentResponse(created.status(), created.body(), false);
+        } catch (DataIntegrityViolationException ex) {
+            StoredResponse winner = lookup(key);
+            if (winner == null) {
+                throw ex;
+            }
+            return replay(winner, requestHash);
+        } finally {
+            inFlight.remove(key);
+        }
+    }
+
+    /**
+     * Deletes the stored responses whose key has expired, periodically.
+     *
+     * @return the number of deleted responses
+     */
+    @Override
+    @Scheduled(initialDelayString = "${order.idempotency.purge-interval-ms:3600000}",
+            fixedDelayString = "${order.idempotency.purge-interval-ms:3600000}")
+    public int purgeExpired() {
+        Integer deleted = transactionTemplate.execute(tx -> idempotencyRecordRepository.deleteAllExpired(LocalDateTime.now()));
+        return deleted != null ? deleted : 0;
+    }
+
+    /**
+     * Finds the unexpired response stored for a key, in memory first and then in the database.
+     *
+     * @param key the idempotency key
+     * @return the stored response, or {@code null} if there is none
+     */
+    private StoredResponse lookup(String key) {
+        LocalDateTime now = LocalDateTime.now();
+        StoredResponse cached = responses.getIfPresent(key);
+        if (cached != null && cached.expiresAt().isAfter(now)) {
+            return cached;
+        }
+        IdempotencyRecord record = idempotencyRecordRepository.findById(key).orElse(null);
+        if (record == null || record.getResponseStatus() == null || !record.getExpiresAt().isAfter(now)) {
+            responses.invalidate(key);
+            return null;
+        }
+        StoredResponse stored = new StoredResponse(record.getRequestHash(), record.getResponseStatus(),
+                record.getResponseBody(), record.getExpiresAt());
+        responses.put(key, stored);
+        return stored;
+    }
+
+    /**
+     * Replays a stored response, provided it was produced for the same request.
+     *
+     * @param stored the stored response
+     * @param requestHash the hash of the current request
+     * @return the replayed response
+     */
+    private static IdempotentResponse replay(StoredResponse stored, String requestHash) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new IdempotencyConflictException("Idempotency key was already used for a different request");
+        }
+        return new IdempotentResponse(stored.status(), stored.body(), true);
+    }
+
+    String hash(Object request) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(serialize(request)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new ServiceException("An error occurred while hashing the request", ex);
+        }
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException ex) {
+            throw new ServiceException("An error occurred while serializing the response", ex);
+        }
+    }
+
+    /**
+     * A response kept for replays, with the hash of the request that produced it.
+     */
+    private record StoredResponse(String requestHash, int status, byte[] body, LocalDateTime expiresAt) {
+    }
+}
@@ -0,0 +1,244 @@
+package com.gklyphon.sabor_digital.order.application.services.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.sabor_digital.commons.utils.ExistenceBitmap;
+import com.gklyphon.sabor_digital.order.application.dtos.*;
+import com.gklyphon.sabor_digital.order.application.events.OrderEvent;
+import com.gklyphon.sabor_digital.order.application.events.OrderPlacedEvent;
+import com.gklyphon.sabor_digital.order.application.mapper.IMapper;
+import com.gklyphon.sabor_digital.order.application.rollups.SalesContribution;
+import com.gklyphon.sabor_digital.order.application.services.IOrderBatchService;
+import com.gklyphon.sabor_digital.order.application.services.IOrderPricingService;
+import com.gklyphon.sabor_digital.order.application.services.ISalesRollupService;
+import com.gklyphon.sabor_digital.order.domain.models.Order;
+import com.gklyphon.sabor_digital.order.infrastructure.exception.exceptions.BatchTooLargeException;
+import com.gklyphon.sabor_digital.order.infrastructure.exception.exceptions.ElementNotFoundException;
+import com.gklyphon.sabor_digital.order.infrastructure.feign.clients.IRestaurantClient;
+import com.gklyphon.sabor_digital.order.infrastructure.feign.clients.ITableClient;
+import com.gklyphon.sabor_digital.order.infrastructure.feign.clients.IWaiterClient;
+import com.gklyphon.sabor_digital.order.infrastructure.repositories.IOrderRepository;
+import feign.FeignException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.service.spi.ServiceException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Service implementation for ingesting batches of orders, e.g. when a POS terminal replays
+ * the orders it buffered while offline.
+ *
+ * <p>All restaurants, menu items, tables and waiters referenced by the batch are verified with one
+ * deduplicated call per downstream service. Restaurants, tables and waiters are only checked for existence,
+ * answered as a bitmap, while menu items are fetched for their prices. The valid orders are persisted together so their inserts into
+ * {@code orders} and {@code order_items} are sent as JDBC batches.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/08
+ */
+@Service
+public class OrderBatchServiceImpl implements IOrderBatchService {
+
+    private final IOrderRepository orderRepository;
+    private final IMapper mapper;
+    private final IOrderPricingService orderPricingService;
+    private final IRestaurantClient restaurantClient;
+    private final ITableClient tableClient;
+    private final IWaiterClient waiterClient;
+    private final Validator validator;
+    private final ISalesRollupService salesRollupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final int maxOrders;
+
+    /**
+     * Constructs an OrderBatchServiceImpl with the necessary dependencies.
+     *
+     * @param orderRepository the repository for order data persistence
+     * @param mapper the mapper for converting between DTOs and entities
+     * @param orderPricingService service computing the order total from its menu items
+     * @param restaurantClient client for checking restaurants and fetching menu item data
+     * @param tableClient client for checking tables
+     * @param waiterClient client for checking waiters
+     * @param validator bean validator applied to every submitted order
+     * @param salesRollupService service keeping the sales rollups in step with the orders
+     * @param eventPublisher publisher notifying order changes to in-process listeners
+     * @param objectMapper the mapper reading the missing IDs reported by downstream errors
+     * @param maxOrders the maximum number of orders accepted in one batch
+     */
+    public OrderBatchServiceImpl(IOrderRepository orderRepository, IMapper mapper, IOrderPricingService orderPricingService,
+                                 IRestaurantClient restaurantClient, ITableClient tableClient, IWaiterClient waiterClient,
+                                 Validator validator, ISalesRollupService salesRollupService,
+                                 ApplicationEventPublisher eventPublisher, ObjectMapper objectMapper,
+                                 @Value("${order.batch.max-orders:500}") int maxOrders) {
+        this.orderRepository = orderRepository;
+        this.mapper = mapper;
+        this.orderPricingService = orderPricingService;
+        this.restaurantClient = restaurantClient;
+        this.tableClient = tableClient;
+        this.waiterClient = waiterClient;
+        this.validator = validator;
+        this.salesRollupService = salesRollupService;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.maxOrders = maxOrders;
+    }
+
+    /**
+     * Validates and persists a batch of orders. Invalid orders are reported individually and do not
+     * prevent the valid ones from being stored.
+     *
+     * @param orderDtos the orders to persist
+     * @return one result per submitted order, in submission order
+     * @throws BatchTooLargeException if the batch holds more orders than accepted at once
+     * @throws ServiceException if an error occurs while fetching reference data or persisting the orders
+     */
+    @Override
+    @Transactional
+    public List<OrderBatchResultDto> saveAll(List<OrderDto> orderDtos) {
+        if (orderDtos.size() > maxOrders) {
+            throw new BatchTooLargeException("A batch can hold at most " + maxOrders + " orders");
+        }
+        OrderBatchResultDto[] results = new OrderBatchResultDto[orderDtos.size()];
+        List<Integer> candidates = new ArrayList<>(orderDtos.size());
+        for (int i = 0; i < orderDtos.size(); i++) {
+            Set<ConstraintViolation<OrderDto>> violations = validator.validate(orderDtos.get(i));
+            if (violations.isEmpty()) {
+                candidates.add(i);
+            } else {
+                results[i] = OrderBatchResultDto.rejected(i, violations.iterator().next().getMessage());
+            }
+        }
+
+        Set<Long> restaurantIds = new HashSet<>();
+        Set<Long> itemIds = new HashSet<>();
+        Set<Long> tableIds = new HashSet<>();
+        Set<Long> waiterIds = new HashSet<>();
+        for (int i : candidates) {
+            OrderDto orderDto = orderDtos.get(i);
+            restaurantIds.add(orderDto.getRestaurantId());
+            itemIds.addAll(orderDto.getItemsId());
+            if (orderDto.getTableId() != null) {
+                tableIds.add(orderDto.getTableId());
+            }
+            waiterIds.add(orderDto.getWaiterId());
+        }
+
+        Set<Long> restaurants = existing(restaurantIds, restaurantClient::existsByIds);
+        Map<Long, MenuItemDto> menuItems = fetchAll(itemIds, restaurantClient::getByIdIn, MenuItemDto::getId);
+        Set<Long> tables = existing(tableIds, tableClient::existsByIds);
+        Set<Long> waiters = existing(waiterIds, waiterClient::existsByIds);
+
+        List<Integer> accepted = new ArrayList<>(candidates.size());
+        List<Order> orders = new ArrayList<>(candidates.size());
+        for (int i : candidates) {
+            OrderDto orderDto = orderDtos.get(i);
+            if (!restaurants.contains(orderDto.getRestaurantId())
+                    || (orderDto.getTableId() != null && !tables.contains(orderDto.getTableId()))
+                    || !waiters.contains(orderDto.getWaiterId())
+                    || !menuItems.keySet().containsAll(orderDto.getItemsId())) {
+                results[i] = OrderBatchResultDto.rejected(i, "Invalid restaurant, table, waiter or item ID");
+                continue;
+            }
+            List<MenuItemDto> orderItems = orderDto.getItemsId().stream().distinct().map(menuItems::get).toList();
+            BigDecimal price = orderPricingService.calculateTotal(orderDto.getItemsId(), orderItems);
+            Order order = mapper.fromOrderDtoToOrder(orderDto);
+            order.setPrice(price);
+            orders.add(order);
+            accepted.add(i);
+        }
+
+        try {
+            List<Order> savedOrders = orderRepository.saveAll(orders);
+            for (int k = 0; k < accepted.size(); k++) {
+                int i = accepted.get(k);
+                results[i] = OrderBatchResultDto.created(i, savedOrders.get(k).getId());
+            }
+            salesRollupService.record(List.of(), savedOrders.stream().map(SalesContribution::of).toList());
+            for (Order order : savedOrders) {
+                eventPublisher.publishEvent(OrderEvent.of(order));
+                eventPublisher.publishEvent(OrderPlacedEvent.of(order));
+            }
+        } catch (Exception ex) {
+            throw new ServiceException("An error occurred while saving the orders", ex);
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Checks which of the given IDs exist with a single bulk call answering an existence bitmap.
+     *
+     * @param ids the IDs to check
+     * @param bulk the bulk existence check of the downstream service
+     * @return the IDs that exist
+     */
+    private Set<Long> existing(Set<Long> ids, Function<List<Long>, byte[]> bulk) {
+        if (ids.isEmpty()) {
+            return new HashSet<>();
+        }
+        List<Long> requested = new ArrayList<>(ids);
+        return new HashSet<>(ExistenceBitmap.existing(requested, bulk.apply(requested)));
+    }
+
+    /**
+     * Fetches the entities with the given IDs with a single bulk call. When the bulk call answers not found,
+     * it is repeated once without the missing IDs reported in the error body, so only the offending orders
+     * are rejected. Without such a report, the IDs are split in halves until the missing ones are isolated.
+     *
+     * @param ids the IDs to fetch
+     * @param bulk the bulk lookup of the downstream service
+     * @param idOf extracts the ID of a fetched entity
+     * @return the found entities by ID
+     */
+    private <T> Map<Long, T> fetchAll(Set<Long> ids, Function<List<Long>, List<T>> bulk, Function<T, Long> idOf) {
+        Map<Long, T> found = new HashMap<>(ids.size() * 2);
+        fetchInto(new ArrayList<>(ids), bulk, idOf, found);
+        return found;
+    }
+
+    private <T> void fetchInto(List<Long> ids, Function<List<Long>, List<T>> bulk, Function<T, Long> idOf,
+                               Map<Long, T> found) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        try {
+            bulk.apply(ids).forEach(entity -> found.put(idOf.apply(entity), entity));
+        } catch (FeignException.NotFound | ElementNotFoundException ex) {
+            Set<Long> missing = missingIds(ex);
+            List<Long> remaining = ids.stream().filter(id -> !missing.contains(id)).toList();
+            if (remaining.size() < ids.size()) {
+                fetchInto(remaining, bulk, idOf, found);
+            } else if (ids.size() > 1) {
+                int half = ids.size() / 2;
+                fetchInto(ids.subList(0, half), bulk, idOf, found);
+                fetchInto(ids.subList(half, ids.size()), bulk, idOf, found);
+            }
+        }
+    }
+
+    /**
+     * Reads the missing IDs reported in the body of a downstream not found error.
+     *
+     * @param ex the not found error
+     * @return the reported missing IDs, empty when the body does not report them
+     */
+    private Set<Long> missingIds(RuntimeException ex) {
+        Set<Long> missing = new HashSet<>();
+        if (ex instanceof FeignException feignException && feignException.responseBody().isPresent()) {
+            try {
+                objectMapper.readTree(feignException.contentUTF8()).path("missingIds")
+                        .forEach(id -> missing.add(id.asLong()));
+            } catch (IOException malformed) {
+                // Unreadable bodies fall back to splitting the IDs.
+            }
+        }
+        return missing;
+    }
+}
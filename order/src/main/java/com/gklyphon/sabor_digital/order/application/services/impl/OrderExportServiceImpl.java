@@ -0,0 +1,100 @@
+package com.gklyphon.sabor_digital.order.application.services.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.gklyphon.sabor_digital.order.application.dtos.OrderExportDto;
+import com.gklyphon.sabor_digital.order.application.services.IOrderExportService;
+import com.gklyphon.sabor_digital.order.infrastructure.repositories.IOrderRepository;
+import com.gklyphon.sabor_digital.order.infrastructure.repositories.projections.OrderExportRow;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Service implementation streaming orders as newline-delimited JSON.
+ *
+ * <p>The orders are read through {@link IOrderRepository#streamExportRows} as one row per item, ordered by
+ * order, and each order is written as soon as its last row has been read. Only the order being assembled is
+ * held in memory, and the output is flushed by the JSON generator's buffer rather than after every line.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/24
+ */
+@Service
+public class OrderExportServiceImpl implements IOrderExportService {
+
+    private final IOrderRepository orderRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructs an OrderExportServiceImpl with the necessary dependencies.
+     *
+     * @param orderRepository the repository streaming the orders
+     * @param objectMapper the mapper serializing each order
+     */
+    public OrderExportServiceImpl(IOrderRepository orderRepository, ObjectMapper objectMapper) {
+        this.orderRepository = orderRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Writes the orders of a restaurant created within a time window as newline-delimited JSON,
+     * one order with its item IDs per line, oldest first.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param from the start of the window, inclusive
+     * @param to the end of the window, exclusive
+     * @param output the stream the orders are written to; it is flushed but not closed
+     * @return the number of exported orders
+     * @throws IOException if the orders cannot be written
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportByRestaurant(Long restaurantId, LocalDateTime from, LocalDateTime to, OutputStream output) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long exported = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+             Stream<OrderExportRow> rows = orderRepository.streamExportRows(restaurantId, from, to)) {
+            generator.setRootValueSeparator(null);
+            Iterator<OrderExportRow> iterator = rows.iterator();
+            OrderExportRow current = iterator.hasNext() ? iterator.next() : null;
+            while (current != null) {
+                OrderExportRow first = current;
+                List<Long> itemsId = new ArrayList<>();
+                while (current != null && current.id().equals(first.id())) {
+                    if (current.itemId() != null) {
+                        itemsId.add(current.itemId());
+                    }
+                    current = iterator.hasNext() ? iterator.next() : null;
+                }
+                writer.writeValue(generator, toDto(first, itemsId));
+                generator.writeRaw('\n');
+                exported++;
+            }
+            generator.flush();
+        }
+        return exported;
+    }
+
+    /**
+     * Builds the exported order from its first row and the item IDs of all its rows.
+     *
+     * @param row the first row of the order
+     * @param itemsId the item IDs of the order
+     * @return the exported order
+     */
+    private static OrderExportDto toDto(OrderExportRow row, List<Long> itemsId) {
+        return new OrderExportDto(row.id(), row.restaurantId(), row.waiterId(), row.tableId(), row.price(),
+                row.orderType(), row.paymentType(), row.orderStatus(), row.createdAt(), row.updatedAt(), itemsId);
+    }
+}
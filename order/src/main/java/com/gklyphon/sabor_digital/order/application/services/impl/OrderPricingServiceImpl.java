@@ -0,0 +1,58 @@
+package com.gklyphon.sabor_digital.order.application.services.impl;
+
+import com.gklyphon.sabor_digital.order.application.dtos.MenuItemDto;
+import com.gklyphon.sabor_digital.order.application.services.IOrderPricingService;
+import com.gklyphon.sabor_digital.order.infrastructure.exception.exceptions.ElementNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service implementation computing order totals from the menu items already fetched during validation.
+ *
+ * <p>Prices come from the menu items returned by the restaurant service (or its local cache), so pricing
+ * never costs an extra remote call and the client-supplied price is never trusted.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/06
+ */
+@Service
+public class OrderPricingServiceImpl implements IOrderPricingService {
+
+    /**
+     * Computes the total price of an order. Every occurrence of an item ID counts as one unit,
+     * so repeated IDs are charged once per repetition.
+     *
+     * @param itemsId the IDs of the ordered items, repeated once per unit ordered
+     * @param menuItems the menu items referenced by the order
+     * @return the total price of the order
+     * @throws ElementNotFoundException if an ordered item has no known price
+     */
+    @Override
+    public BigDecimal calculateTotal(List<Long> itemsId, List<MenuItemDto> menuItems) {
+        Map<Long, BigDecimal> prices = new HashMap<>(menuItems.size() * 2);
+        for (MenuItemDto menuItem : menuItems) {
+            if (menuItem.getId() != null && menuItem.getPrice() != null) {
+                prices.put(menuItem.getId(), menuItem.getPrice());
+            }
+        }
+
+        Map<Long, Integer> quantities = new HashMap<>(itemsId.size() * 2);
+        for (Long id : itemsId) {
+            quantities.merge(id, 1, Integer::sum);
+        }
+
+        BigDecimal total = BigDecimal.ZERO;
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            BigDecimal price = prices.get(entry.getKey());
+            if (price == null) {
+                throw new ElementNotFoundException("No price was found for menu item " + entry.getKey());
+            }
+            total = total.add(price.multiply(BigDecimal.valueOf(entry.getValue())));
+        }
+        return total;
+    }
+}
@@ -1,25 +1,40 @@
 package com.gklyphon.sabor_digital.order.application.services.impl;
 
-import com.gklyphon.sabor_digital.order.application.dtos.*;
+import com.gklyphon.sabor_digital.order.application.dtos.CursorPageDto;
+import com.gklyphon.sabor_digital.order.application.dtos.OrderDto;
+import com.gklyphon.sabor_digital.order.application.dtos.OrderReferencesDto;
+import com.gklyphon.sabor_digital.order.application.events.OrderEvent;
+import com.gklyphon.sabor_digital.order.application.events.OrderPlacedEvent;
 import com.gklyphon.sabor_digital.order.application.mapper.IMapper;
+import com.gklyphon.sabor_digital.order.application.pagination.OrderCursor;
+import com.gklyphon.sabor_digital.order.application.rollups.SalesContribution;
+import com.gklyphon.sabor_digital.order.application.services.IOrderPricingService;
 import com.gklyphon.sabor_digital.order.application.services.IOrderService;
+import com.gklyphon.sabor_digital.order.application.services.IOrderValidationService;
+import com.gklyphon.sabor_digital.order.application.services.ISalesRollupService;
 import com.gklyphon.sabor_digital.order.domain.models.Order;
+import com.gklyphon.sabor_digital.order.domain.models.enums.OrderStatus;
 import com.gklyphon.sabor_digital.order.infrastructure.exception.exceptions.ElementNotFoundException;
-import com.gklyphon.sabor_digital.order.infrastructure.feign.clients.IRestaurantClient;
-import com.gklyphon.sabor_digital.order.infrastructure.feign.clients.ITableClient;
-import com.gklyphon.sabor_digital.order.infrastructure.feign.clients.IWaiterClient;
+import com.gklyphon.sabor_digital.order.infrastructure.exception.exceptions.InvalidStatusTransitionException;
 import com.gklyphon.sabor_digital.order.infrastructure.repositories.IOrderRepository;
+import com.gklyphon.sabor_digital.order.infrastructure.repositories.projections.OrderStatusView;
 import org.hibernate.service.spi.ServiceException;
 import org.springframework.beans.BeanUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 /**
  * Service implementation for managing orders, providing CRUD operations.
+ * Every write also adjusts the sales rollups within the same transaction.
  *
  * @author JFCiscoHuerta
  * @date 2025/03/16
@@ -27,28 +42,34 @@ import java.util.List;
 @Service
 public class OrderServiceImpl implements IOrderService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final IOrderRepository orderRepository;
     private final IMapper mapper;
-
-    private final IRestaurantClient restaurantClient;
-    private final ITableClient tableClient;
-    private final IWaiterClient waiterClient;
+    private final IOrderValidationService orderValidationService;
+    private final IOrderPricingService orderPricingService;
+    private final ISalesRollupService salesRollupService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Constructs an OrderServiceImpl with the necessary dependencies
      *
      * @param orderRepository the repository for order data persistence
      * @param mapper the mapper for converting between DTOs and entities
-     * @param restaurantClient client for fetching restaurant data
-     * @param tableClient client for fetching table data
-     * @param waiterClient client for fetching waiter data
+     * @param orderValidationService service verifying the restaurant, table, waiter & items of an order
+     * @param orderPricingService service computing the order total from its menu items
+     * @param salesRollupService service keeping the sales rollups in step with the orders
+     * @param eventPublisher publisher notifying order changes to in-process listeners
      */
-    public OrderServiceImpl(IOrderRepository orderRepository, IMapper mapper, IRestaurantClient restaurantClient, ITableClient tableClient, IWaiterClient waiterClient) {
+    public OrderServiceImpl(IOrderRepository orderRepository, IMapper mapper, IOrderValidationService orderValidationService,
+                            IOrderPricingService orderPricingService, ISalesRollupService salesRollupService,
+                            ApplicationEventPublisher eventPublisher) {
         this.orderRepository = orderRepository;
         this.mapper = mapper;
-        this.restaurantClient = restaurantClient;
-        this.tableClient = tableClient;
-        this.waiterClient = waiterClient;
+        this.orderValidationService = orderValidationService;
+        this.orderPricingService = orderPricingService;
+        this.salesRollupService = salesRollupService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -64,6 +85,35 @@ public class OrderServiceImpl implements IOrderService {
         return orderRepository.findAllByRestaurantId(restaurantId, pageable);
     }
 
+    /**
+     * Retrieves the orders of a restaurant using keyset pagination, newest first. One extra order
+     * is fetched to know whether another page follows, and the total is only counted on request.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param cursor the token returned with the previous page, or {@code null} for the first page
+     * @param size the page size, between 1 and 100
+     * @param includeTotal whether to count all the orders of the restaurant
+     * @return the requested page of orders
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<Order> findAllByRestaurantId(Long restaurantId, String cursor, int size, boolean includeTotal) {
+        size = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        Limit limit = Limit.of(size + 1);
+        List<Order> orders;
+        if (cursor == null || cursor.isBlank()) {
+            orders = orderRepository.findFirstByRestaurantId(restaurantId, limit);
+        } else {
+            OrderCursor position = OrderCursor.decode(cursor);
+            orders = orderRepository.findNextByRestaurantId(restaurantId, position.getCreatedAt(), position.getId(), limit);
+        }
+        boolean hasNext = orders.size() > size;
+        List<Order> content = hasNext ? orders.subList(0, size) : orders;
+        String nextCursor = hasNext ? OrderCursor.after(content.get(size - 1)).encode() : null;
+        Long total = includeTotal ? orderRepository.countByRestaurantId(restaurantId) : null;
+        return new CursorPageDto<>(content, nextCursor, hasNext, total);
+    }
+
     /**
      * Retrieves an order by its ID.
      *
@@ -79,7 +129,7 @@ public class OrderServiceImpl implements IOrderService {
     }
 
     /**
-     * Saves a new order.
+     * Saves a new order. The stored price is computed from the menu items, ignoring the price sent by the client.
      *
      * @param orderDto the DTO representing the new entity
      * @return the saved order
@@ -88,16 +138,25 @@ public class OrderServiceImpl implements IOrderService {
     @Override
     @Transactional
     public Order save(OrderDto orderDto) {
-        verifyClientResponses(orderDto);
+        OrderReferencesDto references = orderValidationService.verifyClientResponses(orderDto);
+        BigDecimal price = orderPricingService.calculateTotal(orderDto.getItemsId(), references.getMenuItems());
         try {
-            return orderRepository.save(mapper.fromOrderDtoToOrder(orderDto));
+            Order order = mapper.fromOrderDtoToOrder(orderDto);
+            order.setPrice(price);
+            Order savedOrder = orderRepository.save(order);
+            salesRollupService.record(null, SalesContribution.of(savedOrder));
+            eventPublisher.publishEvent(OrderEvent.of(savedOrder));
+            eventPublisher.publishEvent(OrderPlacedEvent.of(savedOrder));
+            return savedOrder;
         } catch (Exception ex) {
             throw new ServiceException("An error occurred while saving the order", ex);
         }
     }
 
     /**
-     * Updates an existent order by its ID.
+     * Updates an existent order by its ID. The stored price is recomputed from the menu items.
+     * The order row is locked once the references are verified, so the sales rollup delta is computed
+     * from the state this update replaces.
      *
      * @param id the ID of the entity to update
      * @param orderDto the DTO containing the updated data
@@ -107,53 +166,71 @@ public class OrderServiceImpl implements IOrderService {
     @Override
     @Transactional
     public Order update(Long id, OrderDto orderDto) {
-        Order originalOrder = findById(id);
-        verifyClientResponses(orderDto);
+        OrderReferencesDto references = orderValidationService.verifyClientResponses(orderDto);
+        BigDecimal price = orderPricingService.calculateTotal(orderDto.getItemsId(), references.getMenuItems());
+        Order originalOrder = orderRepository.findLockedById(id)
+                .orElseThrow(() -> new ElementNotFoundException("Order not found"));
+        SalesContribution before = SalesContribution.of(originalOrder);
         try {
             BeanUtils.copyProperties(orderDto, originalOrder, "id");
-            return orderRepository.save(originalOrder);
+            originalOrder.setPrice(price);
+            Order updatedOrder = orderRepository.save(originalOrder);
+            salesRollupService.record(before, SalesContribution.of(updatedOrder));
+            eventPublisher.publishEvent(OrderEvent.of(updatedOrder));
+            return updatedOrder;
         } catch (Exception ex) {
             throw new ServiceException("An error occurred while updating the order", ex);
         }
     }
 
     /**
-     * Deletes an order by its ID.
+     * Moves an order to a new status without loading the entity or calling the restaurant, table and
+     * waiter services. A projection query reads the current status to check the transition, then an update
+     * conditioned on that status applies it, so a concurrent change makes the update match no row.
+     * Orders without status are treated as pending.
      *
-     * @param id the id of the entity to delete
-     * @throws ServiceException if an error occurs during the deletion process.
+     * @param id the ID of the order
+     * @param orderStatus the requested status
+     * @throws ElementNotFoundException if no order is found with the given ID
+     * @throws InvalidStatusTransitionException if the order cannot move to the requested status,
+     *         or its status changed concurrently
      */
     @Override
     @Transactional
-    public void deleteById(Long id) {
-        findById(id);
-        try {
-            orderRepository.deleteById(id);
-        } catch (Exception ex) {
-            throw new ServiceException("An error occurred while deleting the order", ex);
+    public void updateStatus(Long id, OrderStatus orderStatus) {
+        OrderStatusView current = orderRepository.findStatusViewById(id)
+                .orElseThrow(() -> new ElementNotFoundException("Order not found"));
+        OrderStatus currentStatus = current.getOrderStatus() == null ? OrderStatus.PENDING : current.getOrderStatus();
+        if (!currentStatus.canTransitionTo(orderStatus)) {
+            throw new InvalidStatusTransitionException(
+                    "Order cannot change from " + currentStatus + " to " + orderStatus);
+        }
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        if (orderRepository.updateOrderStatus(id, current.getOrderStatus(), orderStatus, now) == 0) {
+            throw new InvalidStatusTransitionException("Order status changed concurrently");
         }
+        SalesContribution before = SalesContribution.of(current);
+        salesRollupService.record(before, before.withStatus(orderStatus));
+        eventPublisher.publishEvent(new OrderEvent(id, current.getRestaurantId(), orderStatus, now));
     }
 
     /**
-     * Verifies the existence of restaurant, table & waiter associated with the order.
+     * Deletes an order by its ID. The order row is locked first, so the sales rollups are reverted by
+     * the contribution of the deleted state.
      *
-     * @param orderDto
-     * @throws ElementNotFoundException if any of the associated entities are not found
-     * @throws ServiceException if an error occurs during the verification process
+     * @param id the id of the entity to delete
+     * @throws ServiceException if an error occurs during the deletion process.
      */
-    @Transactional(readOnly = true)
-    void verifyClientResponses(OrderDto orderDto) {
+    @Override
+    @Transactional
+    public void deleteById(Long id) {
+        Order order = orderRepository.findLockedById(id)
+                .orElseThrow(() -> new ElementNotFoundException("Order not found"));
         try {
-            RestaurantDto restaurantDto = restaurantClient.getRestaurantById(orderDto.getRestaurantId());
-            List<MenuItemDto> menuItems = restaurantClient.getByIdIn(orderDto.getItemsId());
-            TableDto tableDto = tableClient.getTableById(orderDto.getTableId());
-            WaiterDto waiterDto = waiterClient.getWaiterById(orderDto.getWaiterId());
-
-            if ( (!orderDto.getItemsId().isEmpty() && menuItems.isEmpty()) || restaurantDto == null || tableDto == null || waiterDto == null) {
-                throw new ElementNotFoundException("Invalid restaurant, table, or waiter ID");
-            }
+            orderRepository.delete(order);
+            salesRollupService.record(SalesContribution.of(order), null);
         } catch (Exception ex) {
-            throw new ServiceException("Error fetching restaurant, table, or waiter data", ex);
+            throw new ServiceException("An error occurred while deleting the order", ex);
         }
     }
 }
@@ -0,0 +1,167 @@
+package com.gklyphon.sabor_digital.order.application.services.impl;
+
+import com.gklyphon.sabor_digital.feign.exception.DeadlineExceededException;
+import com.gklyphon.sabor_digital.feign.exception.DownstreamUnavailableException;
+import com.gklyphon.sabor_digital.feign.resilience.Deadline;
+import com.gklyphon.sabor_digital.order.application.dtos.*;
+import com.gklyphon.sabor_digital.order.application.services.IOrderValidationService;
+import com.gklyphon.sabor_digital.order.infrastructure.exception.exceptions.ElementNotFoundException;
+import com.gklyphon.sabor_digital.order.infrastructure.feign.clients.IRestaurantClient;
+import com.gklyphon.sabor_digital.order.infrastructure.feign.clients.ITableClient;
+import com.gklyphon.sabor_digital.order.infrastructure.feign.clients.IWaiterClient;
+import feign.FeignException;
+import org.hibernate.service.spi.ServiceException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Service implementation that verifies the remote entities referenced by an order.
+ *
+ * <p>The restaurant, table and waiter are checked for existence with bodiless {@code HEAD} requests while
+ * the menu items, whose prices are needed afterwards, are fetched. The calls are issued concurrently, the first
+ * missing entity or failed call aborts the whole verification and a single deadline bounds the
+ * total time spent waiting on the downstream services. That deadline is shortened to the one of the
+ * current request, which the lookups carry to the downstream services.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/02
+ */
+@Service
+public class OrderValidationServiceImpl implements IOrderValidationService {
+
+    private final IRestaurantClient restaurantClient;
+    private final ITableClient tableClient;
+    private final IWaiterClient waiterClient;
+    private final Executor validationExecutor;
+    private final long timeoutMillis;
+
+    /**
+     * Constructs an OrderValidationServiceImpl with the necessary dependencies.
+     *
+     * @param restaurantClient client for checking restaurants and fetching menu item data
+     * @param tableClient client for checking tables
+     * @param waiterClient client for checking waiters
+     * @param validationExecutor executor running the downstream lookups
+     * @param timeoutMillis overall deadline for the verification, in milliseconds
+     */
+    public OrderValidationServiceImpl(IRestaurantClient restaurantClient,
+                                      ITableClient tableClient,
+                                      IWaiterClient waiterClient,
+                                      @Qualifier("validationExecutor") Executor validationExecutor,
+                                      @Value("${order.validation.timeout-ms:3000}") long timeoutMillis) {
+        this.restaurantClient = restaurantClient;
+        this.tableClient = tableClient;
+        this.waiterClient = waiterClient;
+        this.validationExecutor = validationExecutor;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Verifies the existence of restaurant, menu items, table & waiter associated with the order.
+     * The table is only checked when the order is placed at one.
+     *
+     * @param orderDto the order to verify
+     * @return the referenced menu items as returned by the restaurant service
+     * @throws ElementNotFoundException if any of the associated entities are not found
+     * @throws ServiceException if an error occurs or the deadline expires during the verification process
+     */
+    @Override
+    public OrderReferencesDto verifyClientResponses(OrderDto orderDto) {
+        CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+
+        CompletableFuture<Void> restaurant = check(firstFailure,
+                () -> restaurantClient.checkRestaurantExists(orderDto.getRestaurantId()));
+        CompletableFuture<List<MenuItemDto>> menuItems = lookup(firstFailure,
+                () -> restaurantClient.getByIdIn(orderDto.getItemsId()));
+        CompletableFuture<Void> table = orderDto.getTableId() == null
+                ? CompletableFuture.completedFuture(null)
+                : check(firstFailure, () -> tableClient.checkTableExists(orderDto.getTableId()));
+        CompletableFuture<Void> waiter = check(firstFailure,
+                () -> waiterClient.checkWaiterExists(orderDto.getWaiterId()));
+
+        CompletableFuture<Void> all = CompletableFuture.allOf(restaurant, menuItems, table, waiter);
+        try {
+            CompletableFuture.anyOf(all, firstFailure).get(timeoutMillis(), TimeUnit.MILLISECONDS);
+            if (!orderDto.getItemsId().isEmpty() && menuItems.join().isEmpty()) {
+                throw new ElementNotFoundException("Invalid restaurant, table, or waiter ID");
+            }
+            return new OrderReferencesDto(menuItems.join());
+        } catch (ExecutionException ex) {
+            throw translate(ex.getCause());
+        } catch (TimeoutException ex) {
+            throw new ServiceException("Timed out fetching restaurant, table, or waiter data", ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException("Interrupted while fetching restaurant, table, or waiter data", ex);
+        } finally {
+            all.cancel(true);
+            List.of(restaurant, menuItems, table, waiter).forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * Submits a single downstream lookup, signalling {@code firstFailure} as soon as it fails.
+     *
+     * @param firstFailure future completed exceptionally by the first failed lookup
+     * @param call the remote call to perform
+     * @return a future holding the lookup result
+     */
+    private <T> CompletableFuture<T> lookup(CompletableFuture<Void> firstFailure, Supplier<T> call) {
+        CompletableFuture<T> future = CompletableFuture.supplyAsync(Deadline.propagate(call), validationExecutor);
+        future.whenComplete((result, ex) -> {
+            if (ex != null) {
+                firstFailure.completeExceptionally(ex instanceof CompletionException ? ex.getCause() : ex);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Submits a single downstream existence check, signalling {@code firstFailure} as soon as it fails.
+     *
+     * @param firstFailure future completed exceptionally by the first failed check
+     * @param call the remote check to perform, failing when the entity does not exist
+     * @return a future completed once the check succeeds
+     */
+    private CompletableFuture<Void> check(CompletableFuture<Void> firstFailure, Runnable call) {
+        return lookup(firstFailure, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    /**
+     * Returns how long to wait for the lookups, bounded by the deadline of the current request.
+     *
+     * @return the timeout in milliseconds
+     */
+    private long timeoutMillis() {
+        Deadline deadline = Deadline.current();
+        return deadline != null ? Math.min(timeoutMillis, deadline.remainingMillis()) : timeoutMillis;
+    }
+
+    /**
+     * Translates a failed lookup into the exception surfaced to the caller.
+     *
+     * @param cause the failure raised by the lookup
+     * @return the exception to throw
+     */
+    private RuntimeException translate(Throwable cause) {
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof ElementNotFoundException || cause instanceof DownstreamUnavailableException
+                || cause instanceof DeadlineExceededException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof FeignException.NotFound) {
+            return new ElementNotFoundException("Invalid restaurant, table, or waiter ID");
+        }
+        return new ServiceException("Error fetching restaurant, table, or waiter data", cause);
+    }
+}
@@ -0,0 +1,128 @@
+package com.gklyphon.sabor_digital.order.application.services.impl;
+
+import com.gklyphon.sabor_digital.order.application.dtos.SalesStatsDto;
+import com.gklyphon.sabor_digital.order.application.rollups.SalesContribution;
+import com.gklyphon.sabor_digital.order.application.services.ISalesRollupService;
+import com.gklyphon.sabor_digital.order.domain.models.SalesRollup;
+import com.gklyphon.sabor_digital.order.domain.models.SalesRollupId;
+import com.gklyphon.sabor_digital.order.infrastructure.repositories.ISalesRollupRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Service implementation maintaining the sales rollups incrementally.
+ *
+ * <p>Every change is translated into per-bucket deltas (the order before the change is subtracted and the
+ * order after it added), deltas that cancel out are dropped, and the rest are applied with one upsert per
+ * bucket. Buckets are always upserted in the same order so concurrent transactions lock them consistently.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/25
+ */
+@Service
+public class SalesRollupServiceImpl implements ISalesRollupService {
+
+    private static final Comparator<SalesRollupId> BUCKET_ORDER = Comparator
+            .comparing(SalesRollupId::getRestaurantId)
+            .thenComparing(SalesRollupId::getBucketStart)
+            .thenComparing(SalesRollupId::getOrderType)
+            .thenComparing(SalesRollupId::getPaymentType);
+
+    private final ISalesRollupRepository salesRollupRepository;
+
+    /**
+     * Constructs a SalesRollupServiceImpl with the necessary dependencies.
+     *
+     * @param salesRollupRepository the repository for the rollups
+     */
+    public SalesRollupServiceImpl(ISalesRollupRepository salesRollupRepository) {
+        this.salesRollupRepository = salesRollupRepository;
+    }
+
+    /**
+     * Adjusts the rollups for a change of one order, in the caller's transaction.
+     *
+     * @param before the order before the change, or {@code null} if it was created
+     * @param after the order after the change, or {@code null} if it was deleted
+     */
+    @Override
+    @Transactional
+    public void record(SalesContribution before, SalesContribution after) {
+        record(before != null ? List.of(before) : List.of(), after != null ? List.of(after) : List.of());
+    }
+
+    /**
+     * Adjusts the rollups for a change of several orders, in the caller's transaction.
+     *
+     * @param removed the orders before the change
+     * @param added the orders after the change
+     */
+    @Override
+    @Transactional
+    public void record(Collection<SalesContribution> removed, Collection<SalesContribution> added) {
+        Map<SalesRollupId, Delta> deltas = new TreeMap<>(BUCKET_ORDER);
+        removed.forEach(contribution -> accumulate(deltas, contribution, -1));
+        added.forEach(contribution -> accumulate(deltas, contribution, 1));
+        deltas.forEach((bucket, delta) -> {
+            if (delta.orderCount != 0 || delta.revenue.signum() != 0) {
+                salesRollupRepository.upsert(bucket.getRestaurantId(), bucket.getBucketStart(),
+                        bucket.getOrderType().name(), bucket.getPaymentType().name(), delta.orderCount, delta.revenue);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the sales of a restaurant for the hours starting within a time window, reading one row per
+     * non-empty bucket.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param from the start of the window, inclusive
+     * @param to the end of the window, exclusive
+     * @return the sales of the window and their breakdown
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SalesStatsDto getStats(Long restaurantId, LocalDateTime from, LocalDateTime to) {
+        List<SalesRollup> rollups = salesRollupRepository.findAllByRestaurantIdInWindow(restaurantId, from, to);
+        List<SalesStatsDto.Bucket> buckets = new ArrayList<>(rollups.size());
+        long orderCount = 0;
+        BigDecimal revenue = BigDecimal.ZERO;
+        for (SalesRollup rollup : rollups) {
+            SalesRollupId id = rollup.getId();
+            buckets.add(new SalesStatsDto.Bucket(id.getBucketStart(), id.getOrderType(), id.getPaymentType(),
+                    rollup.getOrderCount(), rollup.getRevenue()));
+            orderCount += rollup.getOrderCount();
+            revenue = revenue.add(rollup.getRevenue());
+        }
+        return new SalesStatsDto(restaurantId, from, to, orderCount, revenue, buckets);
+    }
+
+    /**
+     * Adds the contribution of an order to the delta of its bucket.
+     *
+     * @param deltas the deltas per bucket
+     * @param contribution the order
+     * @param sign {@code 1} to add the order, {@code -1} to subtract it
+     */
+    private static void accumulate(Map<SalesRollupId, Delta> deltas, SalesContribution contribution, int sign) {
+        if (!contribution.counted()) {
+            return;
+        }
+        Delta delta = deltas.computeIfAbsent(contribution.bucket(), bucket -> new Delta());
+        delta.orderCount += sign;
+        delta.revenue = sign > 0 ? delta.revenue.add(contribution.revenue()) : delta.revenue.subtract(contribution.revenue());
+    }
+
+    /**
+     * Pending change of one bucket.
+     */
+    private static final class Delta {
+
+        private long orderCount;
+        private BigDecimal revenue = BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,128 @@
+package com.gklyphon.sabor_digital.order.application.services.impl;
+
+import com.gklyphon.sabor_digital.order.application.dtos.TopSellersDto;
+import com.gklyphon.sabor_digital.order.application.events.OrderPlacedEvent;
+import com.gklyphon.sabor_digital.order.application.leaderboard.SlidingWindowCounter;
+import com.gklyphon.sabor_digital.order.application.leaderboard.TopSellersWindow;
+import com.gklyphon.sabor_digital.order.application.services.ITopSellersService;
+import com.gklyphon.sabor_digital.order.infrastructure.repositories.IOrderRepository;
+import com.gklyphon.sabor_digital.order.infrastructure.repositories.projections.OrderItemSaleRow;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of {@link ITopSellersService} keeping one in-memory {@link SlidingWindowCounter} per restaurant.
+ *
+ * <p>The counters are filled once the application is ready by streaming the {@code order_items} rows of the
+ * last day, and then kept up to date from the {@link OrderPlacedEvent}s published after each committed order,
+ * so a ranking never reads the order history. Orders created before the rebuild started are left to the rebuild
+ * and the ones created afterwards to the events, so no order is counted twice. Items are counted as ordered:
+ * later cancellations and deletions are not subtracted.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/26
+ */
+@Service
+public class TopSellersServiceImpl implements ITopSellersService {
+
+    /**
+     * Upper bound on the number of items of a single ranking.
+     */
+    static final int MAX_LIMIT = 100;
+
+    private static final Duration BUCKET_WIDTH = Duration.ofMinutes(1);
+
+    private final Map<Long, SlidingWindowCounter> counters = new ConcurrentHashMap<>();
+    private final IOrderRepository orderRepository;
+    private volatile LocalDateTime liveFrom = LocalDateTime.MAX;
+
+    /**
+     * Constructs a TopSellersServiceImpl with the necessary dependencies.
+     *
+     * @param orderRepository the repository for reading the recent order items
+     */
+    public TopSellersServiceImpl(IOrderRepository orderRepository) {
+        this.orderRepository = orderRepository;
+    }
+
+    /**
+     * Retrieves the most ordered menu items of a restaurant within a window ending now.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param window the time window
+     * @param limit the maximum number of items, capped to {@value #MAX_LIMIT}
+     * @return the most ordered items, most ordered first and by ascending ID on ties
+     */
+    @Override
+    public TopSellersDto getTopSellers(Long restaurantId, TopSellersWindow window, int limit) {
+        SlidingWindowCounter counter = counters.get(restaurantId);
+        if (counter == null) {
+            return new TopSellersDto(restaurantId, window, List.of());
+        }
+        return new TopSellersDto(restaurantId, window,
+                counter.top(window, epochSecond(LocalDateTime.now()), Math.min(limit, MAX_LIMIT)));
+    }
+
+    /**
+     * Rebuilds the counters from the items of the orders created within the last day. Orders created
+     * from now on are counted from their events.
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        LocalDateTime until = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        liveFrom = until;
+        counters.clear();
+        LocalDateTime from = until.minus(TopSellersWindow.DAY.getLength());
+        try (Stream<OrderItemSaleRow> rows = orderRepository.streamItemSales(from, until)) {
+            rows.forEach(row -> count(row.restaurantId(), row.createdAt(), row.itemId()));
+        }
+    }
+
+    /**
+     * Counts the items of a new order once the originating transaction commits.
+     *
+     * @param event the order placed event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        if (event.getCreatedAt().isBefore(liveFrom)) {
+            return;
+        }
+        for (Long itemId : event.getItemsId()) {
+            count(event.getRestaurantId(), event.getCreatedAt(), itemId);
+        }
+    }
+
+    /**
+     * Adds one unit of an item to the counter of its restaurant.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param createdAt the creation timestamp of the order
+     * @param itemId the ID of the item
+     */
+    private void count(Long restaurantId, LocalDateTime createdAt, Long itemId) {
+        if (restaurantId == null || createdAt == null || itemId == null) {
+            return;
+        }
+        counters.computeIfAbsent(restaurantId, id -> new SlidingWindowCounter(BUCKET_WIDTH))
+                .add(epochSecond(createdAt), itemId, 1);
+    }
+
+    private static long epochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+}
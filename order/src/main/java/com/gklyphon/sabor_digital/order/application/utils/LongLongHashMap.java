@@ -0,0 +1,188 @@
+package com.gklyphon.sabor_digital.order.application.utils;
+
+/**
+ * Open-addressing hash map from primitive {@code long} keys to {@code long} counters, used to tally
+ * item IDs without boxing or allocating a node per entry. Entries whose counter drops to zero are removed.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/26
+ */
+public final class LongLongHashMap {
+
+    private static final int MIN_CAPACITY = 8;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private long[] keys;
+    private long[] values;
+    private boolean containsZero;
+    private long zeroValue;
+    private int size;
+    private int mask;
+    private int resizeThreshold;
+
+    /**
+     * Constructs a map able to hold the expected number of entries without resizing.
+     *
+     * @param expectedSize the expected number of entries
+     */
+    public LongLongHashMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Adds a delta to the counter of a key, creating the entry if absent and removing it when it reaches zero.
+     *
+     * @param key the key
+     * @param delta the amount to add, possibly negative
+     * @return the counter of the key after the change
+     */
+    public long addTo(long key, long delta) {
+        if (key == 0L) {
+            zeroValue += delta;
+            if (zeroValue == 0L) {
+                if (containsZero) {
+                    containsZero = false;
+                    size--;
+                }
+            } else if (!containsZero) {
+                containsZero = true;
+                size++;
+            }
+            return zeroValue;
+        }
+        int index = indexOf(key);
+        while (keys[index] != 0L) {
+            if (keys[index] == key) {
+                long value = values[index] + delta;
+                if (value == 0L) {
+                    removeAt(index);
+                } else {
+                    values[index] = value;
+                }
+                return value;
+            }
+            index = (index + 1) & mask;
+        }
+        if (delta == 0L) {
+            return 0L;
+        }
+        keys[index] = key;
+        values[index] = delta;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return delta;
+    }
+
+    /**
+     * Returns the counter of a key.
+     *
+     * @param key the key to look up
+     * @return the counter of the key, {@code 0} if absent
+     */
+    public long get(long key) {
+        if (key == 0L) {
+            return zeroValue;
+        }
+        int index = indexOf(key);
+        while (keys[index] != 0L) {
+            if (keys[index] == key) {
+                return values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return 0L;
+    }
+
+    /**
+     * Performs the given action for each entry of the map, in no particular order.
+     *
+     * @param action the action to perform
+     */
+    public void forEach(EntryConsumer action) {
+        if (containsZero) {
+            action.accept(0L, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0L) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes the entry at the given slot, shifting back the entries of its probe sequence so lookups
+     * never need tombstones.
+     *
+     * @param index the slot of the entry
+     */
+    private void removeAt(int index) {
+        int hole = index;
+        int next = (hole + 1) & mask;
+        while (keys[next] != 0L) {
+            int home = indexOf(keys[next]);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = 0L;
+        values[hole] = 0L;
+        size--;
+    }
+
+    private int indexOf(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        resizeThreshold = capacity >>> 1;
+    }
+
+    private void rehash(int capacity) {
+        long[] previousKeys = keys;
+        long[] previousValues = values;
+        allocate(capacity);
+        for (int i = 0; i < previousKeys.length; i++) {
+            if (previousKeys[i] != 0L) {
+                int index = indexOf(previousKeys[i]);
+                while (keys[index] != 0L) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = previousKeys[i];
+                values[index] = previousValues[i];
+            }
+        }
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity >>> 1 < expectedSize && capacity < MAX_CAPACITY) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Action performed on one entry of the map.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+
+        void accept(long key, long value);
+    }
+}
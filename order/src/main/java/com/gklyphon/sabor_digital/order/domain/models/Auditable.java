@@ -5,10 +5,12 @@ import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 /**
  * Abstract class that provides auditing fields for entity classes.
- * Automatically sets the creation and update timestamps.
+ * Automatically sets the creation and update timestamps, truncated to the microsecond precision
+ * of the database so the in-memory values match the stored ones.
  *
  * @author JFCiscoHuerta
  * @date 2025/03/16
@@ -31,8 +33,8 @@ public class Auditable {
      */
     @PrePersist
     protected void onCreate() {
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
+        this.createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        this.updatedAt = this.createdAt;
     }
 
     /**
@@ -40,7 +42,7 @@ public class Auditable {
      */
     @PreUpdate
     protected void onUpdate() {
-        this.updatedAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 
     public LocalDateTime getUpdatedAt() {
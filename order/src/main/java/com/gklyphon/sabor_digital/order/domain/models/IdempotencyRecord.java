@@ -0,0 +1,133 @@
+package com.gklyphon.sabor_digital.order.domain.models;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity remembering the response returned for a request carrying an {@code Idempotency-Key} header,
+ * so retries of the request are answered with it instead of being executed again.
+ *
+ * <p>The record is inserted in the same transaction as the effect of the request, so it exists if and only
+ * if that effect was committed. It is always inserted, never merged, so a concurrent request with the same
+ * key fails on the primary key instead of overwriting it.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/27
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+        @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at")
+})
+public class IdempotencyRecord implements Persistable<String> {
+
+    /**
+     * Key sent by the client.
+     */
+    @Id
+    @Column(name = "idempotency_key", length = 255)
+    private String key;
+
+    /**
+     * SHA-256 hash of the request body, used to reject the reuse of a key for a different request.
+     */
+    @Column(name = "request_hash", length = 64, nullable = false)
+    private String requestHash;
+
+    /**
+     * HTTP status of the original response.
+     */
+    @Column(name = "response_status")
+    private Integer responseStatus;
+
+    /**
+     * Serialized body of the original response.
+     */
+    @Column(name = "response_body", length = 1_048_576)
+    private byte[] responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Moment after which the key can be reused.
+     */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    /**
+     * Default constructor.
+     */
+    public IdempotencyRecord() {
+    }
+
+    /**
+     * Constructs a new {@code IdempotencyRecord} without response yet.
+     *
+     * @param key the key sent by the client
+     * @param requestHash the hash of the request body
+     * @param createdAt the moment the request was received
+     * @param expiresAt the moment after which the key can be reused
+     */
+    public IdempotencyRecord(String key, String requestHash, LocalDateTime createdAt, LocalDateTime expiresAt) {
+        this.key = key;
+        this.requestHash = requestHash;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public String getId() {
+        return key;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getRequestHash() {
+        return requestHash;
+    }
+
+    public Integer getResponseStatus() {
+        return responseStatus;
+    }
+
+    public byte[] getResponseBody() {
+        return responseBody;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * Stores the response returned for the request.
+     *
+     * @param responseStatus the HTTP status of the response
+     * @param responseBody the serialized body of the response
+     */
+    public void setResponse(int responseStatus, byte[] responseBody) {
+        this.responseStatus = responseStatus;
+        this.responseBody = responseBody;
+    }
+}
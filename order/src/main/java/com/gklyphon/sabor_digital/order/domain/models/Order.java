@@ -4,6 +4,8 @@ import com.gklyphon.sabor_digital.order.domain.models.enums.OrderStatus;
 import com.gklyphon.sabor_digital.order.domain.models.enums.OrderType;
 import com.gklyphon.sabor_digital.order.domain.models.enums.PaymentType;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+
 import java.math.BigDecimal;
 import java.util.List;
 
@@ -15,20 +17,26 @@ import java.util.List;
  * @date 2025/03/16
  */
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_restaurant_created_id", columnList = "restaurant_id, created_at, id"),
+        @Index(name = "idx_orders_created_at", columnList = "created_at")
+})
 public class Order extends Auditable {
 
     /**
-     * Unique identifier for the order.
+     * Unique identifier for the order. Drawn from a pooled sequence so inserts can be JDBC-batched.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     /**
-     * List of item IDs included in the order.
+     * List of item IDs included in the order. Loaded for a whole page of orders at once
+     * when the first order's items are accessed.
      */
     @ElementCollection
+    @BatchSize(size = 100)
     @CollectionTable(name = "order_items", joinColumns = @JoinColumn(name = "order_id"))
     @Column(name = "item_id")
     private List<Long> itemsId;
@@ -0,0 +1,64 @@
+package com.gklyphon.sabor_digital.order.domain.models;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+import java.math.BigDecimal;
+
+/**
+ * Entity holding the number of orders and the revenue of a restaurant for one hour, order type and
+ * payment type. Rows are maintained incrementally as orders are written, so sales reports read one
+ * row per bucket instead of every order. Cancelled orders are not counted.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/25
+ */
+@Entity
+@Table(name = "sales_rollups")
+public class SalesRollup {
+
+    @EmbeddedId
+    private SalesRollupId id;
+
+    /**
+     * Number of orders in the bucket.
+     */
+    private long orderCount;
+
+    /**
+     * Sum of the prices of the orders in the bucket.
+     */
+    private BigDecimal revenue;
+
+    /**
+     * Default constructor.
+     */
+    public SalesRollup() {
+    }
+
+    /**
+     * Constructs a new {@code SalesRollup}.
+     *
+     * @param id the bucket
+     * @param orderCount the number of orders in the bucket
+     * @param revenue the sum of the prices of the orders in the bucket
+     */
+    public SalesRollup(SalesRollupId id, long orderCount, BigDecimal revenue) {
+        this.id = id;
+        this.orderCount = orderCount;
+        this.revenue = revenue;
+    }
+
+    public SalesRollupId getId() {
+        return id;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+}
@@ -0,0 +1,93 @@
+package com.gklyphon.sabor_digital.order.domain.models;
+
+import com.gklyphon.sabor_digital.order.domain.models.enums.OrderType;
+import com.gklyphon.sabor_digital.order.domain.models.enums.PaymentType;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Composite key of a {@link SalesRollup}: one restaurant, one hour, one order type and one payment type.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/25
+ */
+@Embeddable
+public class SalesRollupId implements Serializable {
+
+    /**
+     * Identifier of the restaurant.
+     */
+    private Long restaurantId;
+
+    /**
+     * Start of the hour the orders were created in.
+     */
+    private LocalDateTime bucketStart;
+
+    /**
+     * Type of the orders.
+     */
+    @Enumerated(value = EnumType.STRING)
+    private OrderType orderType;
+
+    /**
+     * Payment type of the orders.
+     */
+    @Enumerated(value = EnumType.STRING)
+    private PaymentType paymentType;
+
+    /**
+     * Default constructor.
+     */
+    public SalesRollupId() {
+    }
+
+    /**
+     * Constructs a new {@code SalesRollupId}.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param bucketStart the start of the hour
+     * @param orderType the type of the orders
+     * @param paymentType the payment type of the orders
+     */
+    public SalesRollupId(Long restaurantId, LocalDateTime bucketStart, OrderType orderType, PaymentType paymentType) {
+        this.restaurantId = restaurantId;
+        this.bucketStart = bucketStart;
+        this.orderType = orderType;
+        this.paymentType = paymentType;
+    }
+
+    public Long getRestaurantId() {
+        return restaurantId;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public OrderType getOrderType() {
+        return orderType;
+    }
+
+    public PaymentType getPaymentType() {
+        return paymentType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SalesRollupId that)) return false;
+        return Objects.equals(restaurantId, that.restaurantId) && Objects.equals(bucketStart, that.bucketStart)
+                && orderType == that.orderType && paymentType == that.paymentType;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(restaurantId, bucketStart, orderType, paymentType);
+    }
+}
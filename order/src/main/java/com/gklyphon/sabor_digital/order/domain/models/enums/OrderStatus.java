@@ -1,8 +1,16 @@
 package com.gklyphon.sabor_digital.order.domain.models.enums;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Enum representing the possible statuses of an order.
  *
+ * <p>An order moves forward from {@link #PENDING} through {@link #CONFIRMED} and {@link #READY}
+ * to {@link #DELIVERED}, and can be {@link #CANCELLED} until it is ready.</p>
+ *
  * @author JFCiscoHuerta
  * @date 2025/03/16
  */
@@ -31,5 +39,25 @@ public enum OrderStatus {
     /**
      * Order has been canceled.
      */
-    CANCELLED
+    CANCELLED;
+
+    private static final Map<OrderStatus, Set<OrderStatus>> TRANSITIONS = new EnumMap<>(OrderStatus.class);
+
+    static {
+        TRANSITIONS.put(PENDING, EnumSet.of(CONFIRMED, CANCELLED));
+        TRANSITIONS.put(CONFIRMED, EnumSet.of(READY, CANCELLED));
+        TRANSITIONS.put(READY, EnumSet.of(DELIVERED));
+        TRANSITIONS.put(DELIVERED, EnumSet.noneOf(OrderStatus.class));
+        TRANSITIONS.put(CANCELLED, EnumSet.noneOf(OrderStatus.class));
+    }
+
+    /**
+     * Checks whether an order in this status may move to the given status.
+     *
+     * @param target the requested status
+     * @return {@code true} if the transition is allowed
+     */
+    public boolean canTransitionTo(OrderStatus target) {
+        return TRANSITIONS.get(this).contains(target);
+    }
 }
@@ -0,0 +1,53 @@
+package com.gklyphon.sabor_digital.order.infrastructure.config.cache;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the local cache holding the reference data fetched from the restaurant, table and waiter services.
+ *
+ * <p>The cache manager itself is auto-configured from the {@code spring.cache.*} properties, which declare
+ * the regions below together with their size bound, TTL and statistics recording.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/04
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Cache region holding restaurants by ID.
+     */
+    public static final String RESTAURANTS = "restaurants";
+
+    /**
+     * Cache region holding menu items by ID.
+     */
+    public static final String MENU_ITEMS = "menu-items";
+
+    /**
+     * Cache region holding tables by ID.
+     */
+    public static final String TABLES = "tables";
+
+    /**
+     * Cache region holding waiters by ID.
+     */
+    public static final String WAITERS = "waiters";
+
+    /**
+     * Cache region remembering the restaurants known to exist, by ID.
+     */
+    public static final String EXISTING_RESTAURANTS = "existing-restaurants";
+
+    /**
+     * Cache region remembering the tables known to exist, by ID.
+     */
+    public static final String EXISTING_TABLES = "existing-tables";
+
+    /**
+     * Cache region remembering the waiters known to exist, by ID.
+     */
+    public static final String EXISTING_WAITERS = "existing-waiters";
+}
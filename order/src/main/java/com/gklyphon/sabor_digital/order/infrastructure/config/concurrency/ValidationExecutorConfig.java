@@ -0,0 +1,28 @@
+package com.gklyphon.sabor_digital.order.infrastructure.config.concurrency;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Configuration of the executor used to fan out the downstream lookups performed while validating orders.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/02
+ */
+@Configuration
+public class ValidationExecutorConfig {
+
+    /**
+     * Executor that runs every remote lookup on its own virtual thread, so blocking Feign calls
+     * never tie up platform threads.
+     *
+     * @return the validation executor
+     */
+    @Bean(name = "validationExecutor", destroyMethod = "close")
+    ExecutorService validationExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+}
@@ -0,0 +1,15 @@
+package com.gklyphon.sabor_digital.order.infrastructure.config.scheduling;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the periodic maintenance tasks of the service, such as purging expired idempotency keys.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/27
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -16,7 +16,7 @@ import java.util.List;
 public class SecurityConfig {
 
     private final String [] PUBLIC_ENDPOINTS = {
-            "/api/orders", "/api/orders/all-by-restaurant/{id}", "/api/orders/{id}"};
+            "/api/orders", "/api/orders/batch", "/api/orders/stream/restaurant/{id}", "/api/orders/export", "/api/orders/stats", "/api/orders/top-sellers", "/api/orders/all-by-restaurant/{id}", "/api/orders/all-by-restaurant/{id}/cursor", "/api/orders/{id}", "/api/orders/{id}/status"};
 
     @Bean
     SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -35,7 +35,8 @@ public class SecurityConfig {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(Collections.singletonList("http://localhost:4200"));
         configuration.setAllowedHeaders(Collections.singletonList("*"));
-        configuration.setAllowedMethods(List.of("GET", "POST", "DELETE", "PUT"));
+        configuration.setAllowedMethods(List.of("GET", "POST", "DELETE", "PUT", "PATCH"));
+        configuration.setExposedHeaders(List.of("Idempotent-Replayed"));
         configuration.setMaxAge(3600L);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
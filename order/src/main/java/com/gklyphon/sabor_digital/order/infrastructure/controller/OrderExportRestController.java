@@ -0,0 +1,71 @@
+package com.gklyphon.sabor_digital.order.infrastructure.controller;
+
+import com.gklyphon.sabor_digital.order.application.services.IOrderExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+
+/**
+ * REST controller exporting orders in bulk for analytics jobs.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/24
+ */
+@Tag(name = "Order export", description = "Newline-delimited JSON export of orders")
+@RestController
+@RequestMapping("/api/orders/export")
+public class OrderExportRestController {
+
+    private final IOrderExportService orderExportService;
+
+    /**
+     * Constructs an OrderExportRestController.
+     *
+     * @param orderExportService the service writing the exported orders
+     */
+    public OrderExportRestController(IOrderExportService orderExportService) {
+        this.orderExportService = orderExportService;
+    }
+
+    /**
+     * Exports the orders of a restaurant created within a time window, one JSON order with its item IDs
+     * per line, oldest first. The response is written while the orders are read, in a single request.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param from the start of the window, inclusive
+     * @param to the end of the window, exclusive
+     * @return the streamed orders
+     */
+    @Operation(summary = "Export the orders of a restaurant",
+            description = "Streams the orders created within a time window as newline-delimited JSON.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Orders streamed successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid request parameters")
+    })
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "Restaurant ID", example = "1") @RequestParam(name = "restaurantId") Long restaurantId,
+            @Parameter(description = "Start of the window, inclusive", example = "2025-04-01T00:00:00")
+            @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the window, exclusive", example = "2025-04-02T00:00:00")
+            @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        StreamingResponseBody body = output -> orderExportService.exportByRestaurant(restaurantId, from, to, output);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .cacheControl(CacheControl.noStore())
+                .body(body);
+    }
+}
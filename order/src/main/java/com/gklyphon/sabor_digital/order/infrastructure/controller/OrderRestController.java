@@ -1,6 +1,10 @@
 package com.gklyphon.sabor_digital.order.infrastructure.controller;
 
 import com.gklyphon.sabor_digital.order.application.dtos.OrderDto;
+import com.gklyphon.sabor_digital.order.application.dtos.OrderStatusUpdateDto;
+import com.gklyphon.sabor_digital.order.application.idempotency.IdempotentResponse;
+import com.gklyphon.sabor_digital.order.application.services.IIdempotencyService;
+import com.gklyphon.sabor_digital.order.application.services.IOrderBatchService;
 import com.gklyphon.sabor_digital.order.application.services.IOrderService;
 import com.gklyphon.sabor_digital.order.domain.models.Order;
 import io.swagger.v3.oas.annotations.Operation;
@@ -17,10 +21,13 @@ import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * REST controller for managing orders.
  *
@@ -32,17 +39,34 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/orders")
 public class OrderRestController {
 
+    /**
+     * Request header identifying the retries of an order creation.
+     */
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    /**
+     * Response header telling whether a response was replayed for a retried request.
+     */
+    public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
     private final IOrderService orderService;
+    private final IOrderBatchService orderBatchService;
+    private final IIdempotencyService idempotencyService;
     private final PagedResourcesAssembler<Order> pagedResourcesAssembler;
 
     /**
      * Constructs an OrderRestController.
      *
      * @param orderService             the service to handle order operations
+     * @param orderBatchService        the service to handle batch order ingestion
+     * @param idempotencyService       the service deduplicating retried order creations
      * @param pagedResourcesAssembler  the assembler for paged HATEOAS resources
      */
-    public OrderRestController(IOrderService orderService, PagedResourcesAssembler<Order> pagedResourcesAssembler) {
+    public OrderRestController(IOrderService orderService, IOrderBatchService orderBatchService,
+                               IIdempotencyService idempotencyService, PagedResourcesAssembler<Order> pagedResourcesAssembler) {
         this.orderService = orderService;
+        this.orderBatchService = orderBatchService;
+        this.idempotencyService = idempotencyService;
         this.pagedResourcesAssembler = pagedResourcesAssembler;
     }
 
@@ -69,6 +93,30 @@ public class OrderRestController {
         return ResponseEntity.ok(buildPagedModel(orderService.findAllByRestaurantId(id, pageable)));
     }
 
+    /**
+     * Retrieves the orders of a specific restaurant using keyset pagination, newest first.
+     *
+     * @param id            the restaurant ID
+     * @param cursor        the token returned with the previous page, absent for the first page
+     * @param size          the page size (default is 10)
+     * @param includeTotal  whether to count all the orders of the restaurant (default is false)
+     * @return a ResponseEntity containing the page of orders and the cursor of the next page
+     */
+    @Operation(summary = "Retrieves the orders of a restaurant by cursor",
+            description = "Retrieves a page of orders for a given restaurant ID, newest first, continuing from the given cursor.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Orders retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor", content = @Content)
+    })
+    @GetMapping("/all-by-restaurant/{id}/cursor")
+    public ResponseEntity<?> getAllByRestaurantCursor(
+            @Parameter(description = "Restaurant ID") @PathVariable(name = "id") Long id,
+            @Parameter(description = "Cursor returned with the previous page") @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "Page size", example = "10") @RequestParam(name = "size", defaultValue = "10") int size,
+            @Parameter(description = "Whether to include the total number of orders") @RequestParam(name = "includeTotal", defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(orderService.findAllByRestaurantId(id, cursor, size, includeTotal));
+    }
+
     /**
      * Retrieves an order by its ID.
      *
@@ -87,20 +135,51 @@ public class OrderRestController {
     }
 
     /**
-     * Creates a new order.
+     * Creates a new order. When an {@code Idempotency-Key} header is sent, a retry with the same key and body
+     * gets the response of the first request back without creating another order.
      *
      * @param orderDto the DTO containing order data
+     * @param idempotencyKey the key identifying the retries of this request, if any
      * @return a ResponseEntity containing the created order
      */
     @Operation(summary = "Create a new order",
-            description = "Creates a new order with the provided details.")
+            description = "Creates a new order with the provided details. Retries sharing an Idempotency-Key replay the original response.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Order created successfully"),
-            @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content)
+            @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Idempotency key in use or used for another order", content = @Content)
     })
     @PostMapping
-    public ResponseEntity<?> create(@Valid @RequestBody OrderDto orderDto, BindingResult result) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(orderService.save(orderDto));
+    public ResponseEntity<?> create(@Valid @RequestBody OrderDto orderDto, BindingResult result,
+                                    @Parameter(description = "Key identifying the retries of this request")
+                                    @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(orderService.save(orderDto));
+        }
+        IdempotentResponse response = idempotencyService.execute(idempotencyKey, orderDto, HttpStatus.CREATED.value(),
+                () -> orderService.save(orderDto));
+        return ResponseEntity.status(response.status())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(IDEMPOTENT_REPLAYED, String.valueOf(response.replayed()))
+                .body(response.body());
+    }
+
+    /**
+     * Creates a batch of orders, reporting the outcome of each one.
+     *
+     * @param orderDtos the DTOs containing the orders data
+     * @return a ResponseEntity containing one result per submitted order
+     */
+    @Operation(summary = "Create a batch of orders",
+            description = "Validates and persists many orders at once, returning a per-order success or failure result.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Batch processed"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
+            @ApiResponse(responseCode = "413", description = "Too many orders in the batch", content = @Content)
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<?> createBatch(@RequestBody List<OrderDto> orderDtos) {
+        return ResponseEntity.ok(orderBatchService.saveAll(orderDtos));
     }
 
     /**
@@ -126,6 +205,29 @@ public class OrderRestController {
         return ResponseEntity.ok(orderService.update(id, orderDto));
     }
 
+    /**
+     * Changes the status of an order.
+     *
+     * @param id                   the ID of the order
+     * @param orderStatusUpdateDto the DTO containing the requested status
+     * @return a ResponseEntity with no content
+     */
+    @Operation(summary = "Change the status of an order",
+            description = "Moves an order to a new status following the allowed status transitions.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Order status updated successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Order not found", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Status transition not allowed", content = @Content)
+    })
+    @PatchMapping("/{id}/status")
+    public ResponseEntity<?> updateStatus(
+            @PathVariable Long id,
+            @Valid @RequestBody OrderStatusUpdateDto orderStatusUpdateDto) {
+        orderService.updateStatus(id, orderStatusUpdateDto.getOrderStatus());
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * Deletes an order by its ID.
      *
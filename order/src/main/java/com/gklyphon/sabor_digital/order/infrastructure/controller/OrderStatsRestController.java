@@ -0,0 +1,65 @@
+package com.gklyphon.sabor_digital.order.infrastructure.controller;
+
+import com.gklyphon.sabor_digital.order.application.dtos.SalesStatsDto;
+import com.gklyphon.sabor_digital.order.application.services.ISalesRollupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+/**
+ * REST controller serving the sales of each restaurant from the pre-aggregated rollups.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/25
+ */
+@Tag(name = "Order stats", description = "Sales figures per restaurant, hour, order type and payment type")
+@RestController
+@RequestMapping("/api/orders/stats")
+public class OrderStatsRestController {
+
+    private final ISalesRollupService salesRollupService;
+
+    /**
+     * Constructs an OrderStatsRestController.
+     *
+     * @param salesRollupService the service reading the sales rollups
+     */
+    public OrderStatsRestController(ISalesRollupService salesRollupService) {
+        this.salesRollupService = salesRollupService;
+    }
+
+    /**
+     * Retrieves the number of orders and the revenue of a restaurant for the hours starting within a time
+     * window, with their breakdown per hour, order type and payment type. Cancelled orders are excluded.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param from the start of the window, inclusive
+     * @param to the end of the window, exclusive
+     * @return the sales of the window
+     */
+    @Operation(summary = "Get the sales of a restaurant",
+            description = "Retrieves the order count and revenue of a restaurant per hour, order type and payment type.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Sales retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid request parameters")
+    })
+    @GetMapping
+    public ResponseEntity<SalesStatsDto> getStats(
+            @Parameter(description = "Restaurant ID", example = "1") @RequestParam(name = "restaurantId") Long restaurantId,
+            @Parameter(description = "Start of the window, inclusive", example = "2025-04-01T00:00:00")
+            @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the window, exclusive", example = "2025-05-01T00:00:00")
+            @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(salesRollupService.getStats(restaurantId, from, to));
+    }
+}
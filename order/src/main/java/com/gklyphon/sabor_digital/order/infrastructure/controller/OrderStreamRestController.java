@@ -0,0 +1,53 @@
+package com.gklyphon.sabor_digital.order.infrastructure.controller;
+
+import com.gklyphon.sabor_digital.order.infrastructure.sse.OrderEventStreamer;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST controller streaming order changes to kitchen displays and waiter handhelds.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/10
+ */
+@Tag(name = "Order stream", description = "Server-sent event stream of order changes")
+@RestController
+@RequestMapping("/api/orders/stream")
+public class OrderStreamRestController {
+
+    private final OrderEventStreamer orderEventStreamer;
+
+    /**
+     * Constructs an OrderStreamRestController.
+     *
+     * @param orderEventStreamer the component pushing order events to subscribers
+     */
+    public OrderStreamRestController(OrderEventStreamer orderEventStreamer) {
+        this.orderEventStreamer = orderEventStreamer;
+    }
+
+    /**
+     * Subscribes to the order changes of a restaurant.
+     *
+     * @param id the restaurant ID
+     * @return an emitter streaming an {@code order} event every time an order of the restaurant changes
+     */
+    @Operation(summary = "Stream the order changes of a restaurant",
+            description = "Opens a server-sent event stream that receives every created or updated order of the restaurant.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Stream opened successfully")
+    })
+    @GetMapping(value = "/restaurant/{id}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamByRestaurant(@Parameter(description = "Restaurant ID") @PathVariable(name = "id") Long id) {
+        return orderEventStreamer.subscribe(id);
+    }
+}
@@ -0,0 +1,90 @@
+package com.gklyphon.sabor_digital.order.infrastructure.controller;
+
+import com.gklyphon.sabor_digital.order.infrastructure.exception.exceptions.ElementNotFoundException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller exposing invalidation hooks for the locally cached restaurant, menu item, table and waiter data.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/04
+ */
+@Tag(name = "Reference cache", description = "Endpoints for invalidating cached reference data")
+@RestController
+@RequestMapping("/api/orders/reference-cache")
+public class ReferenceCacheRestController {
+
+    private final CacheManager cacheManager;
+
+    /**
+     * Constructs a ReferenceCacheRestController.
+     *
+     * @param cacheManager the cache manager holding the reference data regions
+     */
+    public ReferenceCacheRestController(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Evicts a single entry from a reference data region.
+     *
+     * @param region the cache region (restaurants, menu-items, tables or waiters)
+     * @param id the ID of the entry to evict
+     * @return a ResponseEntity with no content
+     */
+    @Operation(summary = "Evict a cached entry",
+            description = "Removes a single restaurant, menu item, table or waiter from the local cache.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Entry evicted successfully"),
+            @ApiResponse(responseCode = "404", description = "Cache region not found", content = @Content)
+    })
+    @DeleteMapping("/{region}/{id}")
+    public ResponseEntity<?> evict(
+            @Parameter(description = "Cache region") @PathVariable(name = "region") String region,
+            @Parameter(description = "Entry ID") @PathVariable(name = "id") Long id) {
+        getCache(region).evict(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Clears every entry of a reference data region.
+     *
+     * @param region the cache region (restaurants, menu-items, tables or waiters)
+     * @return a ResponseEntity with no content
+     */
+    @Operation(summary = "Clear a cache region",
+            description = "Removes every cached entry of the given region.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Region cleared successfully"),
+            @ApiResponse(responseCode = "404", description = "Cache region not found", content = @Content)
+    })
+    @DeleteMapping("/{region}")
+    public ResponseEntity<?> clear(@Parameter(description = "Cache region") @PathVariable(name = "region") String region) {
+        getCache(region).clear();
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Resolves a cache region by name.
+     *
+     * @param region the cache region name
+     * @return the cache region
+     * @throws ElementNotFoundException if no region exists with the given name
+     */
+    private Cache getCache(String region) {
+        Cache cache = cacheManager.getCache(region);
+        if (cache == null) {
+            throw new ElementNotFoundException("Cache region not found");
+        }
+        return cache;
+    }
+}
@@ -0,0 +1,63 @@
+package com.gklyphon.sabor_digital.order.infrastructure.controller;
+
+import com.gklyphon.sabor_digital.order.application.dtos.TopSellersDto;
+import com.gklyphon.sabor_digital.order.application.leaderboard.TopSellersWindow;
+import com.gklyphon.sabor_digital.order.application.services.ITopSellersService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller serving the most ordered menu items of each restaurant from the in-memory counters.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/26
+ */
+@Tag(name = "Top sellers", description = "Most ordered menu items per restaurant over the last hour or day")
+@RestController
+@RequestMapping("/api/orders/top-sellers")
+public class TopSellersRestController {
+
+    private final ITopSellersService topSellersService;
+
+    /**
+     * Constructs a TopSellersRestController.
+     *
+     * @param topSellersService the service ranking the ordered menu items
+     */
+    public TopSellersRestController(ITopSellersService topSellersService) {
+        this.topSellersService = topSellersService;
+    }
+
+    /**
+     * Retrieves the menu items of a restaurant ordered the most within the last hour or day, counted
+     * per unit and to the minute.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param window the time window, {@code HOUR} or {@code DAY}
+     * @param limit the maximum number of items, up to 100
+     * @return the most ordered items
+     */
+    @Operation(summary = "Get the top-selling menu items of a restaurant",
+            description = "Retrieves the most ordered menu items of a restaurant over the last hour or day.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Top sellers retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid request parameters")
+    })
+    @GetMapping
+    public ResponseEntity<TopSellersDto> getTopSellers(
+            @Parameter(description = "Restaurant ID", example = "1") @RequestParam(name = "restaurantId") Long restaurantId,
+            @Parameter(description = "Time window", example = "HOUR")
+            @RequestParam(name = "window", defaultValue = "HOUR") TopSellersWindow window,
+            @Parameter(description = "Maximum number of items", example = "20")
+            @RequestParam(name = "limit", defaultValue = "20") int limit) {
+        return ResponseEntity.ok(topSellersService.getTopSellers(restaurantId, window, limit));
+    }
+}
@@ -1,6 +1,13 @@
 package com.gklyphon.sabor_digital.order.infrastructure.exception;
 
+import com.gklyphon.sabor_digital.feign.exception.DeadlineExceededException;
+import com.gklyphon.sabor_digital.feign.exception.DownstreamUnavailableException;
+import com.gklyphon.sabor_digital.order.infrastructure.exception.exceptions.BatchTooLargeException;
 import com.gklyphon.sabor_digital.order.infrastructure.exception.exceptions.ElementNotFoundException;
+import com.gklyphon.sabor_digital.order.infrastructure.exception.exceptions.IdempotencyConflictException;
+import com.gklyphon.sabor_digital.order.infrastructure.exception.exceptions.InvalidCursorException;
+import com.gklyphon.sabor_digital.order.infrastructure.exception.exceptions.InvalidIdempotencyKeyException;
+import com.gklyphon.sabor_digital.order.infrastructure.exception.exceptions.InvalidStatusTransitionException;
 import org.hibernate.service.spi.ServiceException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -32,6 +39,83 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(ex, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Handles InvalidStatusTransitionException and returns a corresponding error response.
+     *
+     * @param ex the InvalidStatusTransitionException instance
+     * @return a ResponseEntity containing the ErrorResponse and HTTP status
+     */
+    @ExceptionHandler(InvalidStatusTransitionException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidStatusTransitionException(InvalidStatusTransitionException ex) {
+        return buildErrorResponse(ex, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Handles InvalidCursorException and returns a corresponding error response.
+     *
+     * @param ex the InvalidCursorException instance
+     * @return a ResponseEntity containing the ErrorResponse and HTTP status
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(InvalidCursorException ex) {
+        return buildErrorResponse(ex, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles BatchTooLargeException and returns a corresponding error response.
+     *
+     * @param ex the BatchTooLargeException instance
+     * @return a ResponseEntity containing the ErrorResponse and HTTP status
+     */
+    @ExceptionHandler(BatchTooLargeException.class)
+    public ResponseEntity<ErrorResponse> handleBatchTooLargeException(BatchTooLargeException ex) {
+        return buildErrorResponse(ex, HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
+    /**
+     * Handles InvalidIdempotencyKeyException and returns a corresponding error response.
+     *
+     * @param ex the InvalidIdempotencyKeyException instance
+     * @return a ResponseEntity containing the ErrorResponse and HTTP status
+     */
+    @ExceptionHandler(InvalidIdempotencyKeyException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidIdempotencyKeyException(InvalidIdempotencyKeyException ex) {
+        return buildErrorResponse(ex, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles IdempotencyConflictException and returns a corresponding error response.
+     *
+     * @param ex the IdempotencyConflictException instance
+     * @return a ResponseEntity containing the ErrorResponse and HTTP status
+     */
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyConflictException(IdempotencyConflictException ex) {
+        return buildErrorResponse(ex, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Handles DownstreamUnavailableException and return an error response.
+     *
+     * @param ex the DownstreamUnavailableException instance
+     * @return a ResponseEntity containing the ErrorResponse and HTTP status
+     */
+    @ExceptionHandler(DownstreamUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleDownstreamUnavailableException(DownstreamUnavailableException ex) {
+        return buildErrorResponse(ex, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * Handles DeadlineExceededException and return an error response.
+     *
+     * @param ex the DeadlineExceededException instance
+     * @return a ResponseEntity containing the ErrorResponse and HTTP status
+     */
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<ErrorResponse> handleDeadlineExceededException(DeadlineExceededException ex) {
+        return buildErrorResponse(ex, HttpStatus.GATEWAY_TIMEOUT);
+    }
+
     /**
      * Handles ServiceException and return an error response.
      *
@@ -0,0 +1,19 @@
+package com.gklyphon.sabor_digital.order.infrastructure.exception.exceptions;
+
+/**
+ * Exception thrown when a batch holds more orders than the service accepts at once.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/08
+ */
+public class BatchTooLargeException extends RuntimeException {
+
+    /**
+     * Constructs a new BatchTooLargeException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public BatchTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,20 @@
+package com.gklyphon.sabor_digital.order.infrastructure.exception.exceptions;
+
+/**
+ * Exception thrown when an idempotency key is reused for a different request, or while the
+ * request that first used it is still being processed.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/27
+ */
+public class IdempotencyConflictException extends RuntimeException {
+
+    /**
+     * Constructs a new IdempotencyConflictException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package com.gklyphon.sabor_digital.order.infrastructure.exception.exceptions;
+
+/**
+ * Exception thrown when a pagination cursor cannot be decoded.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/14
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    /**
+     * Constructs a new InvalidCursorException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
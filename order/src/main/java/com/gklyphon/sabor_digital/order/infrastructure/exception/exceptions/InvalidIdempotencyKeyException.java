@@ -0,0 +1,19 @@
+package com.gklyphon.sabor_digital.order.infrastructure.exception.exceptions;
+
+/**
+ * Exception thrown when an {@code Idempotency-Key} header is blank or too long.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/27
+ */
+public class InvalidIdempotencyKeyException extends RuntimeException {
+
+    /**
+     * Constructs a new InvalidIdempotencyKeyException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public InvalidIdempotencyKeyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package com.gklyphon.sabor_digital.order.infrastructure.exception.exceptions;
+
+/**
+ * Exception thrown when an order cannot move to the requested status.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/12
+ */
+public class InvalidStatusTransitionException extends RuntimeException {
+
+    /**
+     * Constructs a new InvalidStatusTransitionException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public InvalidStatusTransitionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,98 @@
+package com.gklyphon.sabor_digital.order.infrastructure.feign.batching;
+
+import com.gklyphon.sabor_digital.commons.utils.ExistenceBitmap;
+import com.gklyphon.sabor_digital.order.application.dtos.TableDto;
+import com.gklyphon.sabor_digital.order.infrastructure.feign.clients.ITableClient;
+import com.gklyphon.sabor_digital.order.infrastructure.feign.coalescing.CoalescingTableClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Micro-batching decorator for {@link ITableClient}.
+ *
+ * <p>Lookups of single tables issued concurrently are merged by a {@link MicroBatcher} into one call to the
+ * table service's {@code by-ids} endpoint, and existence checks of single tables into one call to its
+ * {@code exists} endpoint. Bulk lookups are passed through unchanged.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/05/03
+ */
+@Component(BatchingTableClient.QUALIFIER)
+public class BatchingTableClient implements ITableClient {
+
+    public static final String QUALIFIER = "tableBatchingClient";
+
+    private final ITableClient delegate;
+    private final MicroBatcher<TableDto> batcher;
+    private final MicroBatcher<Long> checks;
+
+    /**
+     * Constructs a BatchingTableClient.
+     *
+     * @param delegate the client performing the remote calls
+     * @param window how long a batch waits for other lookups to join it
+     * @param maxBatchSize the number of IDs that makes a batch run immediately
+     */
+    public BatchingTableClient(@Qualifier(CoalescingTableClient.QUALIFIER) ITableClient delegate,
+                              @Value("${order.batching.window:2ms}") Duration window,
+                              @Value("${order.batching.max-size:50}") int maxBatchSize) {
+        this.delegate = delegate;
+        this.batcher = new MicroBatcher<>(delegate::getTablesByIds, delegate::getTableById, TableDto::getId,
+                window, maxBatchSize);
+        this.checks = new MicroBatcher<>(ids -> ExistenceBitmap.existing(ids, delegate.existsByIds(ids)),
+                id -> {
+                    delegate.checkTableExists(id);
+                    return id;
+                },
+                Function.identity(), window, maxBatchSize);
+    }
+
+    /**
+     * Retrieves a table by their ID as part of the current batch.
+     *
+     * @param id the ID of the table to retrieve
+     * @return the corresponding TableDto object
+     */
+    @Override
+    public TableDto getTableById(Long id) {
+        return batcher.load(id);
+    }
+
+    /**
+     * Retrieves a list of tables based on the provided list of IDs.
+     *
+     * @param ids List of table IDs to fetch.
+     * @return List of {@link TableDto} corresponding to the given IDs.
+     */
+    @Override
+    public List<TableDto> getTablesByIds(List<Long> ids) {
+        return delegate.getTablesByIds(ids);
+    }
+
+    /**
+     * Checks that a table exists as part of the current batch. A missing table is checked again on its
+     * own, so the caller receives the 404 of the table service.
+     *
+     * @param id the ID of the table to check
+     */
+    @Override
+    public void checkTableExists(Long id) {
+        checks.load(id);
+    }
+
+    /**
+     * Checks which of the given tables exist.
+     *
+     * @param ids List of table IDs to check.
+     * @return a bitmap whose bit {@code i} is set when the {@code i}-th ID exists
+     */
+    @Override
+    public byte[] existsByIds(List<Long> ids) {
+        return delegate.existsByIds(ids);
+    }
+}
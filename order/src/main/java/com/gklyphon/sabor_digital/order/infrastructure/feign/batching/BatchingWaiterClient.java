@@ -0,0 +1,98 @@
+package com.gklyphon.sabor_digital.order.infrastructure.feign.batching;
+
+import com.gklyphon.sabor_digital.commons.utils.ExistenceBitmap;
+import com.gklyphon.sabor_digital.order.application.dtos.WaiterDto;
+import com.gklyphon.sabor_digital.order.infrastructure.feign.clients.IWaiterClient;
+import com.gklyphon.sabor_digital.order.infrastructure.feign.coalescing.CoalescingWaiterClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Micro-batching decorator for {@link IWaiterClient}.
+ *
+ * <p>Lookups of single waiters issued concurrently are merged by a {@link MicroBatcher} into one call to the
+ * waiter service's {@code by-ids} endpoint, and existence checks of single waiters into one call to its
+ * {@code exists} endpoint. Bulk lookups are passed through unchanged.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/05/03
+ */
+@Component(BatchingWaiterClient.QUALIFIER)
+public class BatchingWaiterClient implements IWaiterClient {
+
+    public static final String QUALIFIER = "waiterBatchingClient";
+
+    private final IWaiterClient delegate;
+    private final MicroBatcher<WaiterDto> batcher;
+    private final MicroBatcher<Long> checks;
+
+    /**
+     * Constructs a BatchingWaiterClient.
+     *
+     * @param delegate the client performing the remote calls
+     * @param window how long a batch waits for other lookups to join it
+     * @param maxBatchSize the number of IDs that makes a batch run immediately
+     */
+    public BatchingWaiterClient(@Qualifier(CoalescingWaiterClient.QUALIFIER) IWaiterClient delegate,
+                              @Value("${order.batching.window:2ms}") Duration window,
+                              @Value("${order.batching.max-size:50}") int maxBatchSize) {
+        this.delegate = delegate;
+        this.batcher = new MicroBatcher<>(delegate::getWaitersByIds, delegate::getWaiterById, WaiterDto::getId,
+                window, maxBatchSize);
+        this.checks = new MicroBatcher<>(ids -> ExistenceBitmap.existing(ids, delegate.existsByIds(ids)),
+                id -> {
+                    delegate.checkWaiterExists(id);
+                    return id;
+                },
+                Function.identity(), window, maxBatchSize);
+    }
+
+    /**
+     * Retrieves a waiter by their ID as part of the current batch.
+     *
+     * @param id the ID of the waiter to retrieve
+     * @return the corresponding WaiterDto object
+     */
+    @Override
+    public WaiterDto getWaiterById(Long id) {
+        return batcher.load(id);
+    }
+
+    /**
+     * Retrieves a list of waiters based on the provided list of IDs.
+     *
+     * @param ids List of waiter IDs to fetch.
+     * @return List of {@link WaiterDto} corresponding to the given IDs.
+     */
+    @Override
+    public List<WaiterDto> getWaitersByIds(List<Long> ids) {
+        return delegate.getWaitersByIds(ids);
+    }
+
+    /**
+     * Checks that a waiter exists as part of the current batch. A missing waiter is checked again on its
+     * own, so the caller receives the 404 of the waiter service.
+     *
+     * @param id the ID of the waiter to check
+     */
+    @Override
+    public void checkWaiterExists(Long id) {
+        checks.load(id);
+    }
+
+    /**
+     * Checks which of the given waiters exist.
+     *
+     * @param ids List of waiter IDs to check.
+     * @return a bitmap whose bit {@code i} is set when the {@code i}-th ID exists
+     */
+    @Override
+    public byte[] existsByIds(List<Long> ids) {
+        return delegate.existsByIds(ids);
+    }
+}
@@ -0,0 +1,190 @@
+package com.gklyphon.sabor_digital.order.infrastructure.feign.batching;
+
+import feign.FeignException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Collects the single-ID lookups issued concurrently by different callers into one bulk lookup.
+ *
+ * <p>The first caller of a batch waits for the batch window and then runs the bulk lookup on behalf of
+ * every caller that joined it meanwhile; a caller filling the batch up to its maximum size runs it at once.
+ * Each caller then receives the entry of its own ID. Because the bulk endpoints reject the whole request when
+ * any ID is missing, a rejected batch is retried one ID at a time so each caller gets its own outcome.</p>
+ *
+ * @param <V> the type of the loaded entries
+ * @author JFCiscoHuerta
+ * @date 2025/05/03
+ */
+public final class MicroBatcher<V> {
+
+    private final Function<List<Long>, List<V>> bulkLoader;
+    private final Function<Long, V> singleLoader;
+    private final Function<V, Long> idOf;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final Object lock = new Object();
+    private Batch<V> pending;
+
+    /**
+     * Constructs a MicroBatcher.
+     *
+     * @param bulkLoader loads the entries of a list of IDs, failing with a 404 when any of them is missing
+     * @param singleLoader loads the entry of one ID
+     * @param idOf extracts the ID of a loaded entry
+     * @param window how long the first caller of a batch waits for others to join it
+     * @param maxBatchSize the number of distinct IDs that makes a batch run immediately
+     */
+    public MicroBatcher(Function<List<Long>, List<V>> bulkLoader, Function<Long, V> singleLoader,
+                        Function<V, Long> idOf, Duration window, int maxBatchSize) {
+        this.bulkLoader = bulkLoader;
+        this.singleLoader = singleLoader;
+        this.idOf = idOf;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Loads the entry of an ID as part of the current batch.
+     *
+     * @param id the ID to load
+     * @return the entry of the ID
+     */
+    public V load(Long id) {
+        if (windowNanos <= 0 || maxBatchSize <= 1) {
+            return singleLoader.apply(id);
+        }
+        Batch<V> batch;
+        CompletableFuture<V> entry;
+        boolean first = false;
+        boolean full = false;
+        synchronized (lock) {
+            if (pending == null) {
+                pending = new Batch<>(Thread.currentThread());
+                first = true;
+            }
+            batch = pending;
+            entry = batch.entries.computeIfAbsent(id, key -> new CompletableFuture<>());
+            if (batch.entries.size() >= maxBatchSize) {
+                close(batch);
+                full = true;
+            }
+        }
+        if (full) {
+            LockSupport.unpark(batch.leader);
+            dispatch(batch.entries);
+        } else if (first) {
+            awaitWindow(batch);
+            boolean due;
+            synchronized (lock) {
+                due = !batch.closed;
+                if (due) {
+                    close(batch);
+                }
+            }
+            if (due) {
+                dispatch(batch.entries);
+            }
+        }
+        return await(entry);
+    }
+
+    /**
+     * Runs the bulk lookup of a closed batch and completes the entry of every ID in it.
+     *
+     * @param batch the entries of the batch by ID
+     */
+    private void dispatch(Map<Long, CompletableFuture<V>> batch) {
+        if (batch.size() == 1) {
+            batch.forEach(this::loadOne);
+            return;
+        }
+        Map<Long, V> found;
+        try {
+            List<V> loaded = bulkLoader.apply(new ArrayList<>(batch.keySet()));
+            found = new HashMap<>(loaded.size() * 2);
+            for (V value : loaded) {
+                found.put(idOf.apply(value), value);
+            }
+        } catch (FeignException.NotFound ex) {
+            batch.forEach(this::loadOne);
+            return;
+        } catch (RuntimeException | Error ex) {
+            batch.values().forEach(entry -> entry.completeExceptionally(ex));
+            return;
+        }
+        batch.forEach((id, entry) -> {
+            V value = found.get(id);
+            if (value != null) {
+                entry.complete(value);
+            } else {
+                loadOne(id, entry);
+            }
+        });
+    }
+
+    private void loadOne(Long id, CompletableFuture<V> entry) {
+        try {
+            entry.complete(singleLoader.apply(id));
+        } catch (RuntimeException | Error ex) {
+            entry.completeExceptionally(ex);
+        }
+    }
+
+    private void close(Batch<V> batch) {
+        batch.closed = true;
+        pending = null;
+    }
+
+    /**
+     * Parks the first caller of a batch until the batch window ends or another caller fills the batch,
+     * returning early if the caller is interrupted.
+     *
+     * @param batch the batch opened by the caller
+     */
+    private void awaitWindow(Batch<V> batch) {
+        long deadline = System.nanoTime() + windowNanos;
+        long remaining;
+        while (!batch.closed && (remaining = deadline - System.nanoTime()) > 0
+                && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(this, remaining);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> entry) {
+        try {
+            return entry.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * The lookups collected for one bulk call.
+     */
+    private static final class Batch<V> {
+
+        private final Map<Long, CompletableFuture<V>> entries = new LinkedHashMap<>();
+        private final Thread leader;
+        private volatile boolean closed;
+
+        private Batch(Thread leader) {
+            this.leader = leader;
+        }
+    }
+}
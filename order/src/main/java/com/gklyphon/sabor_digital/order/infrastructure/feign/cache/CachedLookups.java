@@ -0,0 +1,137 @@
+package com.gklyphon.sabor_digital.order.infrastructure.feign.cache;
+
+import com.gklyphon.sabor_digital.commons.utils.ExistenceBitmap;
+import org.springframework.cache.Cache;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Helper for bulk lookups and existence checks backed by per-ID cache regions.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/08
+ */
+final class CachedLookups {
+
+    private CachedLookups() {
+    }
+
+    /**
+     * Resolves an ID from the cache, loading and caching it on a miss. Failures of {@code loader} propagate
+     * unchanged, so a remote not found still reaches the caller as such; concurrent misses are joined by the
+     * coalescing client underneath.
+     *
+     * @param cache the cache region holding entries by ID
+     * @param id the ID to resolve
+     * @param type the type of the cached entries
+     * @param loader loads the entry of an uncached ID
+     * @return the resolved entry
+     */
+    static <T> T get(Cache cache, Long id, Class<T> type, Function<Long, T> loader) {
+        T cached = cache.get(id, type);
+        if (cached != null) {
+            return cached;
+        }
+        T loaded = loader.apply(id);
+        if (loaded != null) {
+            cache.put(id, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Resolves the given IDs from the cache, loading every uncached ID with a single call to {@code loader}
+     * and caching the loaded entries individually.
+     *
+     * @param cache the cache region holding entries by ID
+     * @param ids the IDs to resolve; duplicates are ignored
+     * @param type the type of the cached entries
+     * @param idOf extracts the ID of a loaded entry
+     * @param loader loads the entries for a list of uncached IDs
+     * @return the resolved entries, one per distinct ID found
+     */
+    static <T> List<T> getAll(Cache cache, List<Long> ids, Class<T> type,
+                              Function<T, Long> idOf, Function<List<Long>, List<T>> loader) {
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        List<T> result = new ArrayList<>(distinctIds.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : distinctIds) {
+            T cached = cache.get(id, type);
+            if (cached != null) {
+                result.add(cached);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            for (T loaded : loader.apply(missingIds)) {
+                Long id = idOf.apply(loaded);
+                if (id != null) {
+                    cache.put(id, loaded);
+                }
+                result.add(loaded);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks that an entity exists, calling {@code check} only when the entity is neither cached nor
+     * known to exist. Missing entities are not remembered, so they are checked again on the next call.
+     *
+     * @param entities the cache region holding the entities by ID
+     * @param existing the cache region remembering the IDs known to exist
+     * @param id the ID to check
+     * @param check the remote check, failing when the entity does not exist
+     */
+    static void check(Cache entities, Cache existing, Long id, Consumer<Long> check) {
+        if (isKnown(entities, existing, id)) {
+            return;
+        }
+        check.accept(id);
+        existing.put(id, Boolean.TRUE);
+    }
+
+    /**
+     * Tells which of the given IDs exist, sending only the IDs neither cached nor known to exist to
+     * {@code loader} and remembering the ones it reports as existing.
+     *
+     * @param entities the cache region holding the entities by ID
+     * @param existing the cache region remembering the IDs known to exist
+     * @param ids the IDs to check, possibly with duplicates
+     * @param loader checks a list of unknown IDs, answering an existence bitmap
+     * @return a bitmap whose bit {@code i} is set when the {@code i}-th ID exists
+     */
+    static byte[] existsAll(Cache entities, Cache existing, List<Long> ids, Function<List<Long>, byte[]> loader) {
+        Set<Long> found = new HashSet<>(ids.size() * 2);
+        List<Long> unknownIds = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            if (id == null) {
+                continue;
+            }
+            if (isKnown(entities, existing, id)) {
+                found.add(id);
+            } else {
+                unknownIds.add(id);
+            }
+        }
+        if (!unknownIds.isEmpty()) {
+            for (Long id : ExistenceBitmap.existing(unknownIds, loader.apply(unknownIds))) {
+                existing.put(id, Boolean.TRUE);
+                found.add(id);
+            }
+        }
+        return ExistenceBitmap.of(ids, found::contains);
+    }
+
+    private static boolean isKnown(Cache entities, Cache existing, Long id) {
+        return entities.get(id) != null || Objects.equals(existing.get(id, Boolean.class), Boolean.TRUE);
+    }
+}
@@ -0,0 +1,91 @@
+package com.gklyphon.sabor_digital.order.infrastructure.feign.cache;
+
+import com.gklyphon.sabor_digital.order.application.dtos.MenuItemDto;
+import com.gklyphon.sabor_digital.order.application.dtos.RestaurantDto;
+import com.gklyphon.sabor_digital.order.infrastructure.config.cache.CacheConfig;
+import com.gklyphon.sabor_digital.order.infrastructure.feign.clients.IRestaurantClient;
+import com.gklyphon.sabor_digital.order.infrastructure.feign.coalescing.CoalescingRestaurantClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Read-through caching decorator for {@link IRestaurantClient}.
+ *
+ * <p>Restaurants are cached by ID. Menu items are cached individually, so a lookup only asks the
+ * restaurant service for the IDs that are not cached yet.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/04
+ */
+@Primary
+@Component
+public class CachingRestaurantClient implements IRestaurantClient {
+
+    private final IRestaurantClient delegate;
+    private final Cache restaurants;
+    private final Cache menuItems;
+    private final Cache existingRestaurants;
+
+    /**
+     * Constructs a CachingRestaurantClient.
+     *
+     * @param delegate the client performing the remote calls, coalescing concurrent identical lookups
+     * @param cacheManager the cache manager providing the reference data regions
+     */
+    public CachingRestaurantClient(@Qualifier(CoalescingRestaurantClient.QUALIFIER) IRestaurantClient delegate, CacheManager cacheManager) {
+        this.delegate = delegate;
+        this.restaurants = cacheManager.getCache(CacheConfig.RESTAURANTS);
+        this.menuItems = cacheManager.getCache(CacheConfig.MENU_ITEMS);
+        this.existingRestaurants = cacheManager.getCache(CacheConfig.EXISTING_RESTAURANTS);
+    }
+
+    /**
+     * Retrieves a restaurant by its ID, calling the restaurant service only on a cache miss.
+     *
+     * @param id the ID of the restaurant to retrieve
+     * @return the corresponding RestaurantDto object
+     */
+    @Override
+    public RestaurantDto getRestaurantById(Long id) {
+        return CachedLookups.get(restaurants, id, RestaurantDto.class, delegate::getRestaurantById);
+    }
+
+    /**
+     * Retrieves the menu items with the given IDs, fetching only the uncached ones in a single remote call.
+     *
+     * @param ids List of menu item IDs to fetch.
+     * @return List of {@link MenuItemDto} corresponding to the given IDs.
+     */
+    @Override
+    public List<MenuItemDto> getByIdIn(List<Long> ids) {
+        return CachedLookups.getAll(menuItems, ids, MenuItemDto.class, MenuItemDto::getId, delegate::getByIdIn);
+    }
+
+    /**
+     * Checks that a restaurant exists, calling the restaurant service only when it is not cached or
+     * already known to exist.
+     *
+     * @param id the ID of the restaurant to check
+     */
+    @Override
+    public void checkRestaurantExists(Long id) {
+        CachedLookups.check(restaurants, existingRestaurants, id, delegate::checkRestaurantExists);
+    }
+
+    /**
+     * Checks which of the given restaurants exist, sending only the unknown ones to the restaurant service
+     * in a single call.
+     *
+     * @param ids List of restaurant IDs to check.
+     * @return a bitmap whose bit {@code i} is set when the {@code i}-th ID exists
+     */
+    @Override
+    public byte[] existsByIds(List<Long> ids) {
+        return CachedLookups.existsAll(restaurants, existingRestaurants, ids, delegate::existsByIds);
+    }
+}
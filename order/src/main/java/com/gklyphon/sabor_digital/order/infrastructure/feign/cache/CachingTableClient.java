@@ -0,0 +1,83 @@
+package com.gklyphon.sabor_digital.order.infrastructure.feign.cache;
+
+import com.gklyphon.sabor_digital.order.application.dtos.TableDto;
+import com.gklyphon.sabor_digital.order.infrastructure.config.cache.CacheConfig;
+import com.gklyphon.sabor_digital.order.infrastructure.feign.batching.BatchingTableClient;
+import com.gklyphon.sabor_digital.order.infrastructure.feign.clients.ITableClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Read-through caching decorator for {@link ITableClient}.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/04
+ */
+@Primary
+@Component
+public class CachingTableClient implements ITableClient {
+
+    private final ITableClient delegate;
+    private final Cache tables;
+    private final Cache existingTables;
+
+    /**
+     * Constructs a CachingTableClient.
+     *
+     * @param delegate the client performing the remote calls, batching concurrent lookups
+     * @param cacheManager the cache manager providing the reference data regions
+     */
+    public CachingTableClient(@Qualifier(BatchingTableClient.QUALIFIER) ITableClient delegate, CacheManager cacheManager) {
+        this.delegate = delegate;
+        this.tables = cacheManager.getCache(CacheConfig.TABLES);
+        this.existingTables = cacheManager.getCache(CacheConfig.EXISTING_TABLES);
+    }
+
+    /**
+     * Retrieves a table by its ID, calling the table service only on a cache miss.
+     *
+     * @param id the ID of the table to retrieve
+     * @return the corresponding TableDto object
+     */
+    @Override
+    public TableDto getTableById(Long id) {
+        return CachedLookups.get(tables, id, TableDto.class, delegate::getTableById);
+    }
+
+    /**
+     * Retrieves the tables with the given IDs, fetching only the uncached ones in a single remote call.
+     *
+     * @param ids List of table IDs to fetch.
+     * @return List of {@link TableDto} corresponding to the given IDs.
+     */
+    @Override
+    public List<TableDto> getTablesByIds(List<Long> ids) {
+        return CachedLookups.getAll(tables, ids, TableDto.class, TableDto::getId, delegate::getTablesByIds);
+    }
+
+    /**
+     * Checks that a table exists, calling the table service only when it is not cached or already known to exist.
+     *
+     * @param id the ID of the table to check
+     */
+    @Override
+    public void checkTableExists(Long id) {
+        CachedLookups.check(tables, existingTables, id, delegate::checkTableExists);
+    }
+
+    /**
+     * Checks which of the given tables exist, sending only the unknown ones to the table service in a single call.
+     *
+     * @param ids List of table IDs to check.
+     * @return a bitmap whose bit {@code i} is set when the {@code i}-th ID exists
+     */
+    @Override
+    public byte[] existsByIds(List<Long> ids) {
+        return CachedLookups.existsAll(tables, existingTables, ids, delegate::existsByIds);
+    }
+}
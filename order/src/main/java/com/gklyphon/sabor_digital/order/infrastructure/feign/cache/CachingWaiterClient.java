@@ -0,0 +1,83 @@
+package com.gklyphon.sabor_digital.order.infrastructure.feign.cache;
+
+import com.gklyphon.sabor_digital.order.application.dtos.WaiterDto;
+import com.gklyphon.sabor_digital.order.infrastructure.config.cache.CacheConfig;
+import com.gklyphon.sabor_digital.order.infrastructure.feign.batching.BatchingWaiterClient;
+import com.gklyphon.sabor_digital.order.infrastructure.feign.clients.IWaiterClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Read-through caching decorator for {@link IWaiterClient}.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/04
+ */
+@Primary
+@Component
+public class CachingWaiterClient implements IWaiterClient {
+
+    private final IWaiterClient delegate;
+    private final Cache waiters;
+    private final Cache existingWaiters;
+
+    /**
+     * Constructs a CachingWaiterClient.
+     *
+     * @param delegate the client performing the remote calls, batching concurrent lookups
+     * @param cacheManager the cache manager providing the reference data regions
+     */
+    public CachingWaiterClient(@Qualifier(BatchingWaiterClient.QUALIFIER) IWaiterClient delegate, CacheManager cacheManager) {
+        this.delegate = delegate;
+        this.waiters = cacheManager.getCache(CacheConfig.WAITERS);
+        this.existingWaiters = cacheManager.getCache(CacheConfig.EXISTING_WAITERS);
+    }
+
+    /**
+     * Retrieves a waiter by their ID, calling the waiter service only on a cache miss.
+     *
+     * @param id the ID of the waiter to retrieve
+     * @return the corresponding WaiterDto object
+     */
+    @Override
+    public WaiterDto getWaiterById(Long id) {
+        return CachedLookups.get(waiters, id, WaiterDto.class, delegate::getWaiterById);
+    }
+
+    /**
+     * Retrieves the waiters with the given IDs, fetching only the uncached ones in a single remote call.
+     *
+     * @param ids List of waiter IDs to fetch.
+     * @return List of {@link WaiterDto} corresponding to the given IDs.
+     */
+    @Override
+    public List<WaiterDto> getWaitersByIds(List<Long> ids) {
+        return CachedLookups.getAll(waiters, ids, WaiterDto.class, WaiterDto::getId, delegate::getWaitersByIds);
+    }
+
+    /**
+     * Checks that a waiter exists, calling the waiter service only when it is not cached or already known to exist.
+     *
+     * @param id the ID of the waiter to check
+     */
+    @Override
+    public void checkWaiterExists(Long id) {
+        CachedLookups.check(waiters, existingWaiters, id, delegate::checkWaiterExists);
+    }
+
+    /**
+     * Checks which of the given waiters exist, sending only the unknown ones to the waiter service in a single call.
+     *
+     * @param ids List of waiter IDs to check.
+     * @return a bitmap whose bit {@code i} is set when the {@code i}-th ID exists
+     */
+    @Override
+    public byte[] existsByIds(List<Long> ids) {
+        return CachedLookups.existsAll(waiters, existingWaiters, ids, delegate::existsByIds);
+    }
+}
@@ -5,7 +5,10 @@ import com.gklyphon.sabor_digital.order.application.dtos.RestaurantDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
 
 import java.util.List;
 
@@ -17,7 +20,7 @@ import java.util.List;
  * @author JFCiscoHuerta
  * @date 2025/03/16
  */
-@FeignClient(name = "restaurant-service", url = "${restaurant-service.url}")
+@FeignClient(name = "restaurant-service", url = "${restaurant-service.url}", qualifiers = "restaurantFeignClient", primary = false)
 public interface IRestaurantClient {
 
     /**
@@ -35,6 +38,24 @@ public interface IRestaurantClient {
      * @param ids List of menu item IDs to fetch.
      * @return List of {@link MenuItemDto} corresponding to the given IDs.
      */
-    @GetMapping("/api/menu-items/by-ids")
-    List<MenuItemDto> getByIdIn(@RequestParam("ids") List<Long> ids);
+    @PostMapping("/api/menu-items/by-ids")
+    List<MenuItemDto> getByIdIn(@RequestBody List<Long> ids);
+
+    /**
+     * Checks that a restaurant exists with a {@code HEAD} request, which carries no body.
+     *
+     * @param id the ID of the restaurant to check
+     * @throws feign.FeignException.NotFound if the restaurant does not exist
+     */
+    @RequestMapping(value = "/api/restaurants/{id}", method = RequestMethod.HEAD)
+    void checkRestaurantExists(@PathVariable Long id);
+
+    /**
+     * Checks which of the given restaurants exist.
+     *
+     * @param ids List of restaurant IDs to check.
+     * @return a bitmap whose bit {@code i} is set when the {@code i}-th ID exists
+     */
+    @PostMapping("/api/restaurants/exists")
+    byte[] existsByIds(@RequestBody List<Long> ids);
 }
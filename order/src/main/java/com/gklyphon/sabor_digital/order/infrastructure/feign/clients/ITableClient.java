@@ -4,6 +4,12 @@ import com.gklyphon.sabor_digital.order.application.dtos.TableDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+import java.util.List;
 
 /**
  * Feign client for interacting with the table-service.
@@ -13,7 +19,7 @@ import org.springframework.web.bind.annotation.PathVariable;
  * @author JFCiscoHuerta
  * @date 2025/03/16
  */
-@FeignClient(name = "table-service", url = "${table-service.url}")
+@FeignClient(name = "table-service", url = "${table-service.url}", qualifiers = "tableFeignClient", primary = false)
 public interface ITableClient {
 
     /**
@@ -24,4 +30,31 @@ public interface ITableClient {
      */
     @GetMapping("/api/tables/{id}")
     TableDto getTableById(@PathVariable Long id);
+
+    /**
+     * Retrieves a list of tables based on the provided list of IDs.
+     *
+     * @param ids List of table IDs to fetch.
+     * @return List of {@link TableDto} corresponding to the given IDs.
+     */
+    @PostMapping("/api/tables/by-ids")
+    List<TableDto> getTablesByIds(@RequestBody List<Long> ids);
+
+    /**
+     * Checks that a table exists with a {@code HEAD} request, which carries no body.
+     *
+     * @param id the ID of the table to check
+     * @throws feign.FeignException.NotFound if the table does not exist
+     */
+    @RequestMapping(value = "/api/tables/{id}", method = RequestMethod.HEAD)
+    void checkTableExists(@PathVariable Long id);
+
+    /**
+     * Checks which of the given tables exist.
+     *
+     * @param ids List of table IDs to check.
+     * @return a bitmap whose bit {@code i} is set when the {@code i}-th ID exists
+     */
+    @PostMapping("/api/tables/exists")
+    byte[] existsByIds(@RequestBody List<Long> ids);
 }
@@ -4,6 +4,12 @@ import com.gklyphon.sabor_digital.order.application.dtos.WaiterDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+import java.util.List;
 
 /**
  * Feign client for interacting with the waiter-service.
@@ -13,7 +19,7 @@ import org.springframework.web.bind.annotation.PathVariable;
  * @author JFCiscoHuerta
  * @date 2025/03/16
  */
-@FeignClient(name = "waiter-service", url = "${waiter-service.url}")
+@FeignClient(name = "waiter-service", url = "${waiter-service.url}", qualifiers = "waiterFeignClient", primary = false)
 public interface IWaiterClient {
 
     /**
@@ -24,4 +30,31 @@ public interface IWaiterClient {
      */
     @GetMapping("/api/waiters/{id}")
     WaiterDto getWaiterById(@PathVariable Long id);
+
+    /**
+     * Retrieves a list of waiters based on the provided list of IDs.
+     *
+     * @param ids List of waiter IDs to fetch.
+     * @return List of {@link WaiterDto} corresponding to the given IDs.
+     */
+    @PostMapping("/api/waiters/by-ids")
+    List<WaiterDto> getWaitersByIds(@RequestBody List<Long> ids);
+
+    /**
+     * Checks that a waiter exists with a {@code HEAD} request, which carries no body.
+     *
+     * @param id the ID of the waiter to check
+     * @throws feign.FeignException.NotFound if the waiter does not exist
+     */
+    @RequestMapping(value = "/api/waiters/{id}", method = RequestMethod.HEAD)
+    void checkWaiterExists(@PathVariable Long id);
+
+    /**
+     * Checks which of the given waiters exist.
+     *
+     * @param ids List of waiter IDs to check.
+     * @return a bitmap whose bit {@code i} is set when the {@code i}-th ID exists
+     */
+    @PostMapping("/api/waiters/exists")
+    byte[] existsByIds(@RequestBody List<Long> ids);
 }
@@ -0,0 +1,42 @@
+package com.gklyphon.sabor_digital.order.infrastructure.feign.coalescing;
+
+import com.gklyphon.sabor_digital.commons.utils.ExistenceBitmap;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Builds the keys under which bulk lookups are coalesced.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/05/01
+ */
+final class CoalescingKeys {
+
+    private CoalescingKeys() {
+    }
+
+    /**
+     * Normalizes a list of IDs into its sorted distinct IDs, so lookups of the same set share a key
+     * whatever the order or repetitions of the request.
+     *
+     * @param ids the requested IDs
+     * @return the sorted distinct non-null IDs
+     */
+    static List<Long> of(List<Long> ids) {
+        return ids.stream().filter(Objects::nonNull).distinct().sorted().toList();
+    }
+
+    /**
+     * Reorders the existence bitmap answered for a normalized key so its bits follow the requested IDs.
+     *
+     * @param key the sorted distinct IDs the bitmap was answered for
+     * @param bitmap the bitmap answered for {@code key}
+     * @param ids the requested IDs
+     * @return the bitmap whose bit {@code i} tells whether the {@code i}-th requested ID exists
+     */
+    static byte[] remap(List<Long> key, byte[] bitmap, List<Long> ids) {
+        return ExistenceBitmap.of(ids, id -> ExistenceBitmap.contains(bitmap, Collections.binarySearch(key, id)));
+    }
+}
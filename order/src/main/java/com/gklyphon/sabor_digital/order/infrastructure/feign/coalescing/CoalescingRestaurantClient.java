@@ -0,0 +1,88 @@
+package com.gklyphon.sabor_digital.order.infrastructure.feign.coalescing;
+
+import com.gklyphon.sabor_digital.order.application.dtos.MenuItemDto;
+import com.gklyphon.sabor_digital.order.application.dtos.RestaurantDto;
+import com.gklyphon.sabor_digital.order.infrastructure.feign.clients.IRestaurantClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Request-coalescing decorator for {@link IRestaurantClient}.
+ *
+ * <p>Concurrent lookups or existence checks of the same restaurant, lookups of the same set of menu items,
+ * or existence checks of the same set of restaurants share one remote call.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/05/01
+ */
+@Component(CoalescingRestaurantClient.QUALIFIER)
+public class CoalescingRestaurantClient implements IRestaurantClient {
+
+    public static final String QUALIFIER = "restaurantCoalescingClient";
+
+    private final IRestaurantClient delegate;
+    private final SingleFlight<Long, RestaurantDto> restaurants = new SingleFlight<>();
+    private final SingleFlight<List<Long>, List<MenuItemDto>> menuItems = new SingleFlight<>();
+    private final SingleFlight<Long, Boolean> checks = new SingleFlight<>();
+    private final SingleFlight<List<Long>, byte[]> bitmaps = new SingleFlight<>();
+
+    /**
+     * Constructs a CoalescingRestaurantClient.
+     *
+     * @param delegate the Feign client performing the remote calls
+     */
+    public CoalescingRestaurantClient(@Qualifier("restaurantFeignClient") IRestaurantClient delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Retrieves a restaurant by its ID, joining any call already running for it.
+     *
+     * @param id the ID of the restaurant to retrieve
+     * @return the corresponding RestaurantDto object
+     */
+    @Override
+    public RestaurantDto getRestaurantById(Long id) {
+        return restaurants.execute(id, () -> delegate.getRestaurantById(id));
+    }
+
+    /**
+     * Retrieves the menu items with the given IDs, joining any call already running for the same IDs.
+     *
+     * @param ids List of menu item IDs to fetch.
+     * @return List of {@link MenuItemDto} corresponding to the given IDs.
+     */
+    @Override
+    public List<MenuItemDto> getByIdIn(List<Long> ids) {
+        List<Long> key = CoalescingKeys.of(ids);
+        return menuItems.execute(key, () -> delegate.getByIdIn(key));
+    }
+
+    /**
+     * Checks that a restaurant exists, joining any check already running for it.
+     *
+     * @param id the ID of the restaurant to check
+     */
+    @Override
+    public void checkRestaurantExists(Long id) {
+        checks.execute(id, () -> {
+            delegate.checkRestaurantExists(id);
+            return Boolean.TRUE;
+        });
+    }
+
+    /**
+     * Checks which of the given restaurants exist, joining any check already running for the same IDs.
+     *
+     * @param ids List of restaurant IDs to check.
+     * @return a bitmap whose bit {@code i} is set when the {@code i}-th ID exists
+     */
+    @Override
+    public byte[] existsByIds(List<Long> ids) {
+        List<Long> key = CoalescingKeys.of(ids);
+        byte[] bitmap = bitmaps.execute(key, () -> delegate.existsByIds(key));
+        return CoalescingKeys.remap(key, bitmap, ids);
+    }
+}
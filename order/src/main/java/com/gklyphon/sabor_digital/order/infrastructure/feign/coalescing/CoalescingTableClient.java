@@ -0,0 +1,87 @@
+package com.gklyphon.sabor_digital.order.infrastructure.feign.coalescing;
+
+import com.gklyphon.sabor_digital.order.application.dtos.TableDto;
+import com.gklyphon.sabor_digital.order.infrastructure.feign.clients.ITableClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Request-coalescing decorator for {@link ITableClient}.
+ *
+ * <p>Concurrent lookups or existence checks of the same table, or of the same set of tables, share one
+ * remote call.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/05/01
+ */
+@Component(CoalescingTableClient.QUALIFIER)
+public class CoalescingTableClient implements ITableClient {
+
+    public static final String QUALIFIER = "tableCoalescingClient";
+
+    private final ITableClient delegate;
+    private final SingleFlight<Long, TableDto> tables = new SingleFlight<>();
+    private final SingleFlight<List<Long>, List<TableDto>> batches = new SingleFlight<>();
+    private final SingleFlight<Long, Boolean> checks = new SingleFlight<>();
+    private final SingleFlight<List<Long>, byte[]> bitmaps = new SingleFlight<>();
+
+    /**
+     * Constructs a CoalescingTableClient.
+     *
+     * @param delegate the Feign client performing the remote calls
+     */
+    public CoalescingTableClient(@Qualifier("tableFeignClient") ITableClient delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Retrieves a table by their ID, joining any call already running for it.
+     *
+     * @param id the ID of the table to retrieve
+     * @return the corresponding TableDto object
+     */
+    @Override
+    public TableDto getTableById(Long id) {
+        return tables.execute(id, () -> delegate.getTableById(id));
+    }
+
+    /**
+     * Retrieves the tables with the given IDs, joining any call already running for the same IDs.
+     *
+     * @param ids List of table IDs to fetch.
+     * @return List of {@link TableDto} corresponding to the given IDs.
+     */
+    @Override
+    public List<TableDto> getTablesByIds(List<Long> ids) {
+        List<Long> key = CoalescingKeys.of(ids);
+        return batches.execute(key, () -> delegate.getTablesByIds(key));
+    }
+
+    /**
+     * Checks that a table exists, joining any check already running for it.
+     *
+     * @param id the ID of the table to check
+     */
+    @Override
+    public void checkTableExists(Long id) {
+        checks.execute(id, () -> {
+            delegate.checkTableExists(id);
+            return Boolean.TRUE;
+        });
+    }
+
+    /**
+     * Checks which of the given tables exist, joining any check already running for the same IDs.
+     *
+     * @param ids List of table IDs to check.
+     * @return a bitmap whose bit {@code i} is set when the {@code i}-th ID exists
+     */
+    @Override
+    public byte[] existsByIds(List<Long> ids) {
+        List<Long> key = CoalescingKeys.of(ids);
+        byte[] bitmap = bitmaps.execute(key, () -> delegate.existsByIds(key));
+        return CoalescingKeys.remap(key, bitmap, ids);
+    }
+}
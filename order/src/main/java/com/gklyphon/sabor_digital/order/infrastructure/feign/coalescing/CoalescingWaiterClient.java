@@ -0,0 +1,87 @@
+package com.gklyphon.sabor_digital.order.infrastructure.feign.coalescing;
+
+import com.gklyphon.sabor_digital.order.application.dtos.WaiterDto;
+import com.gklyphon.sabor_digital.order.infrastructure.feign.clients.IWaiterClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Request-coalescing decorator for {@link IWaiterClient}.
+ *
+ * <p>Concurrent lookups or existence checks of the same waiter, or of the same set of waiters, share one
+ * remote call.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/05/01
+ */
+@Component(CoalescingWaiterClient.QUALIFIER)
+public class CoalescingWaiterClient implements IWaiterClient {
+
+    public static final String QUALIFIER = "waiterCoalescingClient";
+
+    private final IWaiterClient delegate;
+    private final SingleFlight<Long, WaiterDto> waiters = new SingleFlight<>();
+    private final SingleFlight<List<Long>, List<WaiterDto>> batches = new SingleFlight<>();
+    private final SingleFlight<Long, Boolean> checks = new SingleFlight<>();
+    private final SingleFlight<List<Long>, byte[]> bitmaps = new SingleFlight<>();
+
+    /**
+     * Constructs a CoalescingWaiterClient.
+     *
+     * @param delegate the Feign client performing the remote calls
+     */
+    public CoalescingWaiterClient(@Qualifier("waiterFeignClient") IWaiterClient delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Retrieves a waiter by their ID, joining any call already running for it.
+     *
+     * @param id the ID of the waiter to retrieve
+     * @return the corresponding WaiterDto object
+     */
+    @Override
+    public WaiterDto getWaiterById(Long id) {
+        return waiters.execute(id, () -> delegate.getWaiterById(id));
+    }
+
+    /**
+     * Retrieves the waiters with the given IDs, joining any call already running for the same IDs.
+     *
+     * @param ids List of waiter IDs to fetch.
+     * @return List of {@link WaiterDto} corresponding to the given IDs.
+     */
+    @Override
+    public List<WaiterDto> getWaitersByIds(List<Long> ids) {
+        List<Long> key = CoalescingKeys.of(ids);
+        return batches.execute(key, () -> delegate.getWaitersByIds(key));
+    }
+
+    /**
+     * Checks that a waiter exists, joining any check already running for it.
+     *
+     * @param id the ID of the waiter to check
+     */
+    @Override
+    public void checkWaiterExists(Long id) {
+        checks.execute(id, () -> {
+            delegate.checkWaiterExists(id);
+            return Boolean.TRUE;
+        });
+    }
+
+    /**
+     * Checks which of the given waiters exist, joining any check already running for the same IDs.
+     *
+     * @param ids List of waiter IDs to check.
+     * @return a bitmap whose bit {@code i} is set when the {@code i}-th ID exists
+     */
+    @Override
+    public byte[] existsByIds(List<Long> ids) {
+        List<Long> key = CoalescingKeys.of(ids);
+        byte[] bitmap = bitmaps.execute(key, () -> delegate.existsByIds(key));
+        return CoalescingKeys.remap(key, bitmap, ids);
+    }
+}
@@ -0,0 +1,72 @@
+package com.gklyphon.sabor_digital.order.infrastructure.feign.coalescing;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Merges concurrent calls for the same key into a single execution.
+ *
+ * <p>The first caller of a key runs the call while later callers of that key wait for its outcome,
+ * receiving the same result or the same exception. The key is released as soon as the call completes,
+ * so nothing is remembered afterwards and the next caller triggers a fresh execution.</p>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the results
+ * @author JFCiscoHuerta
+ * @date 2025/05/01
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Runs the call for a key, or waits for the one already running for it.
+     *
+     * @param key the key identifying the call
+     * @param call the call to run when no other caller is running it
+     * @return the result of the call
+     */
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            return await(running);
+        }
+        try {
+            V result = call.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Returns the number of calls currently running.
+     *
+     * @return the number of keys in flight
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
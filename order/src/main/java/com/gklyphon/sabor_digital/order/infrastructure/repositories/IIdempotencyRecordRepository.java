@@ -0,0 +1,39 @@
+package com.gklyphon.sabor_digital.order.infrastructure.repositories;
+
+import com.gklyphon.sabor_digital.order.domain.models.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for accessing the stored responses of idempotent requests.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/27
+ */
+public interface IIdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * Deletes the record of a key if it has expired, so the key can be used again.
+     *
+     * @param key the idempotency key
+     * @param now the current moment
+     * @return the number of deleted records
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.key = :key AND r.expiresAt <= :now")
+    int deleteExpired(@Param("key") String key, @Param("now") LocalDateTime now);
+
+    /**
+     * Deletes every expired record with a single statement.
+     *
+     * @param now the current moment
+     * @return the number of deleted records
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt <= :now")
+    int deleteAllExpired(@Param("now") LocalDateTime now);
+}
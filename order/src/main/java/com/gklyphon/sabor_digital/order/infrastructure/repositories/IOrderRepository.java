@@ -1,9 +1,27 @@
 package com.gklyphon.sabor_digital.order.infrastructure.repositories;
 
 import com.gklyphon.sabor_digital.order.domain.models.Order;
+import com.gklyphon.sabor_digital.order.domain.models.enums.OrderStatus;
+import com.gklyphon.sabor_digital.order.infrastructure.repositories.projections.OrderExportRow;
+import com.gklyphon.sabor_digital.order.infrastructure.repositories.projections.OrderItemSaleRow;
+import com.gklyphon.sabor_digital.order.infrastructure.repositories.projections.OrderStatusView;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for accessing Order data from the database.
@@ -23,4 +41,109 @@ public interface IOrderRepository extends JpaRepository<Order, Long> {
      * @return a page of orders associated with the specified restaurant ID
      */
     Page<Order> findAllByRestaurantId(Long restaurantId, Pageable pageable);
+
+    /**
+     * Finds the most recent orders of a restaurant, newest first.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param limit the maximum number of orders to return
+     * @return the first orders of the restaurant
+     */
+    @Query("SELECT o FROM Order o WHERE o.restaurantId = :restaurantId ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findFirstByRestaurantId(@Param("restaurantId") Long restaurantId, Limit limit);
+
+    /**
+     * Finds the orders of a restaurant that come after the given position, newest first.
+     * The predicate matches the {@code (restaurant_id, created_at, id)} index, so the cost of a page
+     * does not depend on how many orders precede it.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param createdAt the creation timestamp of the last order of the previous page
+     * @param id the ID of the last order of the previous page
+     * @param limit the maximum number of orders to return
+     * @return the orders following the given position
+     */
+    @Query("SELECT o FROM Order o WHERE o.restaurantId = :restaurantId " +
+            "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findNextByRestaurantId(@Param("restaurantId") Long restaurantId, @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id, Limit limit);
+
+    /**
+     * Counts the orders of a restaurant.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @return the number of orders of the restaurant
+     */
+    long countByRestaurantId(Long restaurantId);
+
+    /**
+     * Finds the restaurant and current status of an order without loading the entity or its items.
+     *
+     * @param id the ID of the order
+     * @return the status view of the order, if it exists
+     */
+    Optional<OrderStatusView> findStatusViewById(Long id);
+
+    /**
+     * Finds an order and locks its row until the end of the transaction, so concurrent updates and deletes
+     * of the same order are applied one after the other.
+     *
+     * @param id the ID of the order
+     * @return the locked order, if it exists
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.id = :id")
+    Optional<Order> findLockedById(@Param("id") Long id);
+
+    /**
+     * Changes the status of an order only if it still has the expected status.
+     *
+     * @param id the ID of the order
+     * @param expected the status the order is expected to have, {@code null} for orders without status
+     * @param target the new status
+     * @param updatedAt the modification timestamp
+     * @return the number of updated rows, {@code 0} if the order changed concurrently
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Order o SET o.orderStatus = :target, o.updatedAt = :updatedAt " +
+            "WHERE o.id = :id AND (o.orderStatus = :expected OR (o.orderStatus IS NULL AND :expected IS NULL))")
+    int updateOrderStatus(@Param("id") Long id, @Param("expected") OrderStatus expected,
+                          @Param("target") OrderStatus target, @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Streams the orders of a restaurant created within a time window, oldest first, as one row per item.
+     * The rows are read through a forward-only cursor and are not attached to the persistence context,
+     * so memory use does not grow with the number of orders. Must be consumed inside a transaction.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param from the start of the window, inclusive
+     * @param to the end of the window, exclusive
+     * @return the export rows, grouped by order
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.gklyphon.sabor_digital.order.infrastructure.repositories.projections.OrderExportRow(" +
+            "o.id, o.restaurantId, o.waiterId, o.tableId, o.price, o.orderType, o.paymentType, o.orderStatus, " +
+            "o.createdAt, o.updatedAt, item) " +
+            "FROM Order o LEFT JOIN o.itemsId item " +
+            "WHERE o.restaurantId = :restaurantId AND o.createdAt >= :from AND o.createdAt < :to " +
+            "ORDER BY o.createdAt, o.id")
+    Stream<OrderExportRow> streamExportRows(@Param("restaurantId") Long restaurantId,
+                                            @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * Streams every item of the orders created within a time window, across all restaurants, in no particular
+     * order. Only the {@code created_at} index and the {@code order_items} rows of the window are read.
+     * Must be consumed inside a transaction.
+     *
+     * @param from the start of the window, inclusive
+     * @param to the end of the window, exclusive
+     * @return one row per ordered item
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.gklyphon.sabor_digital.order.infrastructure.repositories.projections.OrderItemSaleRow(" +
+            "o.restaurantId, o.createdAt, item) " +
+            "FROM Order o JOIN o.itemsId item " +
+            "WHERE o.createdAt >= :from AND o.createdAt < :to")
+    Stream<OrderItemSaleRow> streamItemSales(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
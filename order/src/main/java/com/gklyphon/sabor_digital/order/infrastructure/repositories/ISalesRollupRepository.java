@@ -0,0 +1,57 @@
+package com.gklyphon.sabor_digital.order.infrastructure.repositories;
+
+import com.gklyphon.sabor_digital.order.domain.models.SalesRollup;
+import com.gklyphon.sabor_digital.order.domain.models.SalesRollupId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for accessing the sales rollups.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/25
+ */
+public interface ISalesRollupRepository extends JpaRepository<SalesRollup, SalesRollupId> {
+
+    /**
+     * Adds the given deltas to a bucket, creating it if it does not exist. The upsert is a single
+     * statement, so concurrent transactions creating the same bucket do not conflict.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param bucketStart the start of the hour
+     * @param orderType the name of the order type
+     * @param paymentType the name of the payment type
+     * @param orderCount the change in the number of orders
+     * @param revenue the change in revenue
+     * @return the number of affected rows
+     */
+    @Modifying
+    @Query(value = "INSERT INTO sales_rollups (restaurant_id, bucket_start, order_type, payment_type, order_count, revenue) " +
+            "VALUES (:restaurantId, :bucketStart, :orderType, :paymentType, :orderCount, :revenue) " +
+            "ON CONFLICT (restaurant_id, bucket_start, order_type, payment_type) DO UPDATE SET " +
+            "order_count = sales_rollups.order_count + EXCLUDED.order_count, " +
+            "revenue = sales_rollups.revenue + EXCLUDED.revenue", nativeQuery = true)
+    int upsert(@Param("restaurantId") Long restaurantId, @Param("bucketStart") LocalDateTime bucketStart,
+               @Param("orderType") String orderType, @Param("paymentType") String paymentType,
+               @Param("orderCount") long orderCount, @Param("revenue") BigDecimal revenue);
+
+    /**
+     * Finds the non-empty buckets of a restaurant starting within a time window.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param from the start of the window, inclusive
+     * @param to the end of the window, exclusive
+     * @return the buckets, ordered by hour, order type and payment type
+     */
+    @Query("SELECT r FROM SalesRollup r WHERE r.id.restaurantId = :restaurantId " +
+            "AND r.id.bucketStart >= :from AND r.id.bucketStart < :to AND r.orderCount > 0 " +
+            "ORDER BY r.id.bucketStart, r.id.orderType, r.id.paymentType")
+    List<SalesRollup> findAllByRestaurantIdInWindow(@Param("restaurantId") Long restaurantId,
+                                                    @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
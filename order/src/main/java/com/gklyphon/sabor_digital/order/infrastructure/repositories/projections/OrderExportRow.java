@@ -0,0 +1,31 @@
+package com.gklyphon.sabor_digital.order.infrastructure.repositories.projections;
+
+import com.gklyphon.sabor_digital.order.domain.models.enums.OrderStatus;
+import com.gklyphon.sabor_digital.order.domain.models.enums.OrderType;
+import com.gklyphon.sabor_digital.order.domain.models.enums.PaymentType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One row of the order export: the columns of an order joined with one of its item IDs.
+ * Orders without items produce a single row with a {@code null} item ID.
+ *
+ * @param id           the ID of the order
+ * @param restaurantId the ID of the restaurant
+ * @param waiterId     the ID of the waiter
+ * @param tableId      the ID of the table
+ * @param price        the total price of the order
+ * @param orderType    the type of the order
+ * @param paymentType  the payment type of the order
+ * @param orderStatus  the status of the order
+ * @param createdAt    the creation timestamp of the order
+ * @param updatedAt    the modification timestamp of the order
+ * @param itemId       one item ID of the order, or {@code null}
+ * @author JFCiscoHuerta
+ * @date 2025/04/24
+ */
+public record OrderExportRow(Long id, Long restaurantId, Long waiterId, Long tableId, BigDecimal price,
+                             OrderType orderType, PaymentType paymentType, OrderStatus orderStatus,
+                             LocalDateTime createdAt, LocalDateTime updatedAt, Long itemId) {
+}
@@ -0,0 +1,15 @@
+package com.gklyphon.sabor_digital.order.infrastructure.repositories.projections;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of the {@code order_items} table with the restaurant and creation timestamp of its order.
+ *
+ * @param restaurantId the ID of the restaurant
+ * @param createdAt    the creation timestamp of the order
+ * @param itemId       the ID of the ordered item
+ * @author JFCiscoHuerta
+ * @date 2025/04/26
+ */
+public record OrderItemSaleRow(Long restaurantId, LocalDateTime createdAt, Long itemId) {
+}
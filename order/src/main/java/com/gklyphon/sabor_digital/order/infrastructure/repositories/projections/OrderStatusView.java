@@ -0,0 +1,30 @@
+package com.gklyphon.sabor_digital.order.infrastructure.repositories.projections;
+
+import com.gklyphon.sabor_digital.order.domain.models.enums.OrderStatus;
+import com.gklyphon.sabor_digital.order.domain.models.enums.OrderType;
+import com.gklyphon.sabor_digital.order.domain.models.enums.PaymentType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Projection exposing only the columns needed to change the status of an order
+ * and adjust the sales rollups accordingly.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/12
+ */
+public interface OrderStatusView {
+
+    Long getRestaurantId();
+
+    OrderStatus getOrderStatus();
+
+    OrderType getOrderType();
+
+    PaymentType getPaymentType();
+
+    BigDecimal getPrice();
+
+    LocalDateTime getCreatedAt();
+}
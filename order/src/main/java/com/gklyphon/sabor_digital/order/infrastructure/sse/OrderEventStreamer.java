@@ -0,0 +1,234 @@
+package com.gklyphon.sabor_digital.order.infrastructure.sse;
+
+import com.gklyphon.sabor_digital.order.application.events.OrderEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pushes order events to the kitchen displays and handhelds subscribed to a restaurant over server-sent events.
+ *
+ * <p>Every subscriber owns a bounded buffer drained by its own thread, so a slow or stalled
+ * client never blocks the publisher or the other subscribers. Pending events are conflated per order: a
+ * newer event replaces the one still waiting for the same order, since every event carries the full
+ * current status of its order. A subscriber with more distinct orders pending than its buffer holds is
+ * completed instead, so the client reconnects and reloads rather than silently missing an order.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/10
+ */
+@Component
+public class OrderEventStreamer {
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Counter conflatedEvents;
+    private final Counter overflowedSubscribers;
+    private final int bufferSize;
+    private final long timeoutMillis;
+
+    /**
+     * Constructs an OrderEventStreamer.
+     *
+     * @param meterRegistry registry exposing the subscriber, conflation and overflow metrics
+     * @param bufferSize maximum number of orders with a pending event per subscriber
+     * @param timeoutMillis lifetime of a subscription before the client has to reconnect, in milliseconds
+     */
+    public OrderEventStreamer(MeterRegistry meterRegistry,
+                              @Value("${order.stream.buffer-size:256}") int bufferSize,
+                              @Value("${order.stream.timeout-ms:1800000}") long timeoutMillis) {
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+        this.conflatedEvents = Counter.builder("order.stream.conflated")
+                .description("Pending order events replaced by a newer event of the same order")
+                .register(meterRegistry);
+        this.overflowedSubscribers = Counter.builder("order.stream.overflowed")
+                .description("Subscriptions completed because their buffer was full")
+                .register(meterRegistry);
+        Gauge.builder("order.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open order event subscriptions")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a new subscription to the events of a restaurant.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @return the emitter streaming the events to the client
+     */
+    public SseEmitter subscribe(Long restaurantId) {
+        return subscribe(restaurantId, new SseEmitter(timeoutMillis));
+    }
+
+    /**
+     * Opens a new subscription to the events of a restaurant that streams through the given emitter.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param emitter the emitter streaming the events to the client
+     * @return the given emitter
+     */
+    SseEmitter subscribe(Long restaurantId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(restaurantId, emitter);
+        subscribers.computeIfAbsent(restaurantId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriberCount.incrementAndGet();
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(ex -> subscriber.close());
+        subscriber.start();
+        return emitter;
+    }
+
+    /**
+     * Forwards an order event to every subscriber of its restaurant once the originating transaction commits.
+     *
+     * @param event the order event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderEvent(OrderEvent event) {
+        Set<Subscriber> restaurantSubscribers = subscribers.get(event.getRestaurantId());
+        if (restaurantSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : restaurantSubscribers) {
+            subscriber.offer(event);
+        }
+    }
+
+    /**
+     * A single client subscription with its bounded, per-order conflating buffer and draining thread.
+     *
+     * <p>Only the draining thread touches the emitter. {@code SseEmitter} writes while holding its monitor, so a
+     * publisher completing an overflowing subscriber itself would wait behind a write stuck on a stalled socket;
+     * it just closes the buffer instead and the drainer completes the emitter once its current write returns.
+     * The drainer is a platform thread because a virtual thread blocked inside that monitor would pin its
+     * carrier.</p>
+     */
+    private final class Subscriber {
+
+        private final Long restaurantId;
+        private final SseEmitter emitter;
+        private final Map<Long, OrderEvent> pending = new LinkedHashMap<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notEmpty = lock.newCondition();
+        private boolean closed;
+        private boolean overflowed;
+
+        private Subscriber(Long restaurantId, SseEmitter emitter) {
+            this.restaurantId = restaurantId;
+            this.emitter = emitter;
+        }
+
+        private void start() {
+            Thread.ofPlatform().daemon().name("order-stream-" + restaurantId).start(this::drain);
+        }
+
+        private void offer(OrderEvent event) {
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                if (pending.containsKey(event.getOrderId())) {
+                    pending.put(event.getOrderId(), event);
+                    conflatedEvents.increment();
+                    return;
+                }
+                if (pending.size() < bufferSize) {
+                    pending.put(event.getOrderId(), event);
+                    notEmpty.signal();
+                    return;
+                }
+                overflowed = true;
+                shutDown();
+            } finally {
+                lock.unlock();
+            }
+            overflowedSubscribers.increment();
+            unregister();
+        }
+
+        /**
+         * Waits for the next pending event.
+         *
+         * @return the oldest pending event, or {@code null} once the subscriber is closed
+         */
+        private OrderEvent take() throws InterruptedException {
+            lock.lock();
+            try {
+                while (pending.isEmpty() && !closed) {
+                    notEmpty.await();
+                }
+                if (closed) {
+                    return null;
+                }
+                Iterator<OrderEvent> iterator = pending.values().iterator();
+                OrderEvent event = iterator.next();
+                iterator.remove();
+                return event;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void drain() {
+            try {
+                OrderEvent event;
+                while ((event = take()) != null) {
+                    emitter.send(SseEmitter.event()
+                            .name("order")
+                            .id(String.valueOf(event.getOrderId()))
+                            .data(event));
+                }
+                if (overflowed) {
+                    emitter.complete();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException ex) {
+                emitter.completeWithError(ex);
+                close();
+            }
+        }
+
+        private void close() {
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                shutDown();
+            } finally {
+                lock.unlock();
+            }
+            unregister();
+        }
+
+        private void shutDown() {
+            closed = true;
+            pending.clear();
+            notEmpty.signal();
+        }
+
+        private void unregister() {
+            Set<Subscriber> restaurantSubscribers = subscribers.get(restaurantId);
+            if (restaurantSubscribers != null && restaurantSubscribers.remove(this)) {
+                subscriberCount.decrementAndGet();
+            }
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.gklyphon.sabor_digital.order;
 
-import com.gklyphon.sabor_digital.order.application.dtos.OrderDto;
+import com.gklyphon.sabor_digital.order.application.dtos.*;
 import com.gklyphon.sabor_digital.order.domain.models.Order;
 import com.gklyphon.sabor_digital.order.domain.models.enums.OrderStatus;
 import com.gklyphon.sabor_digital.order.domain.models.enums.OrderType;
@@ -38,4 +38,29 @@ public class TestData {
 
     public static final Page<Order> ORDER_PAGE = new PageImpl<>(List.of(ORDER));
 
+    public static final RestaurantDto RESTAURANT_DTO = new RestaurantDto.Builder()
+            .name("Sabor")
+            .address("Main St. 1")
+            .build();
+
+    public static final MenuItemDto MENU_ITEM_DTO = new MenuItemDto.Builder()
+            .name("Tacos")
+            .price(new BigDecimal("61.5"))
+            .preparationTime(10)
+            .menuId(1L)
+            .build();
+
+    public static final TableDto TABLE_DTO = new TableDto.Builder()
+            .restaurantId(1L)
+            .tableIdentifier("T1")
+            .waitersId(List.of(1L))
+            .build();
+
+    public static final WaiterDto WAITER_DTO = new WaiterDto.Builder()
+            .firstname("John")
+            .lastname("Doe")
+            .restaurantId(1L)
+            .tablesId(List.of(1L))
+            .build();
+
 }
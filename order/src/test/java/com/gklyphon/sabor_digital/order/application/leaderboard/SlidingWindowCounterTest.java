@@ -0,0 +1,75 @@
+package com.gklyphon.sabor_digital.order.application.leaderboard;
+
+import com.gklyphon.sabor_digital.order.application.dtos.TopSellersDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlidingWindowCounterTest {
+
+    private static final long MINUTE = 60;
+    private static final long HOUR = 60 * MINUTE;
+    private static final long NOW = 1_745_668_800L;
+
+    private SlidingWindowCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new SlidingWindowCounter(Duration.ofMinutes(1));
+    }
+
+    @Test
+    void testTop_RanksByQuantityThenId() {
+        counter.add(NOW, 3L, 2);
+        counter.add(NOW, 1L, 5);
+        counter.add(NOW - MINUTE, 2L, 2);
+        counter.add(NOW - 2 * MINUTE, 1L, 1);
+
+        List<TopSellersDto.Entry> top = counter.top(TopSellersWindow.HOUR, NOW, 2);
+
+        assertEquals(2, top.size());
+        assertEquals(1L, top.get(0).getItemId());
+        assertEquals(6, top.get(0).getQuantity());
+        assertEquals(2L, top.get(1).getItemId());
+        assertEquals(2, top.get(1).getQuantity());
+    }
+
+    @Test
+    void testTop_ExpiresBucketsLeavingEachWindow() {
+        counter.add(NOW, 1L, 4);
+        counter.add(NOW + 30 * MINUTE, 2L, 1);
+
+        assertEquals(List.of(2L), itemIds(counter.top(TopSellersWindow.HOUR, NOW + HOUR, 10)));
+        assertEquals(List.of(1L, 2L), itemIds(counter.top(TopSellersWindow.DAY, NOW + HOUR, 10)));
+        assertEquals(List.of(2L), itemIds(counter.top(TopSellersWindow.DAY, NOW + 24 * HOUR, 10)));
+        assertTrue(counter.top(TopSellersWindow.DAY, NOW + 25 * HOUR, 10).isEmpty());
+    }
+
+    @Test
+    void testAdd_LateItemsOnlyCountInWindowsTheyFallIn() {
+        counter.add(NOW, 1L, 1);
+        counter.add(NOW - 2 * HOUR, 2L, 3);
+        counter.add(NOW - 25 * HOUR, 3L, 7);
+
+        assertEquals(List.of(1L), itemIds(counter.top(TopSellersWindow.HOUR, NOW, 10)));
+        assertEquals(List.of(2L, 1L), itemIds(counter.top(TopSellersWindow.DAY, NOW, 10)));
+        assertEquals(List.of(1L), itemIds(counter.top(TopSellersWindow.DAY, NOW + 22 * HOUR + MINUTE, 10)));
+    }
+
+    @Test
+    void testTop_ClearsAfterLongIdlePeriod() {
+        counter.add(NOW, 1L, 1);
+        assertTrue(counter.top(TopSellersWindow.DAY, NOW + 3 * 24 * HOUR, 10).isEmpty());
+
+        counter.add(NOW + 3 * 24 * HOUR, 1L, 2);
+        assertEquals(2, counter.top(TopSellersWindow.HOUR, NOW + 3 * 24 * HOUR, 10).get(0).getQuantity());
+    }
+
+    private static List<Long> itemIds(List<TopSellersDto.Entry> entries) {
+        return entries.stream().map(TopSellersDto.Entry::getItemId).toList();
+    }
+}
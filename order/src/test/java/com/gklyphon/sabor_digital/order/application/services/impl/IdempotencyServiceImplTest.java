@@ -0,0 +1,134 @@
+package com.gklyphon.sabor_digital.order.application.services.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.sabor_digital.order.application.idempotency.IdempotentResponse;
+import com.gklyphon.sabor_digital.order.domain.models.IdempotencyRecord;
+import com.gklyphon.sabor_digital.order.infrastructure.exception.exceptions.IdempotencyConflictException;
+import com.gklyphon.sabor_digital.order.infrastructure.exception.exceptions.InvalidIdempotencyKeyException;
+import com.gklyphon.sabor_digital.order.infrastructure.repositories.IIdempotencyRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceImplTest {
+
+    private static final Map<String, Object> REQUEST = Map.of("restaurantId", 1);
+
+    @Mock
+    private IIdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private IdempotencyServiceImpl idempotencyService;
+    private final AtomicInteger executions = new AtomicInteger();
+    private final Supplier<Object> action = () -> Map.of("id", executions.incrementAndGet());
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyServiceImpl(idempotencyRecordRepository, transactionManager,
+                new ObjectMapper(), Duration.ofHours(24), 100);
+    }
+
+    @Test
+    void testExecute_ReplaysFromMemoryWithoutExecutingAgain() {
+        when(idempotencyRecordRepository.findById("key-1")).thenReturn(Optional.empty());
+        when(idempotencyRecordRepository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        IdempotentResponse first = idempotencyService.execute("key-1", REQUEST, 201, action);
+        IdempotentResponse retry = idempotencyService.execute("key-1", REQUEST, 201, action);
+
+        assertFalse(first.replayed());
+        assertTrue(retry.replayed());
+        assertEquals(201, retry.status());
+        assertEquals("{\"id\":1}", new String(retry.body(), StandardCharsets.UTF_8));
+        assertEquals(1, executions.get());
+        verify(idempotencyRecordRepository, times(1)).findById("key-1");
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void testExecute_ReplaysFromDatabase() {
+        IdempotencyRecord record = storedRecord("key-1", REQUEST);
+        when(idempotencyRecordRepository.findById("key-1")).thenReturn(Optional.of(record));
+
+        IdempotentResponse retry = idempotencyService.execute("key-1", REQUEST, 201, action);
+
+        assertTrue(retry.replayed());
+        assertEquals("{\"id\":7}", new String(retry.body(), StandardCharsets.UTF_8));
+        assertEquals(0, executions.get());
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void testExecute_RejectsKeyReusedForDifferentRequest() {
+        when(idempotencyRecordRepository.findById("key-1")).thenReturn(Optional.of(storedRecord("key-1", REQUEST)));
+
+        assertThrows(IdempotencyConflictException.class,
+                () -> idempotencyService.execute("key-1", Map.of("restaurantId", 2), 201, action));
+        assertEquals(0, executions.get());
+    }
+
+    @Test
+    void testExecute_ReplaysWinnerOfConcurrentInsert() {
+        when(idempotencyRecordRepository.findById("key-1"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(storedRecord("key-1", REQUEST)));
+        when(idempotencyRecordRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        IdempotentResponse response = idempotencyService.execute("key-1", REQUEST, 201, action);
+
+        assertTrue(response.replayed());
+        assertEquals(0, executions.get());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void testExecute_IgnoresExpiredRecord() {
+        IdempotencyRecord expired = new IdempotencyRecord("key-1", "stale", LocalDateTime.now().minusDays(2),
+                LocalDateTime.now().minusDays(1));
+        expired.setResponse(201, new byte[0]);
+        when(idempotencyRecordRepository.findById("key-1")).thenReturn(Optional.of(expired));
+        when(idempotencyRecordRepository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        IdempotentResponse response = idempotencyService.execute("key-1", REQUEST, 201, action);
+
+        assertFalse(response.replayed());
+        assertEquals(1, executions.get());
+        verify(idempotencyRecordRepository).deleteExpired(eq("key-1"), any());
+    }
+
+    @Test
+    void testExecute_RejectsInvalidKey() {
+        assertThrows(InvalidIdempotencyKeyException.class, () -> idempotencyService.execute(" ", REQUEST, 201, action));
+        assertThrows(InvalidIdempotencyKeyException.class,
+                () -> idempotencyService.execute("k".repeat(256), REQUEST, 201, action));
+        verifyNoInteractions(idempotencyRecordRepository);
+    }
+
+    private static IdempotencyRecord storedRecord(String key, Object request) {
+        IdempotencyServiceImpl hasher = new IdempotencyServiceImpl(mock(IIdempotencyRecordRepository.class),
+                mock(PlatformTransactionManager.class), new ObjectMapper(), Duration.ofHours(24), 1);
+        IdempotencyRecord record = new IdempotencyRecord(key, hasher.hash(request), LocalDateTime.now(),
+                LocalDateTime.now().plusHours(1));
+        record.setResponse(201, "{\"id\":7}".getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+}
@@ -0,0 +1,310 @@
+package com.gklyphon.sabor_digital.order.application.services.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.sabor_digital.commons.utils.ExistenceBitmap;
+import com.gklyphon.sabor_digital.order.TestData;
+import com.gklyphon.sabor_digital.order.application.dtos.*;
+import com.gklyphon.sabor_digital.order.application.events.OrderEvent;
+import com.gklyphon.sabor_digital.order.application.mapper.IMapper;
+import com.gklyphon.sabor_digital.order.application.services.IOrderPricingService;
+import com.gklyphon.sabor_digital.order.application.services.ISalesRollupService;
+import com.gklyphon.sabor_digital.order.domain.models.Order;
+import com.gklyphon.sabor_digital.order.domain.models.enums.OrderType;
+import com.gklyphon.sabor_digital.order.domain.models.enums.PaymentType;
+import com.gklyphon.sabor_digital.order.infrastructure.exception.exceptions.BatchTooLargeException;
+import com.gklyphon.sabor_digital.order.infrastructure.feign.clients.IRestaurantClient;
+import com.gklyphon.sabor_digital.order.infrastructure.feign.clients.ITableClient;
+import com.gklyphon.sabor_digital.order.infrastructure.feign.clients.IWaiterClient;
+import com.gklyphon.sabor_digital.order.infrastructure.repositories.IOrderRepository;
+import feign.FeignException;
+import feign.Request;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderBatchServiceImplTest {
+
+    @Mock
+    private IOrderRepository orderRepository;
+
+    @Mock
+    private IMapper mapper;
+
+    @Mock
+    private IOrderPricingService orderPricingService;
+
+    @Mock
+    private IRestaurantClient restaurantClient;
+
+    @Mock
+    private ITableClient tableClient;
+
+    @Mock
+    private IWaiterClient waiterClient;
+
+    @Mock
+    private ISalesRollupService salesRollupService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private OrderBatchServiceImpl orderBatchService;
+
+    @BeforeEach
+    void setUp() {
+        orderBatchService = new OrderBatchServiceImpl(orderRepository, mapper, orderPricingService,
+                restaurantClient, tableClient, waiterClient, Validation.buildDefaultValidatorFactory().getValidator(), salesRollupService, eventPublisher, new ObjectMapper(), 5);
+    }
+
+    @Test
+    void testSaveAll_ReportsPerOrderResults() {
+        OrderDto valid = order(1L, List.of(1L, 1L));
+        OrderDto unknownWaiter = order(9L, List.of(1L));
+        OrderDto invalid = new OrderDto.Builder().itemsId(List.of(1L)).build();
+
+        when(restaurantClient.existsByIds(List.of(1L))).thenReturn(new byte[]{1});
+        when(restaurantClient.getByIdIn(List.of(1L)))
+                .thenReturn(List.of(new MenuItemDto.Builder().id(1L).price(BigDecimal.TEN).build()));
+        when(tableClient.existsByIds(List.of(1L))).thenReturn(new byte[]{1});
+        when(waiterClient.existsByIds(anyList())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return ExistenceBitmap.of(ids, id -> id == 1L);
+        });
+        when(orderPricingService.calculateTotal(anyList(), anyList())).thenReturn(new BigDecimal("20"));
+        when(mapper.fromOrderDtoToOrder(any(OrderDto.class))).thenAnswer(invocation -> new Order());
+        AtomicLong sequence = new AtomicLong(100);
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Order> orders = invocation.getArgument(0);
+            orders.forEach(order -> order.setId(sequence.getAndIncrement()));
+            return orders;
+        });
+
+        List<OrderBatchResultDto> results = orderBatchService.saveAll(List.of(valid, unknownWaiter, invalid));
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertEquals(100L, results.get(0).getOrderId());
+        assertFalse(results.get(1).isSuccess());
+        assertFalse(results.get(2).isSuccess());
+        verify(restaurantClient, times(1)).existsByIds(List.of(1L));
+        verify(waiterClient, times(1)).existsByIds(anyList());
+        verify(orderRepository, times(1)).saveAll(argThat(orders -> ((List<?>) orders).size() == 1));
+        verify(eventPublisher, times(1)).publishEvent(any(OrderEvent.class));
+    }
+
+    @Test
+    void testSaveAll_RejectsOrdersWithUnknownReferences() {
+        OrderDto valid = order(1L, 1L, 1L, List.of(1L));
+        OrderDto unknownRestaurant = order(2L, 1L, 1L, List.of(1L));
+        OrderDto unknownTable = order(1L, 2L, 1L, List.of(1L));
+        OrderDto unknownWaiter = order(1L, 1L, 2L, List.of(1L));
+        OrderDto unknownItem = order(1L, 1L, 1L, List.of(1L, 2L));
+
+        when(restaurantClient.existsByIds(anyList())).thenAnswer(invocation -> existing(invocation.getArgument(0), 1L));
+        when(restaurantClient.getByIdIn(anyList())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            if (ids.contains(2L)) {
+                throw notFound();
+            }
+            return List.of(menuItem(1L));
+        });
+        when(tableClient.existsByIds(anyList())).thenAnswer(invocation -> existing(invocation.getArgument(0), 1L));
+        when(waiterClient.existsByIds(anyList())).thenAnswer(invocation -> existing(invocation.getArgument(0), 1L));
+        stubPersistence();
+
+        List<OrderBatchResultDto> results = orderBatchService.saveAll(
+                List.of(valid, unknownRestaurant, unknownTable, unknownWaiter, unknownItem));
+
+        assertTrue(results.get(0).isSuccess());
+        for (int i = 1; i < results.size(); i++) {
+            assertFalse(results.get(i).isSuccess());
+            assertEquals(i, results.get(i).getIndex());
+            assertEquals("Invalid restaurant, table, waiter or item ID", results.get(i).getError());
+        }
+        verify(orderRepository, times(1)).saveAll(argThat(orders -> ((List<?>) orders).size() == 1));
+    }
+
+    @Test
+    void testSaveAll_RetriesBulkLookupWithoutReportedMissingIds() {
+        OrderDto first = order(1L, 1L, 1L, List.of(1L));
+        OrderDto second = order(1L, 1L, 1L, List.of(2L));
+        OrderDto third = order(1L, 1L, 1L, List.of(1L, 3L));
+
+        when(restaurantClient.existsByIds(List.of(1L))).thenReturn(new byte[]{1});
+        when(restaurantClient.getByIdIn(anyList())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            if (ids.contains(2L)) {
+                throw notFound("{\"message\":\"Menu items not found\",\"status\":404,\"missingIds\":[2]}");
+            }
+            return ids.stream().map(OrderBatchServiceImplTest::menuItem).toList();
+        });
+        when(tableClient.existsByIds(anyList())).thenAnswer(invocation -> existing(invocation.getArgument(0), 1L));
+        when(waiterClient.existsByIds(anyList())).thenAnswer(invocation -> existing(invocation.getArgument(0), 1L));
+        stubPersistence();
+
+        List<OrderBatchResultDto> results = orderBatchService.saveAll(List.of(first, second, third));
+
+        assertTrue(results.get(0).isSuccess());
+        assertFalse(results.get(1).isSuccess());
+        assertTrue(results.get(2).isSuccess());
+        verify(restaurantClient, times(2)).getByIdIn(anyList());
+        verify(restaurantClient).getByIdIn(argThat(ids -> ids.size() == 3));
+        verify(restaurantClient).getByIdIn(argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(1L, 3L))));
+    }
+
+    @Test
+    void testSaveAll_SplitsBulkLookupWhenMissingIdsAreNotReported() {
+        OrderDto first = order(1L, 1L, 1L, List.of(1L));
+        OrderDto second = order(1L, 1L, 1L, List.of(2L));
+        OrderDto third = order(1L, 1L, 1L, List.of(1L, 3L, 4L));
+
+        when(restaurantClient.existsByIds(List.of(1L))).thenReturn(new byte[]{1});
+        when(restaurantClient.getByIdIn(anyList())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            if (ids.contains(2L)) {
+                throw notFound(null);
+            }
+            return ids.stream().map(OrderBatchServiceImplTest::menuItem).toList();
+        });
+        when(tableClient.existsByIds(anyList())).thenAnswer(invocation -> existing(invocation.getArgument(0), 1L));
+        when(waiterClient.existsByIds(anyList())).thenAnswer(invocation -> existing(invocation.getArgument(0), 1L));
+        stubPersistence();
+
+        List<OrderBatchResultDto> results = orderBatchService.saveAll(List.of(first, second, third));
+
+        assertTrue(results.get(0).isSuccess());
+        assertFalse(results.get(1).isSuccess());
+        assertTrue(results.get(2).isSuccess());
+        verify(restaurantClient, atMost(5)).getByIdIn(anyList());
+        verify(restaurantClient).getByIdIn(List.of(3L, 4L));
+    }
+
+    @Test
+    void testSaveAll_RejectsOrdersWithNullItems() {
+        OrderDto valid = order(1L, 1L, 1L, List.of(1L));
+        OrderDto withoutItems = order(1L, 1L, 1L, null);
+        OrderDto withNullItem = order(1L, 1L, 1L, Arrays.asList(1L, null));
+
+        when(restaurantClient.existsByIds(List.of(1L))).thenReturn(new byte[]{1});
+        when(restaurantClient.getByIdIn(List.of(1L))).thenReturn(List.of(menuItem(1L)));
+        when(tableClient.existsByIds(List.of(1L))).thenReturn(new byte[]{1});
+        when(waiterClient.existsByIds(List.of(1L))).thenReturn(new byte[]{1});
+        stubPersistence();
+
+        List<OrderBatchResultDto> results = orderBatchService.saveAll(List.of(valid, withoutItems, withNullItem));
+
+        assertTrue(results.get(0).isSuccess());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals("At least one item is required", results.get(1).getError());
+        assertFalse(results.get(2).isSuccess());
+        assertEquals("Item IDs cannot be null", results.get(2).getError());
+        verify(orderRepository, times(1)).saveAll(argThat(orders -> ((List<?>) orders).size() == 1));
+    }
+
+    @Test
+    void testSaveAll_AcceptsOrdersWithoutTable() {
+        OrderDto takeaway = order(1L, null, 1L, List.of(1L));
+
+        when(restaurantClient.existsByIds(List.of(1L))).thenReturn(new byte[]{1});
+        when(restaurantClient.getByIdIn(List.of(1L))).thenReturn(List.of(menuItem(1L)));
+        when(waiterClient.existsByIds(List.of(1L))).thenReturn(new byte[]{1});
+        stubPersistence();
+
+        List<OrderBatchResultDto> results = orderBatchService.saveAll(List.of(takeaway));
+
+        assertTrue(results.get(0).isSuccess());
+        verifyNoInteractions(tableClient);
+    }
+
+    @Test
+    void testSaveAll_KeepsSubmissionOrderAroundInvalidOrders() {
+        OrderDto invalidFirst = new OrderDto.Builder().itemsId(List.of(1L)).build();
+        OrderDto valid = order(1L, 1L, 1L, List.of(1L));
+        OrderDto invalidLast = new OrderDto.Builder().restaurantId(1L).itemsId(List.of(1L)).build();
+
+        when(restaurantClient.existsByIds(List.of(1L))).thenReturn(new byte[]{1});
+        when(restaurantClient.getByIdIn(List.of(1L))).thenReturn(List.of(menuItem(1L)));
+        when(tableClient.existsByIds(List.of(1L))).thenReturn(new byte[]{1});
+        when(waiterClient.existsByIds(List.of(1L))).thenReturn(new byte[]{1});
+        stubPersistence();
+
+        List<OrderBatchResultDto> results = orderBatchService.saveAll(List.of(invalidFirst, valid, invalidLast));
+
+        assertEquals(List.of(0, 1, 2), results.stream().map(OrderBatchResultDto::getIndex).toList());
+        assertFalse(results.get(0).isSuccess());
+        assertNotNull(results.get(0).getError());
+        assertTrue(results.get(1).isSuccess());
+        assertEquals(100L, results.get(1).getOrderId());
+        assertFalse(results.get(2).isSuccess());
+    }
+
+    @Test
+    void testSaveAll_RejectsOversizedBatch() {
+        OrderDto orderDto = order(1L, 1L, 1L, List.of(1L));
+
+        assertThrows(BatchTooLargeException.class,
+                () -> orderBatchService.saveAll(Collections.nCopies(6, orderDto)));
+        verifyNoInteractions(restaurantClient, tableClient, waiterClient, orderRepository);
+    }
+
+    private void stubPersistence() {
+        lenient().when(orderPricingService.calculateTotal(anyList(), anyList())).thenReturn(BigDecimal.TEN);
+        lenient().when(mapper.fromOrderDtoToOrder(any(OrderDto.class))).thenAnswer(invocation -> new Order());
+        AtomicLong sequence = new AtomicLong(100);
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Order> orders = invocation.getArgument(0);
+            orders.forEach(order -> order.setId(sequence.getAndIncrement()));
+            return orders;
+        });
+    }
+
+    private static byte[] existing(List<Long> ids, long existingId) {
+        return ExistenceBitmap.of(ids, id -> id == existingId);
+    }
+
+    private static MenuItemDto menuItem(Long id) {
+        return new MenuItemDto.Builder().id(id).price(BigDecimal.TEN).build();
+    }
+
+    private static OrderDto order(Long waiterId, List<Long> itemsId) {
+        return order(1L, 1L, waiterId, itemsId);
+    }
+
+    private static OrderDto order(Long restaurantId, Long tableId, Long waiterId, List<Long> itemsId) {
+        return new OrderDto.Builder()
+                .itemsId(itemsId)
+                .restaurantId(restaurantId)
+                .tableId(tableId)
+                .waiterId(waiterId)
+                .orderType(OrderType.DINE_IN)
+                .paymentType(PaymentType.CASH)
+                .build();
+    }
+
+    private static FeignException notFound() {
+        return notFound(null);
+    }
+
+    private static FeignException notFound(String body) {
+        Request request = Request.create(Request.HttpMethod.POST, "/api/menu-items/by-ids", new HashMap<>(), null, StandardCharsets.UTF_8, null);
+        return new FeignException.NotFound("Not found", request,
+                body == null ? null : body.getBytes(StandardCharsets.UTF_8), null);
+    }
+}
@@ -0,0 +1,84 @@
+package com.gklyphon.sabor_digital.order.application.services.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.gklyphon.sabor_digital.order.domain.models.enums.OrderStatus;
+import com.gklyphon.sabor_digital.order.domain.models.enums.OrderType;
+import com.gklyphon.sabor_digital.order.domain.models.enums.PaymentType;
+import com.gklyphon.sabor_digital.order.infrastructure.repositories.IOrderRepository;
+import com.gklyphon.sabor_digital.order.infrastructure.repositories.projections.OrderExportRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderExportServiceImplTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 4, 1, 0, 0);
+    private static final LocalDateTime TO = FROM.plusDays(1);
+
+    @Mock
+    private IOrderRepository orderRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private OrderExportServiceImpl orderExportService;
+
+    @BeforeEach
+    void setUp() {
+        orderExportService = new OrderExportServiceImpl(orderRepository, objectMapper);
+    }
+
+    @Test
+    void testExportByRestaurant_WritesOneLinePerOrder() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(orderRepository.streamExportRows(1L, FROM, TO)).thenReturn(Stream.of(
+                row(10L, 1L), row(10L, 2L), row(10L, 1L),
+                row(11L, null),
+                row(12L, 3L)).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long exported = orderExportService.exportByRestaurant(1L, FROM, TO, output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(3, exported);
+        assertEquals(4, lines.length);
+        assertEquals("", lines[3]);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(10L, first.get("id").asLong());
+        assertEquals("[1,2,1]", first.get("itemsId").toString());
+        assertEquals("2025-04-01T12:00:00", first.get("createdAt").asText());
+        assertEquals("PENDING", first.get("orderStatus").asText());
+        assertEquals("[]", objectMapper.readTree(lines[1]).get("itemsId").toString());
+        assertEquals(12L, objectMapper.readTree(lines[2]).get("id").asLong());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void testExportByRestaurant_WritesNothing_WhenNoOrders() throws Exception {
+        when(orderRepository.streamExportRows(1L, FROM, TO)).thenReturn(Stream.empty());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        assertEquals(0, orderExportService.exportByRestaurant(1L, FROM, TO, output));
+        assertEquals(0, output.size());
+    }
+
+    private static OrderExportRow row(Long orderId, Long itemId) {
+        return new OrderExportRow(orderId, 1L, 2L, 3L, new BigDecimal("9.50"), OrderType.DINE_IN, PaymentType.CASH,
+                OrderStatus.PENDING, FROM.plusHours(12), FROM.plusHours(12), itemId);
+    }
+}
@@ -0,0 +1,35 @@
+package com.gklyphon.sabor_digital.order.application.services.impl;
+
+import com.gklyphon.sabor_digital.order.application.dtos.MenuItemDto;
+import com.gklyphon.sabor_digital.order.infrastructure.exception.exceptions.ElementNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderPricingServiceImplTest {
+
+    private final OrderPricingServiceImpl orderPricingService = new OrderPricingServiceImpl();
+
+    private static final MenuItemDto TACOS = new MenuItemDto.Builder().id(1L).price(new BigDecimal("2.50")).build();
+    private static final MenuItemDto SODA = new MenuItemDto.Builder().id(2L).price(new BigDecimal("1.25")).build();
+
+    @Test
+    void testCalculateTotal_CountsRepeatedItems() {
+        BigDecimal total = orderPricingService.calculateTotal(List.of(1L, 2L, 1L, 1L), List.of(TACOS, SODA));
+        assertEquals(new BigDecimal("8.75"), total);
+    }
+
+    @Test
+    void testCalculateTotal_EmptyOrder() {
+        assertEquals(BigDecimal.ZERO, orderPricingService.calculateTotal(List.of(), List.of()));
+    }
+
+    @Test
+    void testCalculateTotal_UnknownItem() {
+        assertThrows(ElementNotFoundException.class,
+                () -> orderPricingService.calculateTotal(List.of(1L, 3L), List.of(TACOS, SODA)));
+    }
+}
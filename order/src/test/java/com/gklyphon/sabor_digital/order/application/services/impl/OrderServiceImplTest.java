@@ -1,24 +1,46 @@
 package com.gklyphon.sabor_digital.order.application.services.impl;
 
 import com.gklyphon.sabor_digital.order.TestData;
+import com.gklyphon.sabor_digital.order.application.dtos.CursorPageDto;
 import com.gklyphon.sabor_digital.order.application.dtos.OrderDto;
+import com.gklyphon.sabor_digital.order.application.dtos.OrderReferencesDto;
+import com.gklyphon.sabor_digital.order.application.events.OrderEvent;
 import com.gklyphon.sabor_digital.order.application.mapper.IMapper;
+import com.gklyphon.sabor_digital.order.application.pagination.OrderCursor;
+import com.gklyphon.sabor_digital.order.application.rollups.SalesContribution;
+import com.gklyphon.sabor_digital.order.application.services.IOrderPricingService;
+import com.gklyphon.sabor_digital.order.application.services.IOrderValidationService;
+import com.gklyphon.sabor_digital.order.application.services.ISalesRollupService;
 import com.gklyphon.sabor_digital.order.domain.models.Order;
+import com.gklyphon.sabor_digital.order.domain.models.enums.OrderStatus;
+import com.gklyphon.sabor_digital.order.domain.models.enums.OrderType;
+import com.gklyphon.sabor_digital.order.domain.models.enums.PaymentType;
 import com.gklyphon.sabor_digital.order.infrastructure.exception.exceptions.ElementNotFoundException;
+import com.gklyphon.sabor_digital.order.infrastructure.exception.exceptions.InvalidCursorException;
+import com.gklyphon.sabor_digital.order.infrastructure.exception.exceptions.InvalidStatusTransitionException;
 import com.gklyphon.sabor_digital.order.infrastructure.repositories.IOrderRepository;
+import com.gklyphon.sabor_digital.order.infrastructure.repositories.projections.OrderStatusView;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +52,18 @@ class OrderServiceImplTest {
     @Mock
     private IMapper mapper;
 
+    @Mock
+    private IOrderValidationService orderValidationService;
+
+    @Mock
+    private IOrderPricingService orderPricingService;
+
+    @Mock
+    private ISalesRollupService salesRollupService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
@@ -49,6 +83,7 @@ class OrderServiceImplTest {
 
     @Test
     void testSave_Success() {
+        stubReferencesAndPrice(new BigDecimal("123"));
         when(mapper.fromOrderDtoToOrder(any(OrderDto.class))).thenReturn(TestData.ORDER);
         when(orderRepository.save(any(Order.class))).thenReturn(TestData.ORDER);
         Order savedOrder = orderService.save(TestData.ORDER_DTO);
@@ -56,9 +91,30 @@ class OrderServiceImplTest {
         assertEquals(TestData.ORDER.getId(), savedOrder.getId());
     }
 
+    @Test
+    void testSave_UsesServerSidePrice() {
+        Order order = new Order.Builder().id(2L).build();
+        stubReferencesAndPrice(new BigDecimal("45.50"));
+        when(mapper.fromOrderDtoToOrder(any(OrderDto.class))).thenReturn(order);
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        Order savedOrder = orderService.save(TestData.ORDER_DTO);
+        assertEquals(new BigDecimal("45.50"), savedOrder.getPrice());
+    }
+
+    @Test
+    void testSave_PublishesOrderEvent() {
+        stubReferencesAndPrice(new BigDecimal("123"));
+        when(mapper.fromOrderDtoToOrder(any(OrderDto.class))).thenReturn(TestData.ORDER);
+        when(orderRepository.save(any(Order.class))).thenReturn(TestData.ORDER);
+        orderService.save(TestData.ORDER_DTO);
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof OrderEvent orderEvent
+                && orderEvent.getOrderId().equals(1L) && orderEvent.getRestaurantId().equals(1L)));
+    }
+
     @Test
     void testUpdate_Success() {
-        when(orderRepository.findById(anyLong())).thenReturn(Optional.of(TestData.ORDER));
+        stubReferencesAndPrice(new BigDecimal("123"));
+        when(orderRepository.findLockedById(anyLong())).thenReturn(Optional.of(TestData.ORDER));
         when(orderRepository.save(any(Order.class))).thenReturn(TestData.ORDER);
         Order updatedOrder = orderService.update(1L, TestData.ORDER_DTO);
         assertNotNull(updatedOrder);
@@ -67,9 +123,10 @@ class OrderServiceImplTest {
 
     @Test
     void testDeleteById_Success() {
-        when(orderRepository.findById(anyLong())).thenReturn(Optional.of(TestData.ORDER));
-        doNothing().when(orderRepository).deleteById(1L);
+        when(orderRepository.findLockedById(anyLong())).thenReturn(Optional.of(TestData.ORDER));
+        doNothing().when(orderRepository).delete(TestData.ORDER);
         assertDoesNotThrow(() -> orderService.deleteById(1L));
+        verify(orderRepository, never()).findById(anyLong());
     }
 
     @Test
@@ -79,4 +136,123 @@ class OrderServiceImplTest {
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
     }
+
+    @Test
+    void testFindAllByRestaurantIdCursor_FirstPage() {
+        List<Order> orders = List.of(orderCreatedAt(3L, 3), orderCreatedAt(2L, 2), orderCreatedAt(1L, 1));
+        when(orderRepository.findFirstByRestaurantId(1L, Limit.of(3))).thenReturn(orders);
+        CursorPageDto<Order> page = orderService.findAllByRestaurantId(1L, null, 2, false);
+        assertEquals(2, page.getContent().size());
+        assertTrue(page.isHasNext());
+        assertNull(page.getTotalElements());
+        OrderCursor next = OrderCursor.decode(page.getNextCursor());
+        assertEquals(2L, next.getId());
+        assertEquals(orders.get(1).getCreatedAt(), next.getCreatedAt());
+        verify(orderRepository, never()).countByRestaurantId(anyLong());
+    }
+
+    @Test
+    void testFindAllByRestaurantIdCursor_NextPage() {
+        Order last = orderCreatedAt(2L, 2);
+        Order remaining = orderCreatedAt(1L, 1);
+        when(orderRepository.findNextByRestaurantId(1L, last.getCreatedAt(), 2L, Limit.of(3))).thenReturn(List.of(remaining));
+        when(orderRepository.countByRestaurantId(1L)).thenReturn(3L);
+        CursorPageDto<Order> page = orderService.findAllByRestaurantId(1L, OrderCursor.after(last).encode(), 2, true);
+        assertEquals(List.of(remaining), page.getContent());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+        assertEquals(3L, page.getTotalElements());
+    }
+
+    @Test
+    void testFindAllByRestaurantIdCursor_InvalidCursor() {
+        assertThrows(InvalidCursorException.class, () -> orderService.findAllByRestaurantId(1L, "not-a-cursor", 2, false));
+    }
+
+    @Test
+    void testUpdateStatus_Success() {
+        when(orderRepository.findStatusViewById(1L)).thenReturn(Optional.of(statusView(OrderStatus.CONFIRMED)));
+        when(orderRepository.updateOrderStatus(eq(1L), eq(OrderStatus.CONFIRMED), eq(OrderStatus.READY), any())).thenReturn(1);
+        orderService.updateStatus(1L, OrderStatus.READY);
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof OrderEvent orderEvent
+                && orderEvent.getOrderStatus() == OrderStatus.READY && orderEvent.getRestaurantId().equals(1L)));
+        verifyNoInteractions(orderValidationService, orderPricingService);
+    }
+
+    @Test
+    void testUpdateStatus_AdjustsSalesRollups() {
+        when(orderRepository.findStatusViewById(1L)).thenReturn(Optional.of(statusView(OrderStatus.PENDING)));
+        when(orderRepository.updateOrderStatus(eq(1L), eq(OrderStatus.PENDING), eq(OrderStatus.CANCELLED), any())).thenReturn(1);
+        orderService.updateStatus(1L, OrderStatus.CANCELLED);
+        verify(salesRollupService).record(
+                argThat((SalesContribution before) -> before.orderStatus() == OrderStatus.PENDING && before.counted()),
+                argThat((SalesContribution after) -> after.orderStatus() == OrderStatus.CANCELLED && !after.counted()));
+    }
+
+    @Test
+    void testUpdateStatus_InvalidTransition() {
+        when(orderRepository.findStatusViewById(1L)).thenReturn(Optional.of(statusView(OrderStatus.DELIVERED)));
+        assertThrows(InvalidStatusTransitionException.class, () -> orderService.updateStatus(1L, OrderStatus.READY));
+        verify(orderRepository, never()).updateOrderStatus(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    void testUpdateStatus_ConcurrentChange() {
+        when(orderRepository.findStatusViewById(1L)).thenReturn(Optional.of(statusView(OrderStatus.PENDING)));
+        when(orderRepository.updateOrderStatus(eq(1L), eq(OrderStatus.PENDING), eq(OrderStatus.CONFIRMED), any())).thenReturn(0);
+        assertThrows(InvalidStatusTransitionException.class, () -> orderService.updateStatus(1L, OrderStatus.CONFIRMED));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testUpdateStatus_NotFound() {
+        when(orderRepository.findStatusViewById(1L)).thenReturn(Optional.empty());
+        assertThrows(ElementNotFoundException.class, () -> orderService.updateStatus(1L, OrderStatus.READY));
+    }
+
+    private static Order orderCreatedAt(Long id, int minute) {
+        Order order = new Order.Builder().id(id).restaurantId(1L).build();
+        order.setCreatedAt(LocalDateTime.of(2025, 4, 14, 12, minute));
+        return order;
+    }
+
+    private static OrderStatusView statusView(OrderStatus orderStatus) {
+        return new OrderStatusView() {
+            @Override
+            public Long getRestaurantId() {
+                return 1L;
+            }
+
+            @Override
+            public OrderStatus getOrderStatus() {
+                return orderStatus;
+            }
+
+            @Override
+            public OrderType getOrderType() {
+                return OrderType.DINE_IN;
+            }
+
+            @Override
+            public PaymentType getPaymentType() {
+                return PaymentType.CASH;
+            }
+
+            @Override
+            public BigDecimal getPrice() {
+                return BigDecimal.TEN;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return LocalDateTime.of(2025, 4, 14, 12, 30);
+            }
+        };
+    }
+
+    private void stubReferencesAndPrice(BigDecimal price) {
+        when(orderValidationService.verifyClientResponses(any(OrderDto.class)))
+                .thenReturn(new OrderReferencesDto(List.of(TestData.MENU_ITEM_DTO)));
+        when(orderPricingService.calculateTotal(anyList(), anyList())).thenReturn(price);
+    }
 }
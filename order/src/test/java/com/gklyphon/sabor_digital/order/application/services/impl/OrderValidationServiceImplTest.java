@@ -0,0 +1,135 @@
+package com.gklyphon.sabor_digital.order.application.services.impl;
+
+import com.gklyphon.sabor_digital.order.TestData;
+import com.gklyphon.sabor_digital.order.application.dtos.*;
+import com.gklyphon.sabor_digital.order.infrastructure.exception.exceptions.ElementNotFoundException;
+import com.gklyphon.sabor_digital.order.infrastructure.feign.clients.IRestaurantClient;
+import com.gklyphon.sabor_digital.order.infrastructure.feign.clients.ITableClient;
+import com.gklyphon.sabor_digital.order.infrastructure.feign.clients.IWaiterClient;
+import feign.FeignException;
+import feign.Request;
+import org.hibernate.service.spi.ServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderValidationServiceImplTest {
+
+    @Mock
+    private IRestaurantClient restaurantClient;
+
+    @Mock
+    private ITableClient tableClient;
+
+    @Mock
+    private IWaiterClient waiterClient;
+
+    private ExecutorService executor;
+
+    private OrderValidationServiceImpl orderValidationService;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        orderValidationService = new OrderValidationServiceImpl(restaurantClient, tableClient, waiterClient, executor, 500);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testVerifyClientResponses_Success() {
+        when(restaurantClient.getByIdIn(anyList())).thenReturn(List.of(TestData.MENU_ITEM_DTO));
+
+        OrderReferencesDto references = orderValidationService.verifyClientResponses(TestData.ORDER_DTO);
+
+        assertEquals(1, references.getMenuItems().size());
+        verify(restaurantClient).checkRestaurantExists(TestData.ORDER_DTO.getRestaurantId());
+        verify(tableClient).checkTableExists(TestData.ORDER_DTO.getTableId());
+        verify(waiterClient).checkWaiterExists(TestData.ORDER_DTO.getWaiterId());
+    }
+
+    @Test
+    void testVerifyClientResponses_SkipsTableCheckWithoutTable() {
+        OrderDto takeaway = new OrderDto.Builder()
+                .itemsId(TestData.ORDER_DTO.getItemsId())
+                .restaurantId(TestData.ORDER_DTO.getRestaurantId())
+                .waiterId(TestData.ORDER_DTO.getWaiterId())
+                .orderType(TestData.ORDER_DTO.getOrderType())
+                .paymentType(TestData.ORDER_DTO.getPaymentType())
+                .build();
+        when(restaurantClient.getByIdIn(anyList())).thenReturn(List.of(TestData.MENU_ITEM_DTO));
+
+        OrderReferencesDto references = orderValidationService.verifyClientResponses(takeaway);
+
+        assertEquals(1, references.getMenuItems().size());
+        verify(waiterClient).checkWaiterExists(takeaway.getWaiterId());
+        verifyNoInteractions(tableClient);
+    }
+
+    @Test
+    void testVerifyClientResponses_MissingWaiter() {
+        lenient().when(restaurantClient.getByIdIn(anyList())).thenReturn(List.of(TestData.MENU_ITEM_DTO));
+        doThrow(notFound()).when(waiterClient).checkWaiterExists(anyLong());
+
+        assertThrows(ElementNotFoundException.class,
+                () -> orderValidationService.verifyClientResponses(TestData.ORDER_DTO));
+    }
+
+    @Test
+    void testVerifyClientResponses_FailsFastOnFirstError() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        lenient().doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).when(restaurantClient).checkRestaurantExists(anyLong());
+        lenient().when(restaurantClient.getByIdIn(anyList())).thenReturn(List.of(TestData.MENU_ITEM_DTO));
+        lenient().doThrow(new IllegalStateException("table-service down")).when(tableClient).checkTableExists(anyLong());
+
+        long start = System.nanoTime();
+        ServiceException ex = assertThrows(ServiceException.class,
+                () -> orderValidationService.verifyClientResponses(TestData.ORDER_DTO));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        release.countDown();
+
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+        assertTrue(elapsedMillis < 500, "verification should not wait for the slow restaurant lookup");
+    }
+
+    @Test
+    void testVerifyClientResponses_Timeout() {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).when(restaurantClient).checkRestaurantExists(anyLong());
+        when(restaurantClient.getByIdIn(anyList())).thenReturn(List.of(TestData.MENU_ITEM_DTO));
+
+        assertThrows(ServiceException.class,
+                () -> orderValidationService.verifyClientResponses(TestData.ORDER_DTO));
+        release.countDown();
+    }
+
+    private static FeignException notFound() {
+        Request request = Request.create(Request.HttpMethod.HEAD, "/api/waiters/1", new HashMap<>(), null, StandardCharsets.UTF_8, null);
+        return new FeignException.NotFound("Not found", request, null, null);
+    }
+}
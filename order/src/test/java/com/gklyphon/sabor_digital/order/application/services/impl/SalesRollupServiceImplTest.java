@@ -0,0 +1,99 @@
+package com.gklyphon.sabor_digital.order.application.services.impl;
+
+import com.gklyphon.sabor_digital.order.application.dtos.SalesStatsDto;
+import com.gklyphon.sabor_digital.order.application.rollups.SalesContribution;
+import com.gklyphon.sabor_digital.order.domain.models.SalesRollup;
+import com.gklyphon.sabor_digital.order.domain.models.SalesRollupId;
+import com.gklyphon.sabor_digital.order.domain.models.enums.OrderStatus;
+import com.gklyphon.sabor_digital.order.domain.models.enums.OrderType;
+import com.gklyphon.sabor_digital.order.domain.models.enums.PaymentType;
+import com.gklyphon.sabor_digital.order.infrastructure.repositories.ISalesRollupRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SalesRollupServiceImplTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2025, 4, 25, 12, 0);
+
+    @Mock
+    private ISalesRollupRepository salesRollupRepository;
+
+    @InjectMocks
+    private SalesRollupServiceImpl salesRollupService;
+
+    @Test
+    void testRecord_Created() {
+        salesRollupService.record(null, contribution(NOON.plusMinutes(42), PaymentType.CASH, OrderStatus.PENDING, "12.50"));
+        verify(salesRollupRepository).upsert(1L, NOON, "DINE_IN", "CASH", 1, new BigDecimal("12.50"));
+    }
+
+    @Test
+    void testRecord_PriceChangeInSameBucket() {
+        salesRollupService.record(contribution(NOON.plusMinutes(5), PaymentType.CASH, OrderStatus.PENDING, "10.00"),
+                contribution(NOON.plusMinutes(5), PaymentType.CASH, OrderStatus.CONFIRMED, "12.00"));
+        verify(salesRollupRepository).upsert(1L, NOON, "DINE_IN", "CASH", 0, new BigDecimal("2.00"));
+        verifyNoMoreInteractions(salesRollupRepository);
+    }
+
+    @Test
+    void testRecord_StatusChangeWithoutEffect() {
+        SalesContribution before = contribution(NOON, PaymentType.CASH, OrderStatus.PENDING, "10.00");
+        salesRollupService.record(before, before.withStatus(OrderStatus.CONFIRMED));
+        verifyNoInteractions(salesRollupRepository);
+    }
+
+    @Test
+    void testRecord_CancelledAndDeleted() {
+        SalesContribution pending = contribution(NOON, PaymentType.CASH, OrderStatus.PENDING, "10.00");
+        salesRollupService.record(pending, pending.withStatus(OrderStatus.CANCELLED));
+        salesRollupService.record(pending.withStatus(OrderStatus.CANCELLED), null);
+        verify(salesRollupRepository).upsert(1L, NOON, "DINE_IN", "CASH", -1, new BigDecimal("-10.00"));
+        verifyNoMoreInteractions(salesRollupRepository);
+    }
+
+    @Test
+    void testRecord_MovesBetweenBucketsInConsistentOrder() {
+        salesRollupService.record(
+                List.of(contribution(NOON, PaymentType.DIGITAL_WALLET, OrderStatus.PENDING, "5.00")),
+                List.of(contribution(NOON.plusHours(1), PaymentType.CASH, OrderStatus.PENDING, "5.00"),
+                        contribution(NOON, PaymentType.CASH, OrderStatus.PENDING, "7.00"),
+                        contribution(NOON, PaymentType.CASH, OrderStatus.PENDING, "3.00")));
+
+        InOrder inOrder = inOrder(salesRollupRepository);
+        inOrder.verify(salesRollupRepository).upsert(1L, NOON, "DINE_IN", "CASH", 2, new BigDecimal("10.00"));
+        inOrder.verify(salesRollupRepository).upsert(1L, NOON, "DINE_IN", "DIGITAL_WALLET", -1, new BigDecimal("-5.00"));
+        inOrder.verify(salesRollupRepository).upsert(1L, NOON.plusHours(1), "DINE_IN", "CASH", 1, new BigDecimal("5.00"));
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    void testGetStats_SumsBuckets() {
+        when(salesRollupRepository.findAllByRestaurantIdInWindow(1L, NOON, NOON.plusDays(1))).thenReturn(List.of(
+                new SalesRollup(new SalesRollupId(1L, NOON, OrderType.DINE_IN, PaymentType.CASH), 3, new BigDecimal("30.00")),
+                new SalesRollup(new SalesRollupId(1L, NOON, OrderType.DELIVERY, PaymentType.CREDIT_CARD), 1, new BigDecimal("8.25"))));
+
+        SalesStatsDto stats = salesRollupService.getStats(1L, NOON, NOON.plusDays(1));
+
+        assertEquals(4, stats.getOrderCount());
+        assertEquals(new BigDecimal("38.25"), stats.getRevenue());
+        assertEquals(2, stats.getBuckets().size());
+        assertEquals(OrderType.DELIVERY, stats.getBuckets().get(1).getOrderType());
+    }
+
+    private static SalesContribution contribution(LocalDateTime createdAt, PaymentType paymentType, OrderStatus status, String price) {
+        return new SalesContribution(1L, createdAt, OrderType.DINE_IN, paymentType, status, new BigDecimal(price));
+    }
+}
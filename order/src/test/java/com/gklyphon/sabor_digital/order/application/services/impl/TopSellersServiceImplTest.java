@@ -0,0 +1,73 @@
+package com.gklyphon.sabor_digital.order.application.services.impl;
+
+import com.gklyphon.sabor_digital.order.application.dtos.TopSellersDto;
+import com.gklyphon.sabor_digital.order.application.events.OrderPlacedEvent;
+import com.gklyphon.sabor_digital.order.application.leaderboard.TopSellersWindow;
+import com.gklyphon.sabor_digital.order.infrastructure.repositories.IOrderRepository;
+import com.gklyphon.sabor_digital.order.infrastructure.repositories.projections.OrderItemSaleRow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TopSellersServiceImplTest {
+
+    @Mock
+    private IOrderRepository orderRepository;
+
+    @InjectMocks
+    private TopSellersServiceImpl topSellersService;
+
+    @Test
+    void testRebuild_CountsRecentItemsPerRestaurant() {
+        LocalDateTime now = LocalDateTime.now();
+        when(orderRepository.streamItemSales(any(), any())).thenReturn(Stream.of(
+                new OrderItemSaleRow(1L, now.minusMinutes(5), 10L),
+                new OrderItemSaleRow(1L, now.minusMinutes(5), 10L),
+                new OrderItemSaleRow(1L, now.minusHours(3), 11L),
+                new OrderItemSaleRow(1L, now.minusHours(3), 11L),
+                new OrderItemSaleRow(1L, now.minusHours(3), 11L),
+                new OrderItemSaleRow(2L, now.minusMinutes(1), 12L)));
+
+        topSellersService.rebuild();
+
+        TopSellersDto hour = topSellersService.getTopSellers(1L, TopSellersWindow.HOUR, 20);
+        assertEquals(1, hour.getItems().size());
+        assertEquals(10L, hour.getItems().get(0).getItemId());
+        assertEquals(2, hour.getItems().get(0).getQuantity());
+
+        TopSellersDto day = topSellersService.getTopSellers(1L, TopSellersWindow.DAY, 20);
+        assertEquals(List.of(11L, 10L), day.getItems().stream().map(TopSellersDto.Entry::getItemId).toList());
+        verify(orderRepository).streamItemSales(argThat(from -> from.isBefore(now.minusHours(23))), any());
+    }
+
+    @Test
+    void testOnOrderPlaced_CountsOnlyOrdersCreatedAfterRebuild() {
+        when(orderRepository.streamItemSales(any(), any())).thenReturn(Stream.empty());
+        LocalDateTime beforeRebuild = LocalDateTime.now().minusSeconds(1);
+        topSellersService.rebuild();
+
+        topSellersService.onOrderPlaced(new OrderPlacedEvent(1L, 1L, beforeRebuild, List.of(10L)));
+        topSellersService.onOrderPlaced(new OrderPlacedEvent(2L, 1L, LocalDateTime.now(), List.of(20L, 20L, 21L)));
+
+        TopSellersDto top = topSellersService.getTopSellers(1L, TopSellersWindow.HOUR, 1);
+        assertEquals(1, top.getItems().size());
+        assertEquals(20L, top.getItems().get(0).getItemId());
+        assertEquals(2, top.getItems().get(0).getQuantity());
+    }
+
+    @Test
+    void testGetTopSellers_UnknownRestaurant() {
+        assertTrue(topSellersService.getTopSellers(99L, TopSellersWindow.DAY, 20).getItems().isEmpty());
+    }
+}
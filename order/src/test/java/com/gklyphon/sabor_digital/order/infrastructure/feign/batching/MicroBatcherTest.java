@@ -0,0 +1,111 @@
+package com.gklyphon.sabor_digital.order.infrastructure.feign.batching;
+
+import com.gklyphon.sabor_digital.order.application.dtos.TableDto;
+import feign.FeignException;
+import feign.Request;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicroBatcherTest {
+
+    private final List<List<Long>> bulkCalls = new CopyOnWriteArrayList<>();
+    private final List<Long> singleCalls = new CopyOnWriteArrayList<>();
+
+    @Test
+    void testLoad_MergesConcurrentLookupsIntoOneBulkCall() throws Exception {
+        MicroBatcher<TableDto> batcher = batcher(Duration.ofMillis(500), 50, List.of());
+
+        List<TableDto> tables = loadConcurrently(batcher, List.of(1L, 2L, 3L, 2L, 4L));
+
+        assertEquals(List.of(1L, 2L, 3L, 2L, 4L), tables.stream().map(TableDto::getId).toList());
+        assertEquals(1, bulkCalls.size());
+        assertEquals(List.of(1L, 2L, 3L, 4L), bulkCalls.get(0).stream().sorted().toList());
+        assertTrue(singleCalls.isEmpty());
+    }
+
+    @Test
+    void testLoad_RunsSingleLookupAfterWindow() {
+        MicroBatcher<TableDto> batcher = batcher(Duration.ofMillis(2), 50, List.of());
+
+        assertEquals(7L, batcher.load(7L).getId());
+
+        assertTrue(bulkCalls.isEmpty());
+        assertEquals(List.of(7L), singleCalls);
+    }
+
+    @Test
+    void testLoad_RetriesRejectedBatchOneIdAtATime() throws Exception {
+        MicroBatcher<TableDto> batcher = batcher(Duration.ofSeconds(10), 2, List.of(9L));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<TableDto> found = executor.submit(() -> batcher.load(1L));
+            Future<TableDto> missing = executor.submit(() -> batcher.load(9L));
+
+            assertEquals(1L, found.get(5, TimeUnit.SECONDS).getId());
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> missing.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(FeignException.NotFound.class, thrown.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, bulkCalls.size());
+        assertEquals(List.of(1L, 9L), singleCalls.stream().sorted().toList());
+    }
+
+    private MicroBatcher<TableDto> batcher(Duration window, int maxBatchSize, List<Long> missingIds) {
+        return new MicroBatcher<>(
+                ids -> {
+                    bulkCalls.add(List.copyOf(ids));
+                    if (ids.stream().anyMatch(missingIds::contains)) {
+                        throw notFound();
+                    }
+                    return ids.stream().map(MicroBatcherTest::table).toList();
+                },
+                id -> {
+                    singleCalls.add(id);
+                    if (missingIds.contains(id)) {
+                        throw notFound();
+                    }
+                    return table(id);
+                },
+                TableDto::getId, window, maxBatchSize);
+    }
+
+    private static List<TableDto> loadConcurrently(MicroBatcher<TableDto> batcher, List<Long> ids) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(ids.size());
+        try {
+            List<Future<TableDto>> futures = new ArrayList<>();
+            for (Long id : ids) {
+                futures.add(executor.submit(() -> batcher.load(id)));
+            }
+            List<TableDto> tables = new ArrayList<>();
+            for (Future<TableDto> future : futures) {
+                tables.add(future.get(5, TimeUnit.SECONDS));
+            }
+            return tables;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static TableDto table(Long id) {
+        return new TableDto.Builder().id(id).restaurantId(1L).build();
+    }
+
+    private static FeignException notFound() {
+        Request request = Request.create(Request.HttpMethod.POST, "/api/tables/by-ids", new HashMap<>(), null, StandardCharsets.UTF_8, null);
+        return new FeignException.NotFound("Not found", request, null, null);
+    }
+}
@@ -0,0 +1,103 @@
+package com.gklyphon.sabor_digital.order.infrastructure.feign.cache;
+
+import com.gklyphon.sabor_digital.order.TestData;
+import com.gklyphon.sabor_digital.order.application.dtos.MenuItemDto;
+import com.gklyphon.sabor_digital.order.infrastructure.config.cache.CacheConfig;
+import com.gklyphon.sabor_digital.order.infrastructure.feign.clients.IRestaurantClient;
+import feign.FeignException;
+import feign.Request;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingRestaurantClientTest {
+
+    @Mock
+    private IRestaurantClient delegate;
+
+    private CachingRestaurantClient cachingRestaurantClient;
+
+    @BeforeEach
+    void setUp() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(CacheConfig.RESTAURANTS, CacheConfig.MENU_ITEMS,
+                CacheConfig.EXISTING_RESTAURANTS);
+        cachingRestaurantClient = new CachingRestaurantClient(delegate, cacheManager);
+    }
+
+    @Test
+    void testGetRestaurantById_CallsDelegateOnce() {
+        when(delegate.getRestaurantById(1L)).thenReturn(TestData.RESTAURANT_DTO);
+
+        assertSame(TestData.RESTAURANT_DTO, cachingRestaurantClient.getRestaurantById(1L));
+        assertSame(TestData.RESTAURANT_DTO, cachingRestaurantClient.getRestaurantById(1L));
+
+        verify(delegate, times(1)).getRestaurantById(1L);
+    }
+
+    @Test
+    void testGetRestaurantById_PropagatesNotFoundUnwrapped() {
+        Request request = Request.create(Request.HttpMethod.GET, "/api/restaurants/1", new HashMap<>(), null, StandardCharsets.UTF_8, null);
+        when(delegate.getRestaurantById(1L)).thenThrow(new FeignException.NotFound("Not found", request, null, null));
+
+        assertThrows(FeignException.NotFound.class, () -> cachingRestaurantClient.getRestaurantById(1L));
+        assertThrows(FeignException.NotFound.class, () -> cachingRestaurantClient.getRestaurantById(1L));
+
+        verify(delegate, times(2)).getRestaurantById(1L);
+    }
+
+    @Test
+    void testGetByIdIn_FetchesOnlyMissingItems() {
+        MenuItemDto first = new MenuItemDto.Builder().id(1L).price(BigDecimal.ONE).build();
+        MenuItemDto second = new MenuItemDto.Builder().id(2L).price(BigDecimal.TEN).build();
+        when(delegate.getByIdIn(List.of(1L))).thenReturn(List.of(first));
+        when(delegate.getByIdIn(List.of(2L))).thenReturn(List.of(second));
+
+        cachingRestaurantClient.getByIdIn(List.of(1L, 1L));
+        List<MenuItemDto> result = cachingRestaurantClient.getByIdIn(List.of(1L, 2L));
+
+        assertEquals(List.of(first, second), result);
+        verify(delegate).getByIdIn(List.of(1L));
+        verify(delegate).getByIdIn(List.of(2L));
+        verifyNoMoreInteractions(delegate);
+    }
+
+    @Test
+    void testCheckRestaurantExists_SkipsKnownRestaurants() {
+        when(delegate.getRestaurantById(1L)).thenReturn(TestData.RESTAURANT_DTO);
+
+        cachingRestaurantClient.getRestaurantById(1L);
+        cachingRestaurantClient.checkRestaurantExists(1L);
+        cachingRestaurantClient.checkRestaurantExists(2L);
+        cachingRestaurantClient.checkRestaurantExists(2L);
+
+        verify(delegate, never()).checkRestaurantExists(1L);
+        verify(delegate, times(1)).checkRestaurantExists(2L);
+    }
+
+    @Test
+    void testExistsByIds_AsksOnlyForUnknownRestaurants() {
+        when(delegate.getRestaurantById(1L)).thenReturn(TestData.RESTAURANT_DTO);
+        when(delegate.existsByIds(List.of(2L, 3L))).thenReturn(new byte[]{0b01});
+
+        cachingRestaurantClient.getRestaurantById(1L);
+        byte[] bitmap = cachingRestaurantClient.existsByIds(List.of(1L, 2L, 3L, 2L));
+        byte[] known = cachingRestaurantClient.existsByIds(List.of(2L, 1L));
+
+        assertArrayEquals(new byte[]{0b1011}, bitmap);
+        assertArrayEquals(new byte[]{0b11}, known);
+        verify(delegate, times(1)).existsByIds(List.of(2L, 3L));
+        verifyNoMoreInteractions(delegate);
+    }
+}
@@ -0,0 +1,46 @@
+package com.gklyphon.sabor_digital.order.infrastructure.repositories;
+
+import com.gklyphon.sabor_digital.order.domain.models.IdempotencyRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "restaurant-service.url=http://localhost",
+        "table-service.url=http://localhost",
+        "waiter-service.url=http://localhost"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class IIdempotencyRecordRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 4, 27, 12, 0);
+
+    @Autowired
+    private IIdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Test
+    void testSaveAndFlush_RejectsExistingKeyInsteadOfOverwriting() {
+        idempotencyRecordRepository.saveAndFlush(new IdempotencyRecord("key-1", "a", NOW, NOW.plusDays(1)));
+
+        assertThrows(DataIntegrityViolationException.class, () -> idempotencyRecordRepository.saveAndFlush(
+                new IdempotencyRecord("key-1", "b", NOW, NOW.plusDays(1))));
+    }
+
+    @Test
+    void testDeleteExpired_KeepsUnexpiredKeys() {
+        idempotencyRecordRepository.saveAndFlush(new IdempotencyRecord("expired", "a", NOW.minusDays(2), NOW.minusDays(1)));
+        idempotencyRecordRepository.saveAndFlush(new IdempotencyRecord("live", "b", NOW, NOW.plusDays(1)));
+
+        assertEquals(0, idempotencyRecordRepository.deleteExpired("live", NOW));
+        assertEquals(1, idempotencyRecordRepository.deleteAllExpired(NOW));
+        assertTrue(idempotencyRecordRepository.existsById("live"));
+        assertFalse(idempotencyRecordRepository.existsById("expired"));
+    }
+}
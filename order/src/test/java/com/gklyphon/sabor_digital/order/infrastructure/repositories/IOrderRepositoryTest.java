@@ -0,0 +1,119 @@
+package com.gklyphon.sabor_digital.order.infrastructure.repositories;
+
+import com.gklyphon.sabor_digital.order.domain.models.Order;
+import com.gklyphon.sabor_digital.order.infrastructure.repositories.projections.OrderExportRow;
+import com.gklyphon.sabor_digital.order.infrastructure.repositories.projections.OrderItemSaleRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "restaurant-service.url=http://localhost",
+        "table-service.url=http://localhost",
+        "waiter-service.url=http://localhost"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class IOrderRepositoryTest {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Autowired
+    private IOrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < PAGE_SIZE + 10; i++) {
+            orderRepository.save(new Order.Builder().restaurantId(1L).itemsId(List.of(1L, 2L, 3L)).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testFindAllByRestaurantId_LoadsPageItemsInOneQuery() {
+        Page<Order> page = orderRepository.findAllByRestaurantId(1L, PageRequest.of(0, PAGE_SIZE));
+        page.forEach(order -> assertEquals(3, order.getItemsId().size()));
+
+        assertEquals(PAGE_SIZE, page.getNumberOfElements());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindFirstByRestaurantId_LoadsPageItemsInOneQuery() {
+        List<Order> orders = orderRepository.findFirstByRestaurantId(1L, Limit.of(PAGE_SIZE));
+        orders.forEach(order -> assertEquals(3, order.getItemsId().size()));
+
+        assertEquals(PAGE_SIZE, orders.size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testStreamExportRows_ReadsOrdersWithItemsInOneQuery() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderExportRow> rows;
+        try (Stream<OrderExportRow> stream = orderRepository.streamExportRows(1L, now.minusHours(1), now.plusHours(1))) {
+            rows = stream.toList();
+        }
+
+        assertEquals((PAGE_SIZE + 10) * 3, rows.size());
+        assertEquals(PAGE_SIZE + 10, rows.stream().map(OrderExportRow::id).distinct().count());
+        for (int i = 0; i < rows.size(); i += 3) {
+            Long orderId = rows.get(i).id();
+            assertTrue(rows.subList(i, i + 3).stream().allMatch(row -> orderId.equals(row.id())));
+        }
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        try (Stream<OrderExportRow> stream = orderRepository.streamExportRows(1L, now.plusHours(1), now.plusHours(2))) {
+            assertEquals(0, stream.count());
+        }
+    }
+
+    @Test
+    void testStreamItemSales_ReadsOneRowPerItem() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderItemSaleRow> rows;
+        try (Stream<OrderItemSaleRow> stream = orderRepository.streamItemSales(now.minusHours(1), now.plusHours(1))) {
+            rows = stream.toList();
+        }
+
+        assertEquals((PAGE_SIZE + 10) * 3, rows.size());
+        assertTrue(rows.stream().allMatch(row -> row.restaurantId() == 1L && row.itemId() != null));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindLockedById_LoadsOrderForUpdate() {
+        Long id = orderRepository.findFirstByRestaurantId(1L, Limit.of(1)).get(0).getId();
+        entityManager.clear();
+
+        Order order = orderRepository.findLockedById(id).orElseThrow();
+
+        assertEquals(id, order.getId());
+        assertEquals(LockModeType.PESSIMISTIC_WRITE, entityManager.getLockMode(order));
+        assertTrue(orderRepository.findLockedById(-1L).isEmpty());
+    }
+}
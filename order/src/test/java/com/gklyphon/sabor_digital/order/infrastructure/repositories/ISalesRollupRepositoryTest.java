@@ -0,0 +1,52 @@
+package com.gklyphon.sabor_digital.order.infrastructure.repositories;
+
+import com.gklyphon.sabor_digital.order.domain.models.SalesRollup;
+import com.gklyphon.sabor_digital.order.domain.models.SalesRollupId;
+import com.gklyphon.sabor_digital.order.domain.models.enums.OrderType;
+import com.gklyphon.sabor_digital.order.domain.models.enums.PaymentType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "restaurant-service.url=http://localhost",
+        "table-service.url=http://localhost",
+        "waiter-service.url=http://localhost"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class ISalesRollupRepositoryTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2025, 4, 25, 12, 0);
+
+    @Autowired
+    private ISalesRollupRepository salesRollupRepository;
+
+    @Test
+    void testFindAllByRestaurantIdInWindow_SkipsEmptyAndOutsideBuckets() {
+        salesRollupRepository.saveAll(List.of(
+                rollup(1L, NOON, PaymentType.DIGITAL_WALLET, 2),
+                rollup(1L, NOON, PaymentType.CASH, 1),
+                rollup(1L, NOON.minusHours(1), PaymentType.CASH, 4),
+                rollup(1L, NOON.plusHours(1), PaymentType.CASH, 0),
+                rollup(1L, NOON.plusHours(2), PaymentType.CASH, 5),
+                rollup(2L, NOON, PaymentType.CASH, 6)));
+
+        List<SalesRollup> rollups = salesRollupRepository.findAllByRestaurantIdInWindow(1L, NOON, NOON.plusHours(2));
+
+        assertEquals(List.of(PaymentType.CASH, PaymentType.DIGITAL_WALLET),
+                rollups.stream().map(rollup -> rollup.getId().getPaymentType()).toList());
+    }
+
+    private static SalesRollup rollup(Long restaurantId, LocalDateTime hour, PaymentType paymentType, long orderCount) {
+        return new SalesRollup(new SalesRollupId(restaurantId, hour, OrderType.DINE_IN, paymentType),
+                orderCount, BigDecimal.valueOf(orderCount * 10));
+    }
+}
@@ -0,0 +1,66 @@
+package com.gklyphon.sabor_digital.order.infrastructure.repositories;
+
+import com.gklyphon.sabor_digital.order.domain.models.SalesRollup;
+import com.gklyphon.sabor_digital.order.domain.models.SalesRollupId;
+import com.gklyphon.sabor_digital.order.domain.models.enums.OrderType;
+import com.gklyphon.sabor_digital.order.domain.models.enums.PaymentType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the native upsert against PostgreSQL, since H2 does not accept {@code ON CONFLICT ... DO UPDATE}
+ * even in PostgreSQL mode. Skipped when no Docker daemon is available.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "restaurant-service.url=http://localhost",
+        "table-service.url=http://localhost",
+        "waiter-service.url=http://localhost"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class ISalesRollupRepositoryUpsertTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2025, 4, 25, 12, 0);
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+    }
+
+    @Autowired
+    private ISalesRollupRepository salesRollupRepository;
+
+    @Test
+    void testUpsert_InsertsThenIncrementsBucket() {
+        assertEquals(1, salesRollupRepository.upsert(1L, NOON, "DINE_IN", "CASH", 1, new BigDecimal("12.50")));
+        assertEquals(1, salesRollupRepository.upsert(1L, NOON, "DINE_IN", "CASH", 2, new BigDecimal("7.50")));
+        salesRollupRepository.upsert(1L, NOON, "DINE_IN", "CASH", -1, new BigDecimal("-5.00"));
+        salesRollupRepository.upsert(1L, NOON, "DINE_IN", "DIGITAL_WALLET", 1, new BigDecimal("3.00"));
+
+        SalesRollup cash = salesRollupRepository.findById(
+                new SalesRollupId(1L, NOON, OrderType.DINE_IN, PaymentType.CASH)).orElseThrow();
+        assertEquals(2, cash.getOrderCount());
+        assertEquals(0, new BigDecimal("15.00").compareTo(cash.getRevenue()));
+        assertEquals(2, salesRollupRepository.count());
+    }
+}
@@ -0,0 +1,161 @@
+package com.gklyphon.sabor_digital.order.infrastructure.sse;
+
+import com.gklyphon.sabor_digital.order.application.events.OrderEvent;
+import com.gklyphon.sabor_digital.order.domain.models.enums.OrderStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderEventStreamerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testOnOrderEvent_ConflatesPendingEventsPerOrder() throws Exception {
+        OrderEventStreamer streamer = new OrderEventStreamer(meterRegistry, 4, 60_000);
+        RecordingEmitter emitter = new RecordingEmitter();
+        streamer.subscribe(1L, emitter);
+
+        streamer.onOrderEvent(event(1L, OrderStatus.PENDING));
+        emitter.awaitSending();
+        streamer.onOrderEvent(event(2L, OrderStatus.PENDING));
+        streamer.onOrderEvent(event(3L, OrderStatus.PENDING));
+        streamer.onOrderEvent(event(2L, OrderStatus.DELIVERED));
+        streamer.onOrderEvent(event(9L, OrderStatus.PENDING, 2L));
+        emitter.release();
+
+        List<OrderEvent> sent = emitter.take(3);
+        assertEquals(List.of(1L, 2L, 3L), sent.stream().map(OrderEvent::getOrderId).toList());
+        assertEquals(OrderStatus.DELIVERED, sent.get(1).getOrderStatus());
+        assertNull(emitter.sent.poll(100, TimeUnit.MILLISECONDS));
+        assertEquals(1, meterRegistry.get("order.stream.conflated").counter().count());
+    }
+
+    @Test
+    void testOnOrderEvent_CompletesSubscriberWhenBufferOverflows() throws Exception {
+        OrderEventStreamer streamer = new OrderEventStreamer(meterRegistry, 2, 60_000);
+        RecordingEmitter emitter = new RecordingEmitter();
+        streamer.subscribe(1L, emitter);
+
+        streamer.onOrderEvent(event(1L, OrderStatus.PENDING));
+        emitter.awaitSending();
+        streamer.onOrderEvent(event(2L, OrderStatus.PENDING));
+        streamer.onOrderEvent(event(3L, OrderStatus.PENDING));
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> streamer.onOrderEvent(event(4L, OrderStatus.PENDING)));
+
+        assertFalse(emitter.completed);
+        assertEquals(1, meterRegistry.get("order.stream.overflowed").counter().count());
+        assertEquals(0, meterRegistry.get("order.stream.subscribers").gauge().value());
+        emitter.release();
+        emitter.awaitCompleted();
+        assertEquals(1L, emitter.take(1).get(0).getOrderId());
+        assertNull(emitter.sent.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testSubscribe_StopsStreamingOnTimeoutAndCompletion() throws Exception {
+        OrderEventStreamer streamer = new OrderEventStreamer(meterRegistry, 4, 60_000);
+        RecordingEmitter timedOut = new RecordingEmitter();
+        RecordingEmitter completed = new RecordingEmitter();
+        timedOut.release();
+        completed.release();
+        streamer.subscribe(1L, timedOut);
+        streamer.subscribe(1L, completed);
+        assertEquals(2, meterRegistry.get("order.stream.subscribers").gauge().value());
+
+        timedOut.timeoutCallback.run();
+        completed.completionCallback.run();
+        streamer.onOrderEvent(event(1L, OrderStatus.PENDING));
+
+        assertEquals(0, meterRegistry.get("order.stream.subscribers").gauge().value());
+        assertNull(timedOut.sent.poll(100, TimeUnit.MILLISECONDS));
+        assertNull(completed.sent.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    private static OrderEvent event(Long orderId, OrderStatus orderStatus) {
+        return event(orderId, orderStatus, 1L);
+    }
+
+    private static OrderEvent event(Long orderId, OrderStatus orderStatus, Long restaurantId) {
+        return new OrderEvent(orderId, restaurantId, orderStatus, LocalDateTime.now());
+    }
+
+    /**
+     * Emitter recording the streamed events, whose sends block until released while holding the emitter
+     * monitor, like a write to a stalled client.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<OrderEvent> sent = new LinkedBlockingQueue<>();
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+        private final CountDownLatch completion = new CountDownLatch(1);
+        private volatile Runnable timeoutCallback;
+        private volatile Runnable completionCallback;
+        private volatile boolean completed;
+
+        @Override
+        public synchronized void send(SseEventBuilder builder) {
+            sending.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+            builder.build().stream()
+                    .map(DataWithMediaType::getData)
+                    .filter(OrderEvent.class::isInstance)
+                    .forEach(data -> sent.add((OrderEvent) data));
+        }
+
+        @Override
+        public synchronized void onTimeout(Runnable callback) {
+            this.timeoutCallback = callback;
+        }
+
+        @Override
+        public synchronized void onCompletion(Runnable callback) {
+            this.completionCallback = callback;
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+            completion.countDown();
+        }
+
+        private void awaitSending() throws InterruptedException {
+            assertTrue(sending.await(5, TimeUnit.SECONDS));
+        }
+
+        private void awaitCompleted() throws InterruptedException {
+            assertTrue(completion.await(5, TimeUnit.SECONDS));
+        }
+
+        private void release() {
+            released.countDown();
+        }
+
+        private List<OrderEvent> take(int count) throws InterruptedException {
+            List<OrderEvent> events = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                OrderEvent event = sent.poll(5, TimeUnit.SECONDS);
+                assertNotNull(event);
+                events.add(event);
+            }
+            return events;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.gklyphon.sabor_digital.restaurant.application.dtos;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for one page of a keyset-paginated listing ordered by ID.
+ * The next page is requested with {@code afterId} set to {@link #getNextAfterId()}.
+ *
+ * @param <T> The type of the listed elements.
+ * @author JFCiscoHuerta
+ * @date 2025/04/23
+ */
+public class KeysetPageDto<T> {
+
+    private final List<T> content;
+    private final Long nextAfterId;
+
+    /**
+     * Constructs a new {@code KeysetPageDto}.
+     *
+     * @param content The elements of the page.
+     * @param nextAfterId The ID to resume from, or {@code null} if this is the last page.
+     */
+    public KeysetPageDto(List<T> content, Long nextAfterId) {
+        this.content = content;
+        this.nextAfterId = nextAfterId;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public Long getNextAfterId() {
+        return nextAfterId;
+    }
+
+    public boolean isLast() {
+        return nextAfterId == null;
+    }
+}
@@ -0,0 +1,63 @@
+package com.gklyphon.sabor_digital.restaurant.application.dtos;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object (DTO) for a menu item returned by the catalog search.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/22
+ */
+public class MenuItemSearchResultDto {
+
+    private final Long id;
+    private final String name;
+    private final BigDecimal price;
+    private final int preparationTime;
+    private final Long menuId;
+    private final Long restaurantId;
+
+    /**
+     * Constructs a new {@code MenuItemSearchResultDto}.
+     *
+     * @param id              The ID of the menu item.
+     * @param name            The name of the menu item.
+     * @param price           The price of the menu item.
+     * @param preparationTime The preparation time of the menu item, in minutes.
+     * @param menuId          The ID of the menu the item belongs to.
+     * @param restaurantId    The ID of the restaurant owning the menu.
+     */
+    public MenuItemSearchResultDto(Long id, String name, BigDecimal price, int preparationTime,
+                                   Long menuId, Long restaurantId) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.preparationTime = preparationTime;
+        this.menuId = menuId;
+        this.restaurantId = restaurantId;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public int getPreparationTime() {
+        return preparationTime;
+    }
+
+    public Long getMenuId() {
+        return menuId;
+    }
+
+    public Long getRestaurantId() {
+        return restaurantId;
+    }
+}
@@ -0,0 +1,98 @@
+package com.gklyphon.sabor_digital.restaurant.application.dtos;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) holding every menu and menu item of a restaurant, as loaded by
+ * front-of-house devices at the start of a shift.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/20
+ */
+public class MenuSnapshotDto {
+
+    private final Long restaurantId;
+    private final List<MenuEntry> menus;
+
+    /**
+     * Constructs a new {@code MenuSnapshotDto}.
+     *
+     * @param restaurantId The ID of the restaurant.
+     * @param menus The menus of the restaurant with their items.
+     */
+    public MenuSnapshotDto(Long restaurantId, List<MenuEntry> menus) {
+        this.restaurantId = restaurantId;
+        this.menus = menus;
+    }
+
+    public Long getRestaurantId() {
+        return restaurantId;
+    }
+
+    public List<MenuEntry> getMenus() {
+        return menus;
+    }
+
+    /**
+     * A menu of the snapshot with its items.
+     */
+    public static class MenuEntry {
+
+        private final Long id;
+        private final String name;
+        private final List<ItemEntry> items;
+
+        public MenuEntry(Long id, String name, List<ItemEntry> items) {
+            this.id = id;
+            this.name = name;
+            this.items = items;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public List<ItemEntry> getItems() {
+            return items;
+        }
+    }
+
+    /**
+     * A menu item of the snapshot.
+     */
+    public static class ItemEntry {
+
+        private final Long id;
+        private final String name;
+        private final BigDecimal price;
+        private final int preparationTime;
+
+        public ItemEntry(Long id, String name, BigDecimal price, int preparationTime) {
+            this.id = id;
+            this.name = name;
+            this.price = price;
+            this.preparationTime = preparationTime;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public BigDecimal getPrice() {
+            return price;
+        }
+
+        public int getPreparationTime() {
+            return preparationTime;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.gklyphon.sabor_digital.restaurant.application.events;
+
+/**
+ * In-process event published whenever a menu or one of its items is created, updated or deleted.
+ *
+ * <p>Either identifier may be {@code null} when the writer does not know it, e.g. a menu item
+ * write only knows the menu it belongs to.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/20
+ */
+public class MenuChangedEvent {
+
+    private final Long restaurantId;
+    private final Long menuId;
+
+    /**
+     * Constructs a new {@code MenuChangedEvent}.
+     *
+     * @param restaurantId The ID of the restaurant owning the changed menu, if known.
+     * @param menuId       The ID of the changed menu, if known.
+     */
+    public MenuChangedEvent(Long restaurantId, Long menuId) {
+        this.restaurantId = restaurantId;
+        this.menuId = menuId;
+    }
+
+    /**
+     * Creates an event for a change in the menus of a restaurant.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @return the corresponding event
+     */
+    public static MenuChangedEvent ofRestaurant(Long restaurantId) {
+        return new MenuChangedEvent(restaurantId, null);
+    }
+
+    /**
+     * Creates an event for a change in the items of a menu.
+     *
+     * @param menuId the ID of the menu
+     * @return the corresponding event
+     */
+    public static MenuChangedEvent ofMenu(Long menuId) {
+        return new MenuChangedEvent(null, menuId);
+    }
+
+    public Long getRestaurantId() {
+        return restaurantId;
+    }
+
+    public Long getMenuId() {
+        return menuId;
+    }
+}
@@ -0,0 +1,288 @@
+package com.gklyphon.sabor_digital.restaurant.application.search;
+
+import com.gklyphon.sabor_digital.commons.utils.LongHashSet;
+import com.gklyphon.sabor_digital.restaurant.application.dtos.MenuItemSearchResultDto;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over menu item names supporting prefix search.
+ *
+ * <p>Names are folded to lower case without diacritics and split into words, and every prefix of each
+ * word (up to {@link #MAX_PREFIX_LENGTH} characters) maps to the IDs of the items containing it. A query
+ * matches the items having, for each of its words, a word starting with it. Every operation runs under a
+ * read-write lock, so searches proceed concurrently and see each update atomically.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/22
+ */
+public final class MenuItemIndex {
+
+    /**
+     * Longest prefix kept in the postings. Longer query words are matched against the documents.
+     */
+    static final int MAX_PREFIX_LENGTH = 16;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Comparator<MenuItemSearchResultDto> RANKING = Comparator
+            .comparingInt((MenuItemSearchResultDto item) -> item.getName().length())
+            .thenComparing(MenuItemSearchResultDto::getName)
+            .thenComparing(MenuItemSearchResultDto::getId);
+
+    private final Map<String, LongHashSet> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<Long, LongHashSet> byMenu = new HashMap<>();
+    private final Map<Long, LongHashSet> byRestaurant = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds or replaces a menu item.
+     *
+     * @param item the menu item
+     */
+    public void put(MenuItemSearchResultDto item) {
+        lock.writeLock().lock();
+        try {
+            unindex(item.getId());
+            add(item);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a menu item.
+     *
+     * @param id the ID of the menu item
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            unindex(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Atomically replaces the indexed items of a menu.
+     *
+     * @param menuId the ID of the menu
+     * @param items the current items of the menu
+     */
+    public void replaceMenu(Long menuId, Collection<MenuItemSearchResultDto> items) {
+        replace(byMenu, menuId, items);
+    }
+
+    /**
+     * Atomically replaces the indexed items of a restaurant.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param items the current items of the restaurant
+     */
+    public void replaceRestaurant(Long restaurantId, Collection<MenuItemSearchResultDto> items) {
+        replace(byRestaurant, restaurantId, items);
+    }
+
+    /**
+     * Atomically replaces the whole content of the index.
+     *
+     * @param items every menu item
+     */
+    public void replaceAll(Collection<MenuItemSearchResultDto> items) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            byMenu.clear();
+            byRestaurant.clear();
+            items.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Searches the menu items whose name has, for each word of the query, a word starting with it.
+     * Shorter names are ranked first.
+     *
+     * @param query the search text
+     * @param restaurantId the restaurant to restrict the search to, or {@code null} for every restaurant
+     * @param limit the maximum number of results
+     * @return the matching menu items
+     */
+    public List<MenuItemSearchResultDto> search(String query, Long restaurantId, int limit) {
+        List<String> terms = words(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        List<MenuItemSearchResultDto> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            LongHashSet candidates = restaurantId != null ? byRestaurant.get(restaurantId) : null;
+            if (restaurantId != null && candidates == null) {
+                return List.of();
+            }
+            for (String term : terms) {
+                LongHashSet posting = postings.get(prefixKey(term));
+                if (posting == null) {
+                    return List.of();
+                }
+                if (candidates == null || posting.size() < candidates.size()) {
+                    candidates = posting;
+                }
+            }
+            candidates.forEach(id -> {
+                Document document = documents.get(id);
+                if ((restaurantId == null || restaurantId.equals(document.item.getRestaurantId()))
+                        && document.matches(terms)) {
+                    matches.add(document.item);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        matches.sort(RANKING);
+        return matches.size() > limit ? List.copyOf(matches.subList(0, limit)) : matches;
+    }
+
+    /**
+     * Returns the number of indexed menu items.
+     *
+     * @return the number of menu items
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Splits a text into lower-case words without diacritics, e.g. {@code "Café con Leche"} into
+     * {@code [cafe, con, leche]}.
+     *
+     * @param text the text to split, possibly {@code null}
+     * @return the words of the text
+     */
+    static List<String> words(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> words = new ArrayList<>();
+        for (String word : SEPARATORS.split(folded)) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private void replace(Map<Long, LongHashSet> groups, Long key, Collection<MenuItemSearchResultDto> items) {
+        lock.writeLock().lock();
+        try {
+            LongHashSet scope = groups.get(key);
+            if (scope != null) {
+                long[] ids = new long[scope.size()];
+                int[] count = {0};
+                scope.forEach(id -> ids[count[0]++] = id);
+                for (long id : ids) {
+                    unindex(id);
+                }
+            }
+            for (MenuItemSearchResultDto item : items) {
+                unindex(item.getId());
+                add(item);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void add(MenuItemSearchResultDto item) {
+        Document document = new Document(item, words(item.getName()));
+        documents.put(item.getId(), document);
+        for (String word : document.words) {
+            for (int length = 1; length <= Math.min(word.length(), MAX_PREFIX_LENGTH); length++) {
+                postings.computeIfAbsent(word.substring(0, length), key -> new LongHashSet(4)).add(item.getId());
+            }
+        }
+        if (item.getMenuId() != null) {
+            byMenu.computeIfAbsent(item.getMenuId(), key -> new LongHashSet(16)).add(item.getId());
+        }
+        if (item.getRestaurantId() != null) {
+            byRestaurant.computeIfAbsent(item.getRestaurantId(), key -> new LongHashSet(64)).add(item.getId());
+        }
+    }
+
+    private void unindex(long id) {
+        Document document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        for (String word : document.words) {
+            for (int length = 1; length <= Math.min(word.length(), MAX_PREFIX_LENGTH); length++) {
+                String key = word.substring(0, length);
+                LongHashSet posting = postings.get(key);
+                if (posting != null && posting.remove(id) && posting.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        }
+        detach(byMenu, document.item.getMenuId(), id);
+        detach(byRestaurant, document.item.getRestaurantId(), id);
+    }
+
+    private static void detach(Map<Long, LongHashSet> groups, Long key, long id) {
+        if (key == null) {
+            return;
+        }
+        LongHashSet group = groups.get(key);
+        if (group != null && group.remove(id) && group.isEmpty()) {
+            groups.remove(key);
+        }
+    }
+
+    private static String prefixKey(String term) {
+        return term.length() > MAX_PREFIX_LENGTH ? term.substring(0, MAX_PREFIX_LENGTH) : term;
+    }
+
+    /**
+     * An indexed menu item with the words of its name.
+     */
+    private static final class Document {
+
+        private final MenuItemSearchResultDto item;
+        private final List<String> words;
+
+        private Document(MenuItemSearchResultDto item, List<String> words) {
+            this.item = item;
+            this.words = words;
+        }
+
+        private boolean matches(List<String> terms) {
+            for (String term : terms) {
+                boolean found = false;
+                for (String word : words) {
+                    if (word.startsWith(term)) {
+                        found = true;
+                        break;
+                    }
+                }
+                if (!found) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
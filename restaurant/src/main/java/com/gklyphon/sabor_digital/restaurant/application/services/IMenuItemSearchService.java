@@ -0,0 +1,29 @@
+package com.gklyphon.sabor_digital.restaurant.application.services;
+
+import com.gklyphon.sabor_digital.restaurant.application.dtos.MenuItemSearchResultDto;
+
+import java.util.List;
+
+/**
+ * Service interface for searching menu items by name.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/22
+ */
+public interface IMenuItemSearchService {
+
+    /**
+     * Searches the menu items whose name has, for each word of the query, a word starting with it.
+     *
+     * @param query The search text.
+     * @param restaurantId The restaurant to restrict the search to, or {@code null} for every restaurant.
+     * @param limit The maximum number of results.
+     * @return The matching menu items, shorter names first.
+     */
+    List<MenuItemSearchResultDto> search(String query, Long restaurantId, int limit);
+
+    /**
+     * Rebuilds the whole search index from the database.
+     */
+    void reindex();
+}
@@ -1,10 +1,13 @@
 package com.gklyphon.sabor_digital.restaurant.application.services;
 
+import com.gklyphon.sabor_digital.restaurant.application.dtos.KeysetPageDto;
 import com.gklyphon.sabor_digital.restaurant.application.dtos.MenuItemDto;
+import com.gklyphon.sabor_digital.restaurant.application.dtos.MenuItemSearchResultDto;
 import com.gklyphon.sabor_digital.restaurant.domain.entities.MenuItem;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -40,4 +43,21 @@ public interface IMenuItemService extends IService<MenuItem, MenuItemDto> {
      * @return A {@link Page} containing a list of {@link MenuItem} objects.
      */
     Page<MenuItem> findAllByMenuId(Long menuId, Pageable pageable);
+
+    /**
+     * Retrieves one keyset page of the menu items of a restaurant within a price and preparation time range.
+     *
+     * @param restaurantId The restaurant identifier.
+     * @param minPrice The minimum price, inclusive, or {@code null} for no lower bound.
+     * @param maxPrice The maximum price, inclusive, or {@code null} for no upper bound.
+     * @param minPreparationTime The minimum preparation time in minutes, inclusive, or {@code null} for no lower bound.
+     * @param maxPreparationTime The maximum preparation time in minutes, inclusive, or {@code null} for no upper bound.
+     * @param afterId The ID returned as {@code nextAfterId} by the previous page, or {@code null} for the first page.
+     * @param size The maximum number of menu items of the page.
+     * @return A {@link KeysetPageDto} of the matching menu items, ordered by ID.
+     */
+    KeysetPageDto<MenuItemSearchResultDto> findAllByRestaurantIdInRange(Long restaurantId,
+                                                                        BigDecimal minPrice, BigDecimal maxPrice,
+                                                                        Integer minPreparationTime, Integer maxPreparationTime,
+                                                                        Long afterId, int size);
 }
@@ -0,0 +1,27 @@
+package com.gklyphon.sabor_digital.restaurant.application.services;
+
+import com.gklyphon.sabor_digital.restaurant.application.snapshots.MenuSnapshot;
+
+/**
+ * Service interface providing the pre-serialized menu snapshot of a restaurant.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/20
+ */
+public interface IMenuSnapshotService {
+
+    /**
+     * Retrieves the current menu snapshot of a restaurant, generating it if it is not cached.
+     *
+     * @param restaurantId The ID of the restaurant.
+     * @return The {@link MenuSnapshot} of the restaurant.
+     */
+    MenuSnapshot getSnapshot(Long restaurantId);
+
+    /**
+     * Discards the cached menu snapshot of a restaurant, so the next request regenerates it.
+     *
+     * @param restaurantId The ID of the restaurant.
+     */
+    void evict(Long restaurantId);
+}
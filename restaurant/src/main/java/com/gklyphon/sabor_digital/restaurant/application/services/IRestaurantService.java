@@ -3,6 +3,8 @@ package com.gklyphon.sabor_digital.restaurant.application.services;
 import com.gklyphon.sabor_digital.restaurant.application.dtos.RestaurantDto;
 import com.gklyphon.sabor_digital.restaurant.domain.entities.Restaurant;
 
+import java.util.List;
+
 /**
  * Service interface for managing restaurant-related operations.
  * Extends {@link IService} with {@link Restaurant} as the entity type
@@ -12,4 +14,20 @@ import com.gklyphon.sabor_digital.restaurant.domain.entities.Restaurant;
  * @date 2025/03/19
  */
 public interface IRestaurantService extends IService<Restaurant, RestaurantDto> {
+
+    /**
+     * Tells whether a restaurant exists, without loading it.
+     *
+     * @param id The unique identifier of the restaurant.
+     * @return {@code true} if a restaurant has the given ID.
+     */
+    boolean existsById(Long id);
+
+    /**
+     * Tells which of the given restaurants exist.
+     *
+     * @param ids List of restaurant IDs to check.
+     * @return A bitmap whose bit {@code i} is set when the {@code i}-th ID exists.
+     */
+    byte[] existsByIds(List<Long> ids);
 }
@@ -0,0 +1,84 @@
+package com.gklyphon.sabor_digital.restaurant.application.services.impl;
+
+import com.gklyphon.sabor_digital.restaurant.application.dtos.MenuItemSearchResultDto;
+import com.gklyphon.sabor_digital.restaurant.application.events.MenuChangedEvent;
+import com.gklyphon.sabor_digital.restaurant.application.search.MenuItemIndex;
+import com.gklyphon.sabor_digital.restaurant.application.services.IMenuItemSearchService;
+import com.gklyphon.sabor_digital.restaurant.infrastructure.repositories.IMenuItemRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Implementation of {@link IMenuItemSearchService} answering searches from an in-memory {@link MenuItemIndex}.
+ *
+ * <p>The index is built once the application is ready and then kept up to date from the {@link MenuChangedEvent}s
+ * published by the menu, menu item and restaurant services: after each committed change only the items of the
+ * affected menu or restaurant are reloaded and swapped into the index.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/22
+ */
+@Service
+public class MenuItemSearchServiceImpl implements IMenuItemSearchService {
+
+    /**
+     * Upper bound on the number of results of a single search.
+     */
+    static final int MAX_LIMIT = 100;
+
+    private final MenuItemIndex index = new MenuItemIndex();
+    private final IMenuItemRepository menuItemRepository;
+
+    /**
+     * Constructs a new {@code MenuItemSearchServiceImpl}.
+     *
+     * @param menuItemRepository The repository for loading the searchable fields of the menu items.
+     */
+    public MenuItemSearchServiceImpl(IMenuItemRepository menuItemRepository) {
+        this.menuItemRepository = menuItemRepository;
+    }
+
+    /**
+     * Searches the menu items whose name has, for each word of the query, a word starting with it.
+     *
+     * @param query The search text.
+     * @param restaurantId The restaurant to restrict the search to, or {@code null} for every restaurant.
+     * @param limit The maximum number of results, capped to {@value #MAX_LIMIT}.
+     * @return The matching menu items, shorter names first.
+     */
+    @Override
+    public List<MenuItemSearchResultDto> search(String query, Long restaurantId, int limit) {
+        return index.search(query, restaurantId, Math.min(limit, MAX_LIMIT));
+    }
+
+    /**
+     * Rebuilds the whole search index from the database.
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void reindex() {
+        index.replaceAll(menuItemRepository.findAllSearchResults());
+    }
+
+    /**
+     * Reloads the menu items affected by a menu change once the originating transaction commits.
+     * When neither the menu nor the restaurant is known the whole index is rebuilt.
+     *
+     * @param event The menu change event.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        if (event.getMenuId() != null) {
+            index.replaceMenu(event.getMenuId(), menuItemRepository.findSearchResultsByMenuId(event.getMenuId()));
+        } else if (event.getRestaurantId() != null) {
+            index.replaceRestaurant(event.getRestaurantId(),
+                    menuItemRepository.findSearchResultsByRestaurantId(event.getRestaurantId()));
+        } else {
+            reindex();
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package com.gklyphon.sabor_digital.restaurant.application.services.impl;
 
+import com.gklyphon.sabor_digital.commons.utils.ChunkedInQuery;
+import com.gklyphon.sabor_digital.commons.utils.LongHashSet;
+import com.gklyphon.sabor_digital.restaurant.application.dtos.KeysetPageDto;
 import com.gklyphon.sabor_digital.restaurant.application.dtos.MenuItemDto;
+import com.gklyphon.sabor_digital.restaurant.application.dtos.MenuItemSearchResultDto;
+import com.gklyphon.sabor_digital.restaurant.application.events.MenuChangedEvent;
 import com.gklyphon.sabor_digital.restaurant.application.mapper.IMapper;
 import com.gklyphon.sabor_digital.restaurant.application.services.IMenuItemService;
 import com.gklyphon.sabor_digital.restaurant.domain.entities.MenuItem;
@@ -8,11 +13,14 @@ import com.gklyphon.sabor_digital.restaurant.infrastructure.repositories.IMenuIt
 import com.gklyphon.sabor_digital.restaurant.infrastructure.exception.exceptions.ElementNotFoundException;
 import org.hibernate.service.spi.ServiceException;
 import org.springframework.beans.BeanUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -25,18 +33,29 @@ import java.util.List;
 @Service
 public class MenuItemServiceImpl implements IMenuItemService {
 
+    /**
+     * Upper bound on the size of a keyset page.
+     */
+    static final int MAX_PAGE_SIZE = 100;
+    private static final BigDecimal NO_MAX_PRICE = BigDecimal.valueOf(Long.MAX_VALUE);
+    private static final BigDecimal NO_MIN_PRICE = NO_MAX_PRICE.negate();
+
     private final IMenuItemRepository menuItemRepository;
     private final IMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Constructs a new {@code MenuItemServiceImpl} with the specified repository and mapper.
      *
      * @param menuItemRepository The repository for managing menu item persistence.
      * @param mapper The mapper for converting between DTOs and entities.
+     * @param eventPublisher The publisher notifying menu changes to in-process listeners.
      */
-    public MenuItemServiceImpl(IMenuItemRepository menuItemRepository, IMapper mapper) {
+    public MenuItemServiceImpl(IMenuItemRepository menuItemRepository, IMapper mapper,
+                               ApplicationEventPublisher eventPublisher) {
         this.menuItemRepository = menuItemRepository;
         this.mapper = mapper;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -76,8 +95,10 @@ public class MenuItemServiceImpl implements IMenuItemService {
     @Transactional
     public MenuItem save(MenuItemDto menuItemDto) {
         try {
-            return menuItemRepository.save(
+            MenuItem menuItem = menuItemRepository.save(
                     mapper.fromMenuItemDtoToMenuItem(menuItemDto));
+            eventPublisher.publishEvent(MenuChangedEvent.ofMenu(menuItemDto.getMenuId()));
+            return menuItem;
         } catch (Exception ex) {
             throw new ServiceException("Error saving menu item.", ex);
         }
@@ -98,7 +119,9 @@ public class MenuItemServiceImpl implements IMenuItemService {
         MenuItem originalMenuItem = findById(id);
         try {
             BeanUtils.copyProperties(menuItemDto, originalMenuItem, "id");
-            return menuItemRepository.save(originalMenuItem);
+            MenuItem menuItem = menuItemRepository.save(originalMenuItem);
+            eventPublisher.publishEvent(menuChangedEvent(menuItem));
+            return menuItem;
         } catch (Exception ex) {
             throw new ServiceException("Error updating menu item.", ex);
         }
@@ -114,9 +137,10 @@ public class MenuItemServiceImpl implements IMenuItemService {
     @Override
     @Transactional
     public void deleteById(Long id) {
-        findById(id);
+        MenuItem menuItem = findById(id);
         try {
             menuItemRepository.deleteById(id);
+            eventPublisher.publishEvent(menuChangedEvent(menuItem));
         } catch (Exception ex) {
             throw new ServiceException("Error deleting menu item.", ex);
         }
@@ -141,6 +165,8 @@ public class MenuItemServiceImpl implements IMenuItemService {
 
     /**
      * Retrieves a list of menu items by their unique identifiers.
+     * Duplicated IDs are queried once, in chunks of at most {@link ChunkedInQuery#MAX_CHUNK_SIZE} IDs,
+     * and the IDs without a match are reported in the exception.
      *
      * @param ids List of menu item IDs to retrieve.
      * @return List of {@link MenuItem} corresponding to the given IDs.
@@ -149,18 +175,65 @@ public class MenuItemServiceImpl implements IMenuItemService {
     @Override
     @Transactional(readOnly = true)
     public List<MenuItem> findByIdIn(List<Long> ids) {
-        List<MenuItem> menuItems = menuItemRepository.findByIdIn(ids);
-        List<Long> foundIds = menuItems
-                .stream()
-                .map(MenuItem::getId)
-                .toList();
-        List<Long> missingIds = ids
-                .stream()
-                .filter(id -> !foundIds.contains(id))
-                .toList();
+        List<Long> distinctIds = LongHashSet.distinct(ids);
+        List<MenuItem> menuItems = ChunkedInQuery.findAll(distinctIds, menuItemRepository::findByIdIn);
+
+        LongHashSet foundIds = new LongHashSet(menuItems.size());
+        menuItems.forEach(found -> foundIds.add(found.getId()));
+
+        List<Long> missingIds = foundIds.missing(distinctIds);
         if (!missingIds.isEmpty()) {
-            throw new ElementNotFoundException("No menu items were found for the provided IDs.");
+            throw new ElementNotFoundException("No menu items were found for the provided IDs.", missingIds);
         }
         return menuItems;
     }
+
+    /**
+     * Retrieves one keyset page of the menu items of a restaurant within a price and preparation time range.
+     * Missing bounds are replaced by the widest values so the query keeps plain range predicates the indexes
+     * can serve, and one extra row is fetched to tell whether another page follows.
+     *
+     * @param restaurantId The restaurant identifier.
+     * @param minPrice The minimum price, inclusive, or {@code null} for no lower bound.
+     * @param maxPrice The maximum price, inclusive, or {@code null} for no upper bound.
+     * @param minPreparationTime The minimum preparation time in minutes, inclusive, or {@code null} for no lower bound.
+     * @param maxPreparationTime The maximum preparation time in minutes, inclusive, or {@code null} for no upper bound.
+     * @param afterId The ID returned as {@code nextAfterId} by the previous page, or {@code null} for the first page.
+     * @param size The maximum number of menu items of the page, capped to {@value #MAX_PAGE_SIZE}.
+     * @return A {@link KeysetPageDto} of the matching menu items, ordered by ID.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPageDto<MenuItemSearchResultDto> findAllByRestaurantIdInRange(Long restaurantId,
+                                                                               BigDecimal minPrice, BigDecimal maxPrice,
+                                                                               Integer minPreparationTime, Integer maxPreparationTime,
+                                                                               Long afterId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        try {
+            List<MenuItemSearchResultDto> menuItems = menuItemRepository.findAllByRestaurantIdInRange(restaurantId,
+                    minPrice != null ? minPrice : NO_MIN_PRICE,
+                    maxPrice != null ? maxPrice : NO_MAX_PRICE,
+                    minPreparationTime != null ? minPreparationTime : Integer.MIN_VALUE,
+                    maxPreparationTime != null ? maxPreparationTime : Integer.MAX_VALUE,
+                    afterId != null ? afterId : Long.MIN_VALUE,
+                    PageRequest.of(0, pageSize + 1));
+            if (menuItems.size() <= pageSize) {
+                return new KeysetPageDto<>(menuItems, null);
+            }
+            List<MenuItemSearchResultDto> content = menuItems.subList(0, pageSize);
+            return new KeysetPageDto<>(List.copyOf(content), content.get(pageSize - 1).getId());
+        } catch (Exception ex) {
+            throw new ServiceException("Error fetching menu items", ex);
+        }
+    }
+
+    /**
+     * Builds the change event of the menu a menu item belongs to.
+     *
+     * @param menuItem The changed menu item.
+     * @return The corresponding {@link MenuChangedEvent}.
+     */
+    private static MenuChangedEvent menuChangedEvent(MenuItem menuItem) {
+        return MenuChangedEvent.ofMenu(menuItem.getMenu() != null ? menuItem.getMenu().getId() : null);
+    }
 }
@@ -1,6 +1,7 @@
 package com.gklyphon.sabor_digital.restaurant.application.services.impl;
 
 import com.gklyphon.sabor_digital.restaurant.application.dtos.MenuDto;
+import com.gklyphon.sabor_digital.restaurant.application.events.MenuChangedEvent;
 import com.gklyphon.sabor_digital.restaurant.application.mapper.IMapper;
 import com.gklyphon.sabor_digital.restaurant.application.services.IMenuService;
 import com.gklyphon.sabor_digital.restaurant.domain.entities.Menu;
@@ -8,6 +9,7 @@ import com.gklyphon.sabor_digital.restaurant.infrastructure.repositories.IMenuRe
 import com.gklyphon.sabor_digital.restaurant.infrastructure.exception.exceptions.ElementNotFoundException;
 import org.hibernate.service.spi.ServiceException;
 import org.springframework.beans.BeanUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -25,16 +27,19 @@ public class MenuServiceImpl  implements IMenuService {
 
     private final IMenuRepository menuRepository;
     private final IMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Constructs a new {@code MenuServiceImpl} with the specified repository and mapper.
      *
      * @param menuRepository The repository for managing menu persistence.
      * @param mapper The mapper for converting between DTOs and entities.
+     * @param eventPublisher The publisher notifying menu changes to in-process listeners.
      */
-    public MenuServiceImpl(IMenuRepository menuRepository, IMapper mapper) {
+    public MenuServiceImpl(IMenuRepository menuRepository, IMapper mapper, ApplicationEventPublisher eventPublisher) {
         this.menuRepository = menuRepository;
         this.mapper = mapper;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -74,8 +79,10 @@ public class MenuServiceImpl  implements IMenuService {
     @Transactional
     public Menu save(MenuDto menuDto) {
         try {
-            return menuRepository.save(
+            Menu menu = menuRepository.save(
                     mapper.fromMenuDtoToMenu(menuDto));
+            eventPublisher.publishEvent(MenuChangedEvent.ofRestaurant(menuDto.getRestaurantId()));
+            return menu;
         } catch (Exception ex) {
             throw new ServiceException("", ex);
         }
@@ -96,7 +103,9 @@ public class MenuServiceImpl  implements IMenuService {
         try {
             Menu originalMenu = findById(id);
             BeanUtils.copyProperties(menuDto, originalMenu, "id");
-            return menuRepository.save(originalMenu);
+            Menu menu = menuRepository.save(originalMenu);
+            eventPublisher.publishEvent(menuChangedEvent(menu));
+            return menu;
         } catch (Exception ex) {
             throw new ServiceException("", ex);
         }
@@ -112,11 +121,24 @@ public class MenuServiceImpl  implements IMenuService {
     @Override
     @Transactional
     public void deleteById(Long id) {
-        findById(id);
+        Menu menu = findById(id);
         try {
             menuRepository.deleteById(id);
+            eventPublisher.publishEvent(menuChangedEvent(menu));
         } catch (Exception ex) {
             throw new ServiceException("", ex);
         }
     }
+
+    /**
+     * Builds the change event of the restaurant a menu belongs to.
+     *
+     * @param menu The changed menu.
+     * @return The corresponding {@link MenuChangedEvent}.
+     */
+    private static MenuChangedEvent menuChangedEvent(Menu menu) {
+        return menu.getRestaurant() != null
+                ? MenuChangedEvent.ofRestaurant(menu.getRestaurant().getId())
+                : MenuChangedEvent.ofMenu(menu.getId());
+    }
 }
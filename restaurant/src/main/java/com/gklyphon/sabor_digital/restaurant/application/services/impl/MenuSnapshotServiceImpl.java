@@ -0,0 +1,153 @@
+package com.gklyphon.sabor_digital.restaurant.application.services.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gklyphon.sabor_digital.restaurant.application.dtos.MenuSnapshotDto;
+import com.gklyphon.sabor_digital.restaurant.application.events.MenuChangedEvent;
+import com.gklyphon.sabor_digital.restaurant.application.services.IMenuSnapshotService;
+import com.gklyphon.sabor_digital.restaurant.application.snapshots.MenuSnapshot;
+import com.gklyphon.sabor_digital.restaurant.domain.entities.Menu;
+import com.gklyphon.sabor_digital.restaurant.domain.entities.MenuItem;
+import com.gklyphon.sabor_digital.restaurant.infrastructure.exception.exceptions.ElementNotFoundException;
+import com.gklyphon.sabor_digital.restaurant.infrastructure.repositories.IMenuItemRepository;
+import com.gklyphon.sabor_digital.restaurant.infrastructure.repositories.IMenuRepository;
+import com.gklyphon.sabor_digital.restaurant.infrastructure.repositories.IRestaurantRepository;
+import org.hibernate.service.spi.ServiceException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Implementation of {@link IMenuSnapshotService} keeping one pre-serialized snapshot per restaurant in memory.
+ *
+ * <p>A snapshot is generated with two queries on the first request after a change and then served as is
+ * until a {@link MenuChangedEvent} evicts it. The snapshots live in a Caffeine cache bounded to
+ * {@code restaurant.menu-snapshot.max-size} restaurants, the least used ones being dropped first. The first
+ * request for a restaurant only registers a pending snapshot in the cache and generates it outside any cache lock,
+ * so concurrent requests for the same restaurant wait for a single generation without blocking other restaurants.
+ * An eviction racing with a generation drops the pending snapshot, so its possibly stale result is not kept.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/20
+ */
+@Service
+public class MenuSnapshotServiceImpl implements IMenuSnapshotService {
+
+    private final AsyncCache<Long, MenuSnapshot> snapshots;
+    private final IRestaurantRepository restaurantRepository;
+    private final IMenuRepository menuRepository;
+    private final IMenuItemRepository menuItemRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructs a new {@code MenuSnapshotServiceImpl}.
+     *
+     * @param restaurantRepository The repository used to verify the restaurant exists.
+     * @param menuRepository The repository for loading the menus.
+     * @param menuItemRepository The repository for loading the menu items.
+     * @param objectMapper The mapper serializing the snapshot to JSON.
+     * @param maxSize The maximum number of restaurants whose snapshot is kept in memory.
+     */
+    public MenuSnapshotServiceImpl(IRestaurantRepository restaurantRepository, IMenuRepository menuRepository,
+                                   IMenuItemRepository menuItemRepository, ObjectMapper objectMapper,
+                                   @Value("${restaurant.menu-snapshot.max-size:1000}") long maxSize) {
+        this.snapshots = Caffeine.newBuilder().maximumSize(maxSize).buildAsync();
+        this.restaurantRepository = restaurantRepository;
+        this.menuRepository = menuRepository;
+        this.menuItemRepository = menuItemRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Retrieves the current menu snapshot of a restaurant, generating it if it is not cached.
+     *
+     * @param restaurantId The ID of the restaurant.
+     * @return The {@link MenuSnapshot} of the restaurant.
+     * @throws ElementNotFoundException If no restaurant is found with the given ID.
+     * @throws ServiceException If the snapshot cannot be serialized.
+     */
+    @Override
+    public MenuSnapshot getSnapshot(Long restaurantId) {
+        CompletableFuture<MenuSnapshot> pending = new CompletableFuture<>();
+        CompletableFuture<MenuSnapshot> snapshot = snapshots.get(restaurantId, (id, executor) -> pending);
+        if (snapshot == pending) {
+            try {
+                pending.complete(generate(restaurantId));
+            } catch (RuntimeException ex) {
+                pending.completeExceptionally(ex);
+            }
+        }
+        try {
+            return snapshot.join();
+        } catch (CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+        }
+    }
+
+    /**
+     * Discards the cached menu snapshot of a restaurant.
+     *
+     * @param restaurantId The ID of the restaurant.
+     */
+    @Override
+    public void evict(Long restaurantId) {
+        snapshots.synchronous().invalidate(restaurantId);
+    }
+
+    /**
+     * Evicts the snapshot affected by a menu change once the originating transaction commits.
+     * When the owning restaurant cannot be resolved every snapshot is discarded.
+     *
+     * @param event The menu change event.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        if (event.getRestaurantId() != null) {
+            evict(event.getRestaurantId());
+        } else if (event.getMenuId() != null) {
+            menuRepository.findRestaurantIdById(event.getMenuId())
+                    .ifPresentOrElse(this::evict, snapshots.synchronous()::invalidateAll);
+        } else {
+            snapshots.synchronous().invalidateAll();
+        }
+    }
+
+    /**
+     * Loads and serializes the menus and menu items of a restaurant.
+     *
+     * @param restaurantId The ID of the restaurant.
+     * @return The generated snapshot.
+     */
+    private MenuSnapshot generate(Long restaurantId) {
+        if (!restaurantRepository.existsById(restaurantId)) {
+            throw new ElementNotFoundException("Restaurant with id not found.");
+        }
+        List<Menu> menus = menuRepository.findAllByRestaurantIdOrderById(restaurantId);
+        Map<Long, List<MenuSnapshotDto.ItemEntry>> itemsByMenu = new HashMap<>(menus.size() * 2);
+        for (MenuItem item : menuItemRepository.findAllByRestaurantId(restaurantId)) {
+            itemsByMenu.computeIfAbsent(item.getMenu().getId(), id -> new ArrayList<>())
+                    .add(new MenuSnapshotDto.ItemEntry(item.getId(), item.getName(), item.getPrice(), item.getPreparationTime()));
+        }
+
+        List<MenuSnapshotDto.MenuEntry> entries = new ArrayList<>(menus.size());
+        for (Menu menu : menus) {
+            entries.add(new MenuSnapshotDto.MenuEntry(menu.getId(), menu.getName(),
+                    itemsByMenu.getOrDefault(menu.getId(), List.of())));
+        }
+
+        try {
+            return MenuSnapshot.of(objectMapper.writeValueAsBytes(new MenuSnapshotDto(restaurantId, entries)));
+        } catch (JsonProcessingException ex) {
+            throw new ServiceException("An error occurred while serializing the menu snapshot", ex);
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.gklyphon.sabor_digital.restaurant.application.services.impl;
 
+import com.gklyphon.sabor_digital.commons.utils.ChunkedInQuery;
+import com.gklyphon.sabor_digital.commons.utils.ExistenceBitmap;
+import com.gklyphon.sabor_digital.commons.utils.LongHashSet;
 import com.gklyphon.sabor_digital.restaurant.application.dtos.RestaurantDto;
+import com.gklyphon.sabor_digital.restaurant.application.events.MenuChangedEvent;
 import com.gklyphon.sabor_digital.restaurant.application.mapper.IMapper;
 import com.gklyphon.sabor_digital.restaurant.application.services.IRestaurantService;
 import com.gklyphon.sabor_digital.restaurant.domain.entities.Restaurant;
@@ -8,9 +12,12 @@ import com.gklyphon.sabor_digital.restaurant.infrastructure.repositories.IRestau
 import com.gklyphon.sabor_digital.restaurant.infrastructure.exception.exceptions.ElementNotFoundException;
 import org.hibernate.service.spi.ServiceException;
 import org.springframework.beans.BeanUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * Implementation of {@link IRestaurantService} that provides CRUD operations for restaurants.
  * This service interacts with the {@link IRestaurantRepository} to manage restaurant data.
@@ -23,16 +30,20 @@ public class RestaurantServiceImpl implements IRestaurantService {
 
     private final IRestaurantRepository restaurantRepository;
     private final IMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Constructs a new {@code RestaurantServiceImpl}.
      *
      * @param restaurantRepository The repository for managing restaurant persistence.
      * @param mapper The mapper for converting between DTOs and entities.
+     * @param eventPublisher The publisher notifying the removal of the restaurant menus to in-process listeners.
      */
-    public RestaurantServiceImpl(IRestaurantRepository restaurantRepository, IMapper mapper) {
+    public RestaurantServiceImpl(IRestaurantRepository restaurantRepository, IMapper mapper,
+                                 ApplicationEventPublisher eventPublisher) {
         this.restaurantRepository = restaurantRepository;
         this.mapper = mapper;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -49,6 +60,33 @@ public class RestaurantServiceImpl implements IRestaurantService {
                 .orElseThrow(() -> new ElementNotFoundException("Restaurant not found."));
     }
 
+    /**
+     * Tells whether a restaurant exists, without loading it.
+     *
+     * @param id The unique identifier of the restaurant.
+     * @return {@code true} if a restaurant has the given ID.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsById(Long id) {
+        return restaurantRepository.existsById(id);
+    }
+
+    /**
+     * Tells which of the given restaurants exist. The distinct IDs are checked with an ID-only query,
+     * split in chunks, and the answer keeps the position of every requested ID.
+     *
+     * @param ids List of restaurant IDs to check.
+     * @return A bitmap whose bit {@code i} is set when the {@code i}-th ID exists.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public byte[] existsByIds(List<Long> ids) {
+        LongHashSet existing = LongHashSet.of(
+                ChunkedInQuery.findAll(LongHashSet.distinct(ids), restaurantRepository::findExistingIds));
+        return ExistenceBitmap.of(ids, existing::contains);
+    }
+
     /**
      * Saves a new restaurant entity based on the provided DTO.
      *
@@ -102,6 +140,7 @@ public class RestaurantServiceImpl implements IRestaurantService {
         findById(id);
         try {
             restaurantRepository.deleteById(id);
+            eventPublisher.publishEvent(MenuChangedEvent.ofRestaurant(id));
         } catch (Exception ex) {
             throw new ServiceException("An error occurred while deleting the restaurant", ex);
         }
@@ -0,0 +1,108 @@
+package com.gklyphon.sabor_digital.restaurant.application.snapshots;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Pre-serialized menu snapshot of a restaurant, kept in memory in both its identity and gzip encodings
+ * so it can be written to the response without any serialization or compression work.
+ *
+ * <p>Each encoding has its own strong ETag derived from the SHA-256 digest of the JSON payload, since
+ * the two representations are not byte-for-byte identical.</p>
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/20
+ */
+public final class MenuSnapshot {
+
+    private static final String GZIP_SUFFIX = "-gzip";
+
+    private final byte[] json;
+    private final byte[] gzip;
+    private final String etag;
+    private final String gzipEtag;
+
+    private MenuSnapshot(byte[] json, byte[] gzip, String digest) {
+        this.json = json;
+        this.gzip = gzip;
+        this.etag = "\"" + digest + "\"";
+        this.gzipEtag = "\"" + digest + GZIP_SUFFIX + "\"";
+    }
+
+    /**
+     * Creates a snapshot from its serialized JSON payload, computing its compressed form and ETags.
+     *
+     * @param json the JSON payload
+     * @return the snapshot
+     */
+    public static MenuSnapshot of(byte[] json) {
+        return new MenuSnapshot(json, compress(json), digest(json));
+    }
+
+    /**
+     * Returns the payload in the requested encoding.
+     *
+     * @param gzipped whether the gzip encoding is requested
+     * @return the payload bytes
+     */
+    public byte[] body(boolean gzipped) {
+        return gzipped ? gzip : json;
+    }
+
+    /**
+     * Returns the strong ETag of the requested encoding, quoted.
+     *
+     * @param gzipped whether the gzip encoding is requested
+     * @return the ETag
+     */
+    public String etag(boolean gzipped) {
+        return gzipped ? gzipEtag : etag;
+    }
+
+    /**
+     * Checks an {@code If-None-Match} header against the ETags of the snapshot. Both encodings match,
+     * since they carry the same content, and weak validators are compared by their opaque tag.
+     *
+     * @param ifNoneMatch the header value, possibly {@code null}
+     * @return {@code true} if the client already holds the current snapshot
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag) || tag.equals(gzipEtag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] compress(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+
+    private static String digest(byte[] json) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(json);
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -2,6 +2,9 @@ package com.gklyphon.sabor_digital.restaurant.domain.entities;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.io.Serializable;
 import java.util.List;
@@ -15,9 +18,17 @@ import java.util.List;
  * @date 2025/03/19
  */
 @Entity
-@Table(name = "menus")
+@Table(name = "menus", indexes = @Index(name = "idx_menus_restaurant", columnList = "restaurant_id"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "menus")
+@NamedEntityGraph(name = Menu.WITH_ITEMS, attributeNodes = @NamedAttributeNode("menuItems"))
 public class Menu extends Auditable implements Serializable {
 
+    /**
+     * Entity graph loading a menu together with its items.
+     */
+    public static final String WITH_ITEMS = "Menu.withItems";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -25,6 +36,8 @@ public class Menu extends Auditable implements Serializable {
     private String name;
 
     @OneToMany(fetch = FetchType.LAZY, orphanRemoval = true)
+    @BatchSize(size = 50)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "menu-menu-items")
     private List<MenuItem> menuItems;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -102,7 +115,7 @@ public class Menu extends Auditable implements Serializable {
             return this;
         }
 
-        public Builder name(String id) {
+        public Builder name(String name) {
             this.name = name;
             return this;
         }
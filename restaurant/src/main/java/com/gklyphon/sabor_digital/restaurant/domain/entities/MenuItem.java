@@ -2,6 +2,8 @@ package com.gklyphon.sabor_digital.restaurant.domain.entities;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.io.Serializable;
 import java.math.BigDecimal;
@@ -15,9 +17,20 @@ import java.math.BigDecimal;
  * @date 2025/03/19
  */
 @Entity
-@Table(name = "menu_items")
+@Table(name = "menu_items", indexes = {
+        @Index(name = "idx_menu_items_menu_price", columnList = "menu_id, price, preparation_time, id"),
+        @Index(name = "idx_menu_items_menu_preparation_time", columnList = "menu_id, preparation_time, price, id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "menu-items")
+@NamedEntityGraph(name = MenuItem.WITH_MENU, attributeNodes = @NamedAttributeNode("menu"))
 public class MenuItem extends Auditable implements Serializable {
 
+    /**
+     * Entity graph loading a menu item together with its menu.
+     */
+    public static final String WITH_MENU = "MenuItem.withMenu";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -25,7 +38,7 @@ public class MenuItem extends Auditable implements Serializable {
     private BigDecimal price;
     private int preparationTime;
     @JsonIgnore
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Menu menu;
 
     /**
@@ -2,6 +2,9 @@ package com.gklyphon.sabor_digital.restaurant.domain.entities;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 
@@ -15,6 +18,8 @@ import java.util.List;
  */
 @Entity
 @Table(name = "restaurants")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "restaurants")
 public class Restaurant extends Auditable {
 
     @Id
@@ -26,6 +31,8 @@ public class Restaurant extends Auditable {
     private String website;
     private String logo;
     @OneToMany(fetch = FetchType.LAZY, orphanRemoval = true, cascade = CascadeType.ALL)
+    @BatchSize(size = 50)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "restaurant-menus")
     @JsonIgnore
     private List<Menu> menus;
 
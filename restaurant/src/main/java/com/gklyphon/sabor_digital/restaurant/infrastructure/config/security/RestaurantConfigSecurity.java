@@ -17,7 +17,8 @@ public class RestaurantConfigSecurity {
 
     private final String[] PUBLIC_ENDPOINTS = {"/api/restaurants","/api/restaurants/{id}",
             "/api/menu-items", "/api/menu-items/{id}", "/api/menu-items/{id}", "/api/menu-items/by-ids",
-            "/api/menu-items/all-by-menu/{id}"};
+            "/api/menu-items/all-by-menu/{id}", "/api/restaurants/{id}/menu-snapshot",
+            "/api/menu-items/search", "/api/menu-items/filter"};
 
     @Bean
     SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
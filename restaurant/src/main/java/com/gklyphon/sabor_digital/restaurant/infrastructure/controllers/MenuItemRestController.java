@@ -1,6 +1,9 @@
 package com.gklyphon.sabor_digital.restaurant.infrastructure.controllers;
 
+import com.gklyphon.sabor_digital.restaurant.application.dtos.KeysetPageDto;
 import com.gklyphon.sabor_digital.restaurant.application.dtos.MenuItemDto;
+import com.gklyphon.sabor_digital.restaurant.application.dtos.MenuItemSearchResultDto;
+import com.gklyphon.sabor_digital.restaurant.application.services.IMenuItemSearchService;
 import com.gklyphon.sabor_digital.restaurant.application.services.IMenuItemService;
 import com.gklyphon.sabor_digital.restaurant.domain.entities.MenuItem;
 import io.swagger.v3.oas.annotations.Operation;
@@ -20,6 +23,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -35,16 +39,20 @@ import java.util.List;
 public class MenuItemRestController {
 
     private final IMenuItemService menuItemService;
+    private final IMenuItemSearchService menuItemSearchService;
     private final PagedResourcesAssembler<MenuItem> pagedResourcesAssembler;
 
     /**
      * Constructs a new {@code MenuItemRestController} with required dependencies.
      *
      * @param menuItemService Service handling business logic for menu items.
+     * @param menuItemSearchService Service searching menu items by name.
      * @param pagedResourcesAssembler Assembler for paginated HATEOAS responses.
      */
-    public MenuItemRestController(IMenuItemService menuItemService, PagedResourcesAssembler<MenuItem> pagedResourcesAssembler) {
+    public MenuItemRestController(IMenuItemService menuItemService, IMenuItemSearchService menuItemSearchService,
+                                  PagedResourcesAssembler<MenuItem> pagedResourcesAssembler) {
         this.menuItemService = menuItemService;
+        this.menuItemSearchService = menuItemSearchService;
         this.pagedResourcesAssembler = pagedResourcesAssembler;
     }
 
@@ -157,6 +165,27 @@ public class MenuItemRestController {
         return ResponseEntity.ok(menuItemService.findByIdIn(ids));
     }
 
+    /**
+     * Retrieves a list of menu items by their unique identifiers sent in the request body,
+     * for ID lists too large to fit in a query string.
+     *
+     * @param ids List of menu item IDs to retrieve.
+     * @return A {@link ResponseEntity} containing a list of {@link MenuItem} objects.
+     */
+    @Operation(
+            summary = "Get menu items by IDs in the request body",
+            description = "Retrieves a list of menu items based on the IDs provided as a JSON array."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "List of menu items retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid request body"),
+            @ApiResponse(responseCode = "404", description = "Some menu items were not found")
+    })
+    @PostMapping("/by-ids")
+    public ResponseEntity<?> getByIdsInBody(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(menuItemService.findByIdIn(ids));
+    }
+
     /**
      * Retrieves a paginated list of menu items by its menu.
      *
@@ -183,6 +212,60 @@ public class MenuItemRestController {
                 buildPagedModel(menuItemService.findAllByMenuId(id, pageable)));
     }
 
+    /**
+     * Retrieves the menu items of a restaurant within a price and preparation time range, one keyset page
+     * at a time. Omitted bounds are open.
+     *
+     * @param restaurantId The ID of the restaurant.
+     * @param minPrice The minimum price, inclusive.
+     * @param maxPrice The maximum price, inclusive.
+     * @param minPreparationTime The minimum preparation time in minutes, inclusive.
+     * @param maxPreparationTime The maximum preparation time in minutes, inclusive.
+     * @param afterId The {@code nextAfterId} of the previous page, omitted for the first page.
+     * @param size Number of items per page (default: 20, at most 100).
+     * @return The page of matching menu items, ordered by ID.
+     */
+    @Operation(summary = "Filter menu items by price and preparation time",
+            description = "Retrieves the menu items of a restaurant within the given ranges, paginated by ID.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching menu items retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid request parameters")
+    })
+    @GetMapping("/filter")
+    public ResponseEntity<KeysetPageDto<MenuItemSearchResultDto>> filter(
+            @Parameter(description = "Restaurant ID", example = "1") @RequestParam(name = "restaurantId") Long restaurantId,
+            @Parameter(description = "Minimum price") @RequestParam(name = "minPrice", required = false) BigDecimal minPrice,
+            @Parameter(description = "Maximum price", example = "10") @RequestParam(name = "maxPrice", required = false) BigDecimal maxPrice,
+            @Parameter(description = "Minimum preparation time in minutes") @RequestParam(name = "minPreparationTime", required = false) Integer minPreparationTime,
+            @Parameter(description = "Maximum preparation time in minutes", example = "8") @RequestParam(name = "maxPreparationTime", required = false) Integer maxPreparationTime,
+            @Parameter(description = "ID after which the page starts") @RequestParam(name = "afterId", required = false) Long afterId,
+            @Parameter(description = "Page size") @RequestParam(name = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(menuItemService.findAllByRestaurantIdInRange(restaurantId, minPrice, maxPrice,
+                minPreparationTime, maxPreparationTime, afterId, size));
+    }
+
+    /**
+     * Searches menu items by name. Every word of the query must be the beginning of a word of the name,
+     * ignoring case and accents, so {@code "caf le"} finds {@code "Café con Leche"}.
+     *
+     * @param q The search text.
+     * @param restaurantId The restaurant to restrict the search to, if any.
+     * @param limit Maximum number of results (default: 20, at most 100).
+     * @return The matching menu items, shorter names first.
+     */
+    @Operation(summary = "Search menu items", description = "Retrieves the menu items whose name matches the given word prefixes.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching menu items retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid request parameters")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<List<MenuItemSearchResultDto>> search(
+            @Parameter(description = "Search text", example = "caf") @RequestParam(name = "q") String q,
+            @Parameter(description = "Restaurant ID") @RequestParam(name = "restaurantId", required = false) Long restaurantId,
+            @Parameter(description = "Maximum number of results") @RequestParam(name = "limit", defaultValue = "20") int limit) {
+        return ResponseEntity.ok(menuItemSearchService.search(q, restaurantId, limit));
+    }
+
     /**
      * Converts a paginated list of menu items into a HATEOAS-compatible {@code PagedModel}.
      *
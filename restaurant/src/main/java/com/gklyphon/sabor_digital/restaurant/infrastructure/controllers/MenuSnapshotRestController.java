@@ -0,0 +1,106 @@
+package com.gklyphon.sabor_digital.restaurant.infrastructure.controllers;
+
+import com.gklyphon.sabor_digital.restaurant.application.services.IMenuSnapshotService;
+import com.gklyphon.sabor_digital.restaurant.application.snapshots.MenuSnapshot;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller serving the whole menu of a restaurant as a single cached payload.
+ *
+ * @author JFCiscoHuerta
+ * @date 2025/04/20
+ */
+@Tag(name = "Menu snapshot", description = "Endpoint for loading every menu and menu item of a restaurant at once")
+@RestController
+@RequestMapping("/api/restaurants")
+public class MenuSnapshotRestController {
+
+    private final IMenuSnapshotService menuSnapshotService;
+
+    /**
+     * Constructs a new {@code MenuSnapshotRestController}.
+     *
+     * @param menuSnapshotService Service providing the cached menu snapshots.
+     */
+    public MenuSnapshotRestController(IMenuSnapshotService menuSnapshotService) {
+        this.menuSnapshotService = menuSnapshotService;
+    }
+
+    /**
+     * Retrieves every menu and menu item of a restaurant. The payload is gzip-encoded when the client
+     * accepts it, and a {@code 304 Not Modified} is returned when the client already holds it.
+     *
+     * @param id The ID of the restaurant.
+     * @param ifNoneMatch The ETags held by the client, if any.
+     * @param acceptEncoding The content codings accepted by the client, if any.
+     * @return The menu snapshot, or an empty response if it has not changed.
+     */
+    @Operation(summary = "Get the menu snapshot of a restaurant",
+            description = "Retrieves every menu and menu item of a restaurant in one response, supporting ETag revalidation and gzip.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Menu snapshot retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Menu snapshot not modified", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Restaurant not found", content = @Content)
+    })
+    @GetMapping("/{id}/menu-snapshot")
+    public ResponseEntity<byte[]> getMenuSnapshot(
+            @Parameter(description = "Restaurant ID", example = "1") @PathVariable Long id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        MenuSnapshot snapshot = menuSnapshotService.getSnapshot(id);
+        boolean gzipped = acceptsGzip(acceptEncoding);
+
+        if (snapshot.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.etag(gzipped))
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(snapshot.etag(gzipped))
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzipped) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(snapshot.body(gzipped));
+    }
+
+    /**
+     * Checks whether an {@code Accept-Encoding} header allows the gzip coding.
+     *
+     * @param acceptEncoding The header value, possibly {@code null}.
+     * @return {@code true} if gzip is accepted with a non-zero quality.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                for (int i = 1; i < parts.length; i++) {
+                    if (parts[i].trim().matches("q=0(\\.0*)?")) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+}
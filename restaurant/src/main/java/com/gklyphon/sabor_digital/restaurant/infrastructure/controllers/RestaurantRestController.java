@@ -10,10 +10,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * REST Controller for managing restaurants.
  * Provides endpoints for CRUD operations.
@@ -54,6 +57,40 @@ public class RestaurantRestController {
         return ResponseEntity.ok(restaurantService.findById(id));
     }
 
+    /**
+     * Checks whether a restaurant exists, without returning it.
+     *
+     * @param id The ID of the restaurant to check.
+     * @return An empty {@code 200 OK} response if it exists, {@code 404 Not Found} otherwise.
+     */
+    @Operation(summary = "Check a restaurant exists", description = "Answers with an empty response whose status tells whether the restaurant exists")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Restaurant exists"),
+            @ApiResponse(responseCode = "404", description = "Restaurant not found")
+    })
+    @RequestMapping(value = "/{id}", method = RequestMethod.HEAD)
+    public ResponseEntity<Void> exists(
+            @Parameter(description = "Restaurant ID", example = "1") @PathVariable Long id) {
+        return restaurantService.existsById(id) ? ResponseEntity.ok().build() : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Checks which of the given restaurants exist.
+     *
+     * @param ids The IDs of the restaurants to check.
+     * @return A bitmap whose bit {@code i} is set when the {@code i}-th ID exists.
+     */
+    @Operation(summary = "Check several restaurants exist",
+            description = "Answers with a bitmap, least significant bit first, whose bit i is set when the i-th ID exists")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Existence bitmap computed"),
+            @ApiResponse(responseCode = "400", description = "Invalid request body", content = @Content)
+    })
+    @PostMapping(value = "/exists", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> existsByIds(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(restaurantService.existsByIds(ids));
+    }
+
     /**
      * Creates a new restaurant.
      *
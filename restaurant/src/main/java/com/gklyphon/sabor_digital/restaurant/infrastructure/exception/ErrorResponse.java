@@ -1,8 +1,10 @@
 package com.gklyphon.sabor_digital.restaurant.infrastructure.exception;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import org.springframework.http.HttpStatus;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Represents a structured error response returned by the API in case of exceptions.
@@ -16,6 +18,8 @@ public class ErrorResponse {
     private String message;
     private LocalDateTime timestamp;
     private int status;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<Long> missingIds;
 
     /**
      * Default constructor.
@@ -83,4 +87,12 @@ public class ErrorResponse {
     public void setStatus(int status) {
         this.status = status;
     }
+
+    public List<Long> getMissingIds() {
+        return missingIds;
+    }
+
+    public void setMissingIds(List<Long> missingIds) {
+        this.missingIds = missingIds;
+    }
 }
@@ -27,11 +27,14 @@ public class GlobalExceptionHandler {
      * Handles exceptions when an entity is not found.
      *
      * @param ex The thrown {@link ElementNotFoundException}.
-     * @return A {@link ResponseEntity} containing an {@link ErrorResponse} with a {@code NOT_FOUND} status.
+     * @return A {@link ResponseEntity} containing an {@link ErrorResponse} with a {@code NOT_FOUND} status
+     * and the missing IDs, if any.
      */
     @ExceptionHandler(ElementNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleElementNotFoundException(ElementNotFoundException ex) {
-        return buildErrorResponse(ex, HttpStatus.NOT_FOUND);
+        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), HttpStatus.NOT_FOUND);
+        errorResponse.setMissingIds(ex.getMissingIds());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
     /**
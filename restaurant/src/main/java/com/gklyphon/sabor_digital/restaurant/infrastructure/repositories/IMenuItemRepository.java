@@ -1,10 +1,18 @@
 package com.gklyphon.sabor_digital.restaurant.infrastructure.repositories;
 
+import com.gklyphon.sabor_digital.restaurant.application.dtos.MenuItemSearchResultDto;
 import com.gklyphon.sabor_digital.restaurant.domain.entities.MenuItem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -18,10 +26,15 @@ public interface IMenuItemRepository extends JpaRepository<MenuItem, Long> {
 
     /**
      * Retrieves a list of menu items by their unique identifiers.
+     * The results are kept in the query cache until a menu item is written.
      *
      * @param ids List of menu item IDs to retrieve.
      * @return List of {@link MenuItem} corresponding to the given IDs.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "menu-items-by-ids")
+    })
     List<MenuItem> findByIdIn(List<Long> ids);
 
     /**
@@ -32,4 +45,76 @@ public interface IMenuItemRepository extends JpaRepository<MenuItem, Long> {
      */
     Page<MenuItem> findAllByMenuId(Long menuId, Pageable pageable);
 
+    /**
+     * Retrieves every menu item of a restaurant together with its menu, ordered by ID.
+     *
+     * @param restaurantId The restaurant ID.
+     * @return List of {@link MenuItem} of the restaurant, with their menus initialized.
+     */
+    @EntityGraph(MenuItem.WITH_MENU)
+    @Query("SELECT i FROM MenuItem i WHERE i.menu.restaurant.id = :restaurantId ORDER BY i.id")
+    List<MenuItem> findAllByRestaurantId(@Param("restaurantId") Long restaurantId);
+
+    /**
+     * Retrieves the searchable fields of every menu item, without loading the entities.
+     *
+     * @return List of {@link MenuItemSearchResultDto} for every menu item.
+     */
+    @Query("SELECT new com.gklyphon.sabor_digital.restaurant.application.dtos.MenuItemSearchResultDto("
+            + "i.id, i.name, i.price, i.preparationTime, m.id, r.id) "
+            + "FROM MenuItem i LEFT JOIN i.menu m LEFT JOIN m.restaurant r")
+    List<MenuItemSearchResultDto> findAllSearchResults();
+
+    /**
+     * Retrieves the searchable fields of the menu items of a menu, without loading the entities.
+     *
+     * @param menuId The menu ID.
+     * @return List of {@link MenuItemSearchResultDto} of the menu.
+     */
+    @Query("SELECT new com.gklyphon.sabor_digital.restaurant.application.dtos.MenuItemSearchResultDto("
+            + "i.id, i.name, i.price, i.preparationTime, m.id, r.id) "
+            + "FROM MenuItem i JOIN i.menu m LEFT JOIN m.restaurant r WHERE m.id = :menuId")
+    List<MenuItemSearchResultDto> findSearchResultsByMenuId(@Param("menuId") Long menuId);
+
+    /**
+     * Retrieves the searchable fields of the menu items of a restaurant, without loading the entities.
+     *
+     * @param restaurantId The restaurant ID.
+     * @return List of {@link MenuItemSearchResultDto} of the restaurant.
+     */
+    @Query("SELECT new com.gklyphon.sabor_digital.restaurant.application.dtos.MenuItemSearchResultDto("
+            + "i.id, i.name, i.price, i.preparationTime, m.id, r.id) "
+            + "FROM MenuItem i JOIN i.menu m JOIN m.restaurant r WHERE r.id = :restaurantId")
+    List<MenuItemSearchResultDto> findSearchResultsByRestaurantId(@Param("restaurantId") Long restaurantId);
+
+    /**
+     * Retrieves the menu items of a restaurant within a price and preparation time range, ordered by ID
+     * and starting after the given ID. The ranges are served by the {@code (menu_id, price, ...)} and
+     * {@code (menu_id, preparation_time, ...)} indexes of {@code menu_items}.
+     *
+     * @param restaurantId The restaurant ID.
+     * @param minPrice The minimum price, inclusive.
+     * @param maxPrice The maximum price, inclusive.
+     * @param minPreparationTime The minimum preparation time in minutes, inclusive.
+     * @param maxPreparationTime The maximum preparation time in minutes, inclusive.
+     * @param afterId The ID the results must follow.
+     * @param pageable The maximum number of results; its offset must be zero.
+     * @return List of {@link MenuItemSearchResultDto} matching the ranges.
+     */
+    @Query("SELECT new com.gklyphon.sabor_digital.restaurant.application.dtos.MenuItemSearchResultDto("
+            + "i.id, i.name, i.price, i.preparationTime, m.id, m.restaurant.id) "
+            + "FROM MenuItem i JOIN i.menu m "
+            + "WHERE m.restaurant.id = :restaurantId "
+            + "AND i.price BETWEEN :minPrice AND :maxPrice "
+            + "AND i.preparationTime BETWEEN :minPreparationTime AND :maxPreparationTime "
+            + "AND i.id > :afterId "
+            + "ORDER BY i.id")
+    List<MenuItemSearchResultDto> findAllByRestaurantIdInRange(@Param("restaurantId") Long restaurantId,
+                                                               @Param("minPrice") BigDecimal minPrice,
+                                                               @Param("maxPrice") BigDecimal maxPrice,
+                                                               @Param("minPreparationTime") int minPreparationTime,
+                                                               @Param("maxPreparationTime") int maxPreparationTime,
+                                                               @Param("afterId") long afterId,
+                                                               Pageable pageable);
+
 }
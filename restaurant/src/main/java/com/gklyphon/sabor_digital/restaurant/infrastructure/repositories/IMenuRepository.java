@@ -1,7 +1,13 @@
 package com.gklyphon.sabor_digital.restaurant.infrastructure.repositories;
 
 import com.gklyphon.sabor_digital.restaurant.domain.entities.Menu;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for {@link Menu} entities.
@@ -11,4 +17,31 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * @date 2025/03/19
  */
 public interface IMenuRepository extends JpaRepository<Menu, Long> {
+
+    /**
+     * Retrieves a menu by its ID together with its items in a single query.
+     *
+     * @param id The menu ID.
+     * @return The {@link Menu} with its items initialized, or empty if it does not exist.
+     */
+    @Override
+    @EntityGraph(Menu.WITH_ITEMS)
+    Optional<Menu> findById(Long id);
+
+    /**
+     * Retrieves every menu of a restaurant, ordered by ID.
+     *
+     * @param restaurantId The restaurant ID.
+     * @return List of {@link Menu} of the restaurant.
+     */
+    List<Menu> findAllByRestaurantIdOrderById(Long restaurantId);
+
+    /**
+     * Retrieves the ID of the restaurant owning a menu, without loading the menu.
+     *
+     * @param id The menu ID.
+     * @return The restaurant ID, or empty if the menu does not exist or has no restaurant.
+     */
+    @Query("SELECT m.restaurant.id FROM Menu m WHERE m.id = :id")
+    Optional<Long> findRestaurantIdById(@Param("id") Long id);
 }
@@ -2,6 +2,10 @@ package com.gklyphon.sabor_digital.restaurant.infrastructure.repositories;
 
 import com.gklyphon.sabor_digital.restaurant.domain.entities.Restaurant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 /**
  * Repository interface for {@link Restaurant} entities.
@@ -11,4 +15,14 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * @date 2025/03/19
  */
 public interface IRestaurantRepository extends JpaRepository<Restaurant, Long> {
+
+    /**
+     * Retrieves which of the given restaurant IDs exist. Only the primary key is selected, so the
+     * lookup is answered from its index without reading the rows.
+     *
+     * @param ids List of restaurant IDs to check.
+     * @return The IDs among the given ones that match a restaurant.
+     */
+    @Query("SELECT r.id FROM Restaurant r WHERE r.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") List<Long> ids);
 }
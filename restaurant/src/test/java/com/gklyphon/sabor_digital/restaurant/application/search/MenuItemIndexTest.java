@@ -0,0 +1,95 @@
+package com.gklyphon.sabor_digital.restaurant.application.search;
+
+import com.gklyphon.sabor_digital.restaurant.application.dtos.MenuItemSearchResultDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MenuItemIndexTest {
+
+    MenuItemIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new MenuItemIndex();
+        index.replaceAll(List.of(
+                item(1L, "Café con Leche", 10L, 1L),
+                item(2L, "Café Americano", 10L, 1L),
+                item(3L, "Leche Fría", 11L, 1L),
+                item(4L, "Cafetería Especial de la Casa", 20L, 2L)));
+    }
+
+    @Test
+    void words_shouldFoldCaseAndDiacritics() {
+        assertEquals(List.of("cafe", "con", "leche"), MenuItemIndex.words("  Café con-LECHE "));
+        assertEquals(List.of(), MenuItemIndex.words(" - "));
+        assertEquals(List.of(), MenuItemIndex.words(null));
+    }
+
+    @Test
+    void search_shouldMatchEveryWordPrefix_rankingShorterNamesFirst() {
+        assertEquals(List.of(2L, 1L, 4L), ids(index.search("CAF", null, 10)));
+        assertEquals(List.of(1L), ids(index.search("caf le", null, 10)));
+        assertEquals(List.of(3L, 1L), ids(index.search("lech", null, 10)));
+        assertEquals(List.of(), ids(index.search("caf tostado", null, 10)));
+        assertEquals(List.of(), ids(index.search("  ", null, 10)));
+    }
+
+    @Test
+    void search_shouldRestrictToRestaurantAndLimit() {
+        assertEquals(List.of(4L), ids(index.search("caf", 2L, 10)));
+        assertEquals(List.of(2L), ids(index.search("caf", 1L, 1)));
+        assertEquals(List.of(), ids(index.search("caf", 3L, 10)));
+    }
+
+    @Test
+    void search_shouldMatchWordsLongerThanIndexedPrefixes() {
+        index.put(item(5L, "Supercalifragilisticoespialidoso", 30L, 3L));
+        assertEquals(List.of(5L), ids(index.search("supercalifragilistico", null, 10)));
+        assertEquals(List.of(), ids(index.search("supercalifragilisticx", null, 10)));
+    }
+
+    @Test
+    void put_shouldReplacePreviousName() {
+        index.put(item(3L, "Jugo de Naranja", 11L, 1L));
+        assertEquals(List.of(1L), ids(index.search("leche", null, 10)));
+        assertEquals(List.of(3L), ids(index.search("naranja", 1L, 10)));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void replaceMenu_shouldDropRemovedItemsAndMoveItemsBetweenMenus() {
+        index.replaceMenu(10L, List.of(item(2L, "Café Americano", 10L, 1L)));
+        index.replaceMenu(20L, List.of(
+                item(4L, "Cafetería Especial de la Casa", 20L, 2L),
+                item(3L, "Leche Fría", 20L, 2L)));
+
+        assertEquals(List.of(2L, 4L), ids(index.search("caf", null, 10)));
+        assertEquals(List.of(3L), ids(index.search("leche", 2L, 10)));
+        assertEquals(List.of(), ids(index.search("leche", 1L, 10)));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void replaceRestaurant_shouldDropItemsOfDeletedRestaurant() {
+        index.replaceRestaurant(1L, List.of());
+        assertEquals(List.of(4L), ids(index.search("caf", null, 10)));
+        assertEquals(1, index.size());
+
+        index.remove(4L);
+        assertEquals(List.of(), ids(index.search("c", null, 10)));
+        assertEquals(0, index.size());
+    }
+
+    private static MenuItemSearchResultDto item(Long id, String name, Long menuId, Long restaurantId) {
+        return new MenuItemSearchResultDto(id, name, BigDecimal.TEN, 5, menuId, restaurantId);
+    }
+
+    private static List<Long> ids(List<MenuItemSearchResultDto> items) {
+        return items.stream().map(MenuItemSearchResultDto::getId).toList();
+    }
+}
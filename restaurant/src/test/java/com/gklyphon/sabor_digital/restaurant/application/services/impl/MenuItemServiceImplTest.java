@@ -1,6 +1,8 @@
 package com.gklyphon.sabor_digital.restaurant.application.services.impl;
 
+import com.gklyphon.sabor_digital.restaurant.application.dtos.KeysetPageDto;
 import com.gklyphon.sabor_digital.restaurant.application.dtos.MenuItemDto;
+import com.gklyphon.sabor_digital.restaurant.application.dtos.MenuItemSearchResultDto;
 import com.gklyphon.sabor_digital.restaurant.application.mapper.IMapper;
 import com.gklyphon.sabor_digital.restaurant.domain.entities.MenuItem;
 import com.gklyphon.sabor_digital.restaurant.infrastructure.repositories.IMenuItemRepository;
@@ -11,16 +13,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +40,9 @@ class MenuItemServiceImplTest {
     @Mock
     private IMapper mapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private MenuItemServiceImpl menuItemService;
 
@@ -92,4 +103,53 @@ class MenuItemServiceImplTest {
         assertDoesNotThrow(() -> menuItemService.deleteById(1L));
         verify(menuItemRepository, times(1)).deleteById(1L);
     }
+
+    @Test
+    void findByIdIn_shouldQueryDistinctIds() {
+        when(menuItemRepository.findByIdIn(anyList())).thenReturn(List.of(TestData.MENU_ITEM));
+
+        List<MenuItem> result = menuItemService.findByIdIn(List.of(1L, 1L));
+
+        assertEquals(1, result.size());
+        verify(menuItemRepository, times(1)).findByIdIn(argThat(ids -> ids.stream().allMatch(id -> id == 1L)));
+    }
+
+    @Test
+    void findByIdIn_shouldReportMissingIds_whenSomeNotFound() {
+        when(menuItemRepository.findByIdIn(anyList())).thenReturn(List.of(TestData.MENU_ITEM));
+
+        ElementNotFoundException ex = assertThrows(ElementNotFoundException.class,
+                () -> menuItemService.findByIdIn(List.of(1L, 2L, 3L, 2L)));
+
+        assertEquals(List.of(2L, 3L), ex.getMissingIds());
+    }
+
+    @Test
+    void findAllByRestaurantIdInRange_shouldReturnNextAfterId_whenMoreItemsFollow() {
+        List<MenuItemSearchResultDto> rows = LongStream.rangeClosed(11, 13)
+                .mapToObj(id -> new MenuItemSearchResultDto(id, "Item " + id, BigDecimal.ONE, 5, 1L, 1L))
+                .toList();
+        when(menuItemRepository.findAllByRestaurantIdInRange(eq(1L), eq(BigDecimal.ZERO), eq(BigDecimal.TEN),
+                eq(Integer.MIN_VALUE), eq(8), eq(10L), eq(PageRequest.of(0, 3)))).thenReturn(rows);
+
+        KeysetPageDto<MenuItemSearchResultDto> page = menuItemService.findAllByRestaurantIdInRange(
+                1L, BigDecimal.ZERO, BigDecimal.TEN, null, 8, 10L, 2);
+
+        assertEquals(List.of(11L, 12L), page.getContent().stream().map(MenuItemSearchResultDto::getId).toList());
+        assertEquals(12L, page.getNextAfterId());
+        assertFalse(page.isLast());
+    }
+
+    @Test
+    void findAllByRestaurantIdInRange_shouldReturnLastPage_whenNoMoreItemsFollow() {
+        when(menuItemRepository.findAllByRestaurantIdInRange(eq(1L), any(BigDecimal.class), any(BigDecimal.class),
+                anyInt(), eq(Integer.MAX_VALUE), eq(Long.MIN_VALUE), eq(PageRequest.of(0, MenuItemServiceImpl.MAX_PAGE_SIZE + 1))))
+                .thenReturn(List.of(new MenuItemSearchResultDto(1L, "Item", BigDecimal.ONE, 5, 1L, 1L)));
+
+        KeysetPageDto<MenuItemSearchResultDto> page = menuItemService.findAllByRestaurantIdInRange(
+                1L, null, null, null, null, null, 1_000);
+
+        assertEquals(1, page.getContent().size());
+        assertTrue(page.isLast());
+    }
 }
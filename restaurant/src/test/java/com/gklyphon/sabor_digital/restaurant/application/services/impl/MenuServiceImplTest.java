@@ -1,6 +1,7 @@
 package com.gklyphon.sabor_digital.restaurant.application.services.impl;
 
 import com.gklyphon.sabor_digital.restaurant.application.dtos.MenuDto;
+import com.gklyphon.sabor_digital.restaurant.application.events.MenuChangedEvent;
 import com.gklyphon.sabor_digital.restaurant.application.mapper.IMapper;
 import com.gklyphon.sabor_digital.restaurant.domain.entities.Menu;
 import com.gklyphon.sabor_digital.restaurant.infrastructure.repositories.IMenuRepository;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -32,6 +34,9 @@ class MenuServiceImplTest {
     @Mock
     private IMapper mapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private MenuServiceImpl menuService;
 
@@ -94,5 +99,6 @@ class MenuServiceImplTest {
         menuService.deleteById(1L);
 
         verify(menuRepository, times(1)).deleteById(1L);
+        verify(eventPublisher, times(1)).publishEvent(any(MenuChangedEvent.class));
     }
 }
\ No newline at end of file
@@ -0,0 +1,128 @@
+package com.gklyphon.sabor_digital.restaurant.application.services.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.sabor_digital.restaurant.application.events.MenuChangedEvent;
+import com.gklyphon.sabor_digital.restaurant.application.snapshots.MenuSnapshot;
+import com.gklyphon.sabor_digital.restaurant.domain.entities.Menu;
+import com.gklyphon.sabor_digital.restaurant.domain.entities.MenuItem;
+import com.gklyphon.sabor_digital.restaurant.infrastructure.exception.exceptions.ElementNotFoundException;
+import com.gklyphon.sabor_digital.restaurant.infrastructure.repositories.IMenuItemRepository;
+import com.gklyphon.sabor_digital.restaurant.infrastructure.repositories.IMenuRepository;
+import com.gklyphon.sabor_digital.restaurant.infrastructure.repositories.IRestaurantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MenuSnapshotServiceImplTest {
+
+    @Mock
+    private IRestaurantRepository restaurantRepository;
+
+    @Mock
+    private IMenuRepository menuRepository;
+
+    @Mock
+    private IMenuItemRepository menuItemRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private MenuSnapshotServiceImpl menuSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        menuSnapshotService = new MenuSnapshotServiceImpl(restaurantRepository, menuRepository, menuItemRepository, objectMapper, 100);
+    }
+
+    @Test
+    void getSnapshot_shouldGroupItemsByMenu_andCacheThePayload() throws IOException {
+        Menu drinks = new Menu.Builder().id(1L).name("Drinks").build();
+        Menu desserts = new Menu.Builder().id(2L).name("Desserts").build();
+        MenuItem water = new MenuItem.Builder().id(10L).name("Water").price(BigDecimal.ONE).preparationTime(1).menu(drinks).build();
+        when(restaurantRepository.existsById(1L)).thenReturn(true);
+        when(menuRepository.findAllByRestaurantIdOrderById(1L)).thenReturn(List.of(drinks, desserts));
+        when(menuItemRepository.findAllByRestaurantId(1L)).thenReturn(List.of(water));
+
+        MenuSnapshot snapshot = menuSnapshotService.getSnapshot(1L);
+
+        JsonNode json = objectMapper.readTree(snapshot.body(false));
+        assertEquals("Water", json.at("/menus/0/items/0/name").asText());
+        assertEquals(0, json.at("/menus/1/items").size());
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(snapshot.body(true)))) {
+            assertArrayEquals(snapshot.body(false), gzip.readAllBytes());
+        }
+        assertTrue(snapshot.matches(snapshot.etag(true)));
+        assertTrue(snapshot.matches("W/" + snapshot.etag(false)));
+        assertFalse(snapshot.matches("\"stale\""));
+
+        assertSame(snapshot, menuSnapshotService.getSnapshot(1L));
+        verify(menuItemRepository, times(1)).findAllByRestaurantId(1L);
+    }
+
+    @Test
+    void onMenuChanged_shouldEvictTheRestaurantOfTheMenu() {
+        when(restaurantRepository.existsById(1L)).thenReturn(true);
+        when(menuRepository.findAllByRestaurantIdOrderById(1L)).thenReturn(List.of());
+        when(menuItemRepository.findAllByRestaurantId(1L)).thenReturn(List.of());
+        when(menuRepository.findRestaurantIdById(5L)).thenReturn(Optional.of(1L));
+
+        menuSnapshotService.getSnapshot(1L);
+        menuSnapshotService.onMenuChanged(MenuChangedEvent.ofMenu(5L));
+        menuSnapshotService.getSnapshot(1L);
+
+        verify(menuItemRepository, times(2)).findAllByRestaurantId(1L);
+    }
+
+    @Test
+    void getSnapshot_shouldThrowException_whenRestaurantNotFound() {
+        when(restaurantRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(ElementNotFoundException.class, () -> menuSnapshotService.getSnapshot(1L));
+        assertThrows(ElementNotFoundException.class, () -> menuSnapshotService.getSnapshot(1L));
+        verify(restaurantRepository, times(2)).existsById(1L);
+        verifyNoInteractions(menuRepository, menuItemRepository);
+    }
+
+    @Test
+    void getSnapshot_shouldGenerateOnce_forConcurrentRequests() throws Exception {
+        CountDownLatch generating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(restaurantRepository.existsById(1L)).thenAnswer(invocation -> {
+            generating.countDown();
+            release.await();
+            return true;
+        });
+        when(menuRepository.findAllByRestaurantIdOrderById(1L)).thenReturn(List.of());
+        when(menuItemRepository.findAllByRestaurantId(1L)).thenReturn(List.of());
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<MenuSnapshot> first = executor.submit(() -> menuSnapshotService.getSnapshot(1L));
+            assertTrue(generating.await(5, TimeUnit.SECONDS));
+            Future<MenuSnapshot> second = executor.submit(() -> menuSnapshotService.getSnapshot(1L));
+            release.countDown();
+
+            assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(restaurantRepository, times(1)).existsById(1L);
+    }
+}
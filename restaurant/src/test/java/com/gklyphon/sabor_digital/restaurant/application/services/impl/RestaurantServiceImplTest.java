@@ -11,11 +11,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +30,9 @@ class RestaurantServiceImplTest {
     @Mock
     private IMapper mapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private RestaurantServiceImpl restaurantService;
 
@@ -44,6 +50,13 @@ class RestaurantServiceImplTest {
         assertThrows(ElementNotFoundException.class, () -> restaurantService.findById(1L));
     }
 
+    @Test
+    void existsByIds_shouldQueryDistinctIdsAndAnswerInRequestOrder() {
+        when(restaurantRepository.findExistingIds(anyList())).thenReturn(List.of(1L, 3L));
+        byte[] bitmap = restaurantService.existsByIds(List.of(3L, 1L, 2L, 3L));
+        assertArrayEquals(new byte[]{0b1011}, bitmap);
+    }
+
     @Test
     void save_shouldReturnSavedRestaurant() {
         when(mapper.fromRestaurantDtoToRestaurant(TestData.RESTAURANT_DTO)).thenReturn(TestData.RESTAURANT);
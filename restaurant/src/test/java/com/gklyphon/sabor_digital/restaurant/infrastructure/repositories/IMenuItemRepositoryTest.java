@@ -0,0 +1,116 @@
+package com.gklyphon.sabor_digital.restaurant.infrastructure.repositories;
+
+import com.gklyphon.sabor_digital.restaurant.application.dtos.MenuItemSearchResultDto;
+import com.gklyphon.sabor_digital.restaurant.domain.entities.Menu;
+import com.gklyphon.sabor_digital.restaurant.domain.entities.MenuItem;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IMenuItemRepositoryTest {
+
+    @Autowired
+    private IMenuRepository menuRepository;
+
+    @Autowired
+    private IMenuItemRepository menuItemRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private List<Long> ids;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Menu menu = menuRepository.save(new Menu.Builder().name("Menu").build());
+        ids = menuItemRepository.saveAll(IntStream.range(0, 3)
+                        .mapToObj(i -> new MenuItem.Builder().name("Item " + i).price(BigDecimal.ONE).preparationTime(5).menu(menu).build())
+                        .toList())
+                .stream().map(MenuItem::getId).toList();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        menuItemRepository.deleteAll();
+        menuRepository.deleteAll();
+    }
+
+    @Test
+    void testFindById_IsServedFromSecondLevelCache() {
+        menuItemRepository.findById(ids.get(0)).orElseThrow();
+        statistics.clear();
+        menuItemRepository.findById(ids.get(0)).orElseThrow();
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("menu-items").getHitCount());
+    }
+
+    @Test
+    void testFindByIdIn_IsServedFromQueryCache() {
+        assertEquals(3, menuItemRepository.findByIdIn(ids).size());
+        assertEquals(3, menuItemRepository.findByIdIn(ids).size());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void testSave_InvalidatesCachedQueryResults() {
+        menuItemRepository.findByIdIn(ids);
+        MenuItem item = menuItemRepository.findById(ids.get(0)).orElseThrow();
+        item.setName("Renamed");
+        menuItemRepository.save(item);
+        statistics.clear();
+
+        List<MenuItem> items = menuItemRepository.findByIdIn(ids);
+
+        assertEquals(0, statistics.getQueryCacheHitCount());
+        assertTrue(items.stream().anyMatch(found -> found.getName().equals("Renamed")));
+    }
+
+    @Test
+    void testDeleteById_EvictsCachedEntity() {
+        menuItemRepository.findById(ids.get(0)).orElseThrow();
+        menuItemRepository.deleteById(ids.get(0));
+
+        assertTrue(menuItemRepository.findById(ids.get(0)).isEmpty());
+        assertEquals(2, menuItemRepository.findByIdIn(ids).size());
+    }
+
+    @Test
+    void testFindSearchResults_ProjectWithoutLoadingEntities() {
+        Long menuId = menuItemRepository.findById(ids.get(0)).orElseThrow().getMenu().getId();
+        statistics.clear();
+
+        List<MenuItemSearchResultDto> results = menuItemRepository.findSearchResultsByMenuId(menuId);
+
+        assertEquals(ids, results.stream().map(MenuItemSearchResultDto::getId).sorted().toList());
+        assertTrue(results.stream().allMatch(result -> menuId.equals(result.getMenuId()) && result.getRestaurantId() == null));
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(3, menuItemRepository.findAllSearchResults().size());
+        assertTrue(menuItemRepository.findSearchResultsByRestaurantId(menuId).isEmpty());
+    }
+}
@@ -0,0 +1,156 @@
+package com.gklyphon.sabor_digital.restaurant.infrastructure.repositories;
+
+import com.gklyphon.sabor_digital.restaurant.application.dtos.MenuItemSearchResultDto;
+import com.gklyphon.sabor_digital.restaurant.domain.entities.Menu;
+import com.gklyphon.sabor_digital.restaurant.domain.entities.MenuItem;
+import com.gklyphon.sabor_digital.restaurant.domain.entities.Restaurant;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class IMenuRepositoryTest {
+
+    private static final int MENUS = 20;
+    private static final int ITEMS_PER_MENU = 50;
+
+    @Autowired
+    private IRestaurantRepository restaurantRepository;
+
+    @Autowired
+    private IMenuRepository menuRepository;
+
+    @Autowired
+    private IMenuItemRepository menuItemRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long restaurantId;
+    private Long menuId;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Restaurant restaurant = new Restaurant.Builder().name("Restaurant").menus(new ArrayList<>()).build();
+        entityManager.persist(restaurant);
+        for (int i = 0; i < MENUS; i++) {
+            Menu menu = new Menu.Builder().name("Menu " + i).restaurant(restaurant).menuItems(new ArrayList<>()).build();
+            entityManager.persist(menu);
+            for (int j = 0; j < ITEMS_PER_MENU; j++) {
+                MenuItem item = new MenuItem.Builder().name("Item " + j).price(price(j)).preparationTime(preparationTime(j)).menu(menu).build();
+                entityManager.persist(item);
+                menu.getMenuItems().add(item);
+            }
+            restaurant.getMenus().add(menu);
+            menuId = menu.getId();
+        }
+        restaurantId = restaurant.getId();
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testRestaurantTraversal_LoadsMenusAndItemsInConstantQueries() {
+        Restaurant restaurant = restaurantRepository.findById(restaurantId).orElseThrow();
+        int items = restaurant.getMenus().stream().mapToInt(menu -> menu.getMenuItems().size()).sum();
+
+        assertEquals(MENUS * ITEMS_PER_MENU, items);
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindAll_LoadsPageItemsInOneBatch() {
+        Page<Menu> page = menuRepository.findAll(PageRequest.of(0, MENUS));
+        page.forEach(menu -> assertEquals(ITEMS_PER_MENU, menu.getMenuItems().size()));
+
+        assertEquals(MENUS, page.getNumberOfElements());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindById_LoadsMenuWithItemsInOneQuery() {
+        Menu menu = menuRepository.findById(menuId).orElseThrow();
+
+        assertEquals(ITEMS_PER_MENU, menu.getMenuItems().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindAllByMenuId_DoesNotLoadParentMenus() {
+        Page<MenuItem> page = menuItemRepository.findAllByMenuId(menuId, PageRequest.of(0, ITEMS_PER_MENU));
+        page.forEach(item -> assertEquals(menuId, item.getMenu().getId()));
+
+        assertEquals(ITEMS_PER_MENU, page.getNumberOfElements());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindAllByRestaurantId_LoadsItemsWithMenusInOneQuery() {
+        List<MenuItem> items = menuItemRepository.findAllByRestaurantId(restaurantId);
+        items.forEach(item -> assertNotNull(item.getMenu().getName()));
+
+        assertEquals(MENUS * ITEMS_PER_MENU, items.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindAllByRestaurantIdInRange_WalksKeysetPagesInOneQueryEach() {
+        BigDecimal maxPrice = BigDecimal.valueOf(5);
+        int maxPreparationTime = 6;
+        long perMenu = IntStream.range(0, ITEMS_PER_MENU)
+                .filter(j -> price(j).compareTo(maxPrice) <= 0 && preparationTime(j) <= maxPreparationTime)
+                .count();
+
+        List<MenuItemSearchResultDto> found = new ArrayList<>();
+        long afterId = 0;
+        int pages = 0;
+        List<MenuItemSearchResultDto> page;
+        do {
+            page = menuItemRepository.findAllByRestaurantIdInRange(restaurantId, BigDecimal.ZERO, maxPrice,
+                    0, maxPreparationTime, afterId, PageRequest.of(0, 100));
+            found.addAll(page);
+            pages++;
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == 100);
+
+        assertEquals(MENUS * perMenu, found.size());
+        assertTrue(found.stream().allMatch(item -> restaurantId.equals(item.getRestaurantId())
+                && item.getPrice().compareTo(maxPrice) <= 0 && item.getPreparationTime() <= maxPreparationTime));
+        assertEquals(found.stream().map(MenuItemSearchResultDto::getId).sorted().toList(),
+                found.stream().map(MenuItemSearchResultDto::getId).toList());
+        assertEquals(found.size(), found.stream().map(MenuItemSearchResultDto::getId).distinct().count());
+        assertEquals(pages, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    private static BigDecimal price(int index) {
+        return BigDecimal.valueOf(index % 10 + 1);
+    }
+
+    private static int preparationTime(int index) {
+        return index % 12 + 1;
+    }
+}
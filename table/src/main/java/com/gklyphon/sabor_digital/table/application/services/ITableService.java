@@ -33,4 +33,20 @@ public interface ITableService extends IService<Table, TableDto> {
      * @return A list of tables.
      */
     List<Table> findByIdIn(List<Long> ids);
+
+    /**
+     * Tells whether a table exists, without loading it.
+     *
+     * @param id The ID of the table.
+     * @return {@code true} if a table has the given ID.
+     */
+    boolean existsById(Long id);
+
+    /**
+     * Tells which of the given tables exist.
+     *
+     * @param ids The list of table IDs to check.
+     * @return A bitmap whose bit {@code i} is set when the {@code i}-th ID exists.
+     */
+    byte[] existsByIds(List<Long> ids);
 }
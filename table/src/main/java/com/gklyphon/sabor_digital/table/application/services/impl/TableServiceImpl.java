@@ -1,8 +1,11 @@
 package com.gklyphon.sabor_digital.table.application.services.impl;
 
-import com.gklyphon.sabor_digital.table.application.dtos.RestaurantDto;
+import com.gklyphon.sabor_digital.commons.utils.ChunkedInQuery;
+import com.gklyphon.sabor_digital.commons.utils.ExistenceBitmap;
+import com.gklyphon.sabor_digital.commons.utils.LongHashSet;
+import com.gklyphon.sabor_digital.feign.exception.DeadlineExceededException;
+import com.gklyphon.sabor_digital.feign.exception.DownstreamUnavailableException;
 import com.gklyphon.sabor_digital.table.application.dtos.TableDto;
-import com.gklyphon.sabor_digital.table.application.dtos.WaiterDto;
 import com.gklyphon.sabor_digital.table.application.mapper.IMapper;
 import com.gklyphon.sabor_digital.table.application.services.ITableService;
 import com.gklyphon.sabor_digital.table.domain.models.Table;
@@ -134,6 +137,8 @@ public class TableServiceImpl implements ITableService {
 
     /**
      * Retrieves a list of tables by their IDs.
+     * Duplicated IDs are queried once, in chunks of at most {@link ChunkedInQuery#MAX_CHUNK_SIZE} IDs,
+     * and the IDs without a match are reported in the exception.
      *
      * @param ids The list of table IDs.
      * @return A list of tables.
@@ -142,39 +147,66 @@ public class TableServiceImpl implements ITableService {
     @Override
     @Transactional(readOnly = true)
     public List<Table> findByIdIn(List<Long> ids) {
-        List<Table> tables = tableRepository.findByIdIn(ids);
+        List<Long> distinctIds = LongHashSet.distinct(ids);
+        List<Table> tables = ChunkedInQuery.findAll(distinctIds, tableRepository::findByIdIn);
 
-        List<Long> foundIds = tables
-                .stream()
-                .map(Table::getId)
-                .toList();
-
-        List<Long> missingIds = ids
-                .stream()
-                .filter(id -> !foundIds.contains(id))
-                .toList();
+        LongHashSet foundIds = new LongHashSet(tables.size());
+        tables.forEach(found -> foundIds.add(found.getId()));
 
+        List<Long> missingIds = foundIds.missing(distinctIds);
         if (!missingIds.isEmpty()) {
-            throw new ElementNotFoundException("No tables were found for the provided IDs.");
+            throw new ElementNotFoundException("No tables were found for the provided IDs.", missingIds);
         }
         return tables;
     }
 
+    /**
+     * Tells whether a table exists, without loading it.
+     *
+     * @param id The ID of the table.
+     * @return {@code true} if a table has the given ID.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsById(Long id) {
+        return tableRepository.existsById(id);
+    }
+
+    /**
+     * Tells which of the given tables exist. The distinct IDs are checked with an ID-only query,
+     * split in chunks, and the answer keeps the position of every requested ID.
+     *
+     * @param ids The list of table IDs to check.
+     * @return A bitmap whose bit {@code i} is set when the {@code i}-th ID exists.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public byte[] existsByIds(List<Long> ids) {
+        LongHashSet existing = LongHashSet.of(
+                ChunkedInQuery.findAll(LongHashSet.distinct(ids), tableRepository::findExistingIds));
+        return ExistenceBitmap.of(ids, existing::contains);
+    }
+
     /**
      * Verifies if the given table DTO has valid restaurant and waiter IDs.
+     * Only existence is checked, so the restaurant and waiters are never transferred.
      *
      * @param tableDto The table DTO to verify.
      * @throws ElementNotFoundException if the restaurant or waiters do not exist.
+     * @throws DownstreamUnavailableException if a service is rejecting calls.
+     * @throws DeadlineExceededException if the request deadline expires before a call is sent.
      * @throws ServiceException if an error occurs while fetching data.
      */
     @Transactional(readOnly = true)
     void verifyClientResponses(TableDto tableDto) {
         try {
-            List<WaiterDto> waitersDto = waiterClient.getWaitersByIds(tableDto.getWaitersId());
-            RestaurantDto restaurantDto = restaurantClient.getRestaurantById(tableDto.getRestaurantId());
-            if ((!tableDto.getWaitersId().isEmpty() && waitersDto.isEmpty()) || restaurantDto == null) {
+            restaurantClient.checkRestaurantExists(tableDto.getRestaurantId());
+            List<Long> waitersId = tableDto.getWaitersId();
+            if (!waitersId.isEmpty() && !ExistenceBitmap.containsAll(waiterClient.existsByIds(waitersId), waitersId.size())) {
                 throw new ElementNotFoundException("Invalid waiter or restaurant IDs");
             }
+        } catch (DownstreamUnavailableException | DeadlineExceededException ex) {
+            throw ex;
         } catch (Exception ex) {
             throw new ServiceException("Error fetching waiters data", ex);
         }
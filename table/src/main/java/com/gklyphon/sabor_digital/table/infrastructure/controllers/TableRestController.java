@@ -16,6 +16,7 @@ import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
@@ -87,6 +88,40 @@ public class TableRestController {
         return ResponseEntity.ok(tableService.findById(id));
     }
 
+    /**
+     * Checks whether a table exists, without returning it.
+     *
+     * @param id The ID of the table.
+     * @return An empty {@code 200 OK} response if it exists, {@code 404 Not Found} otherwise.
+     */
+    @Operation(summary = "Check table exists", description = "Answers with an empty response whose status tells whether the table exists")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Table exists"),
+            @ApiResponse(responseCode = "404", description = "Table not found")
+    })
+    @RequestMapping(value = "/{id}", method = RequestMethod.HEAD)
+    public ResponseEntity<Void> exists(
+            @Parameter(description = "Table ID") @PathVariable Long id) {
+        return tableService.existsById(id) ? ResponseEntity.ok().build() : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Checks which of the given tables exist.
+     *
+     * @param ids The IDs of the tables to check.
+     * @return A bitmap whose bit {@code i} is set when the {@code i}-th ID exists.
+     */
+    @Operation(summary = "Check several tables exist",
+            description = "Answers with a bitmap, least significant bit first, whose bit i is set when the i-th ID exists")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Existence bitmap computed"),
+            @ApiResponse(responseCode = "400", description = "Invalid request body")
+    })
+    @PostMapping(value = "/exists", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> existsByIds(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(tableService.existsByIds(ids));
+    }
+
     /**
      * Creates a new table.
      *
@@ -160,6 +195,24 @@ public class TableRestController {
         return ResponseEntity.ok(tableService.findByIdIn(ids));
     }
 
+    /**
+     * Retrieves a list of tables by the IDs sent in the request body.
+     *
+     * @param ids The list of table IDs.
+     * @return A list of tables.
+     */
+    @Operation(summary = "Get tables by multiple IDs in the request body",
+            description = "Retrieves a list of tables given their IDs as a JSON array, for lists too large for a query string")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Tables retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid table IDs provided")
+    })
+    @PostMapping("/by-ids")
+    public ResponseEntity<?> getByIdsInBody(
+            @Parameter(description = "List of table IDs") @RequestBody List<Long> ids) {
+        return ResponseEntity.ok(tableService.findByIdIn(ids));
+    }
+
     /**
      * Builds a paginated HATEOAS response model from a page of tables.
      *
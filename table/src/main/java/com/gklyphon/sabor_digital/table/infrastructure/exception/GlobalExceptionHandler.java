@@ -1,5 +1,7 @@
 package com.gklyphon.sabor_digital.table.infrastructure.exception;
 
+import com.gklyphon.sabor_digital.feign.exception.DeadlineExceededException;
+import com.gklyphon.sabor_digital.feign.exception.DownstreamUnavailableException;
 import com.gklyphon.sabor_digital.table.infrastructure.exception.exceptions.ElementNotFoundException;
 import org.hibernate.service.spi.ServiceException;
 import org.springframework.http.HttpStatus;
@@ -27,11 +29,14 @@ public class GlobalExceptionHandler {
      * Handles exceptions when an entity is not found.
      *
      * @param ex The thrown {@link ElementNotFoundException}.
-     * @return A {@link ResponseEntity} containing an {@link ErrorResponse} with a {@code NOT_FOUND} status.
+     * @return A {@link ResponseEntity} containing an {@link ErrorResponse} with a {@code NOT_FOUND} status
+     * and the missing IDs, if any.
      */
     @ExceptionHandler(ElementNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleElementNotFoundException(ElementNotFoundException ex) {
-        return buildErrorResponse(ex, HttpStatus.NOT_FOUND);
+        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), HttpStatus.NOT_FOUND);
+        errorResponse.setMissingIds(ex.getMissingIds());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
 
@@ -63,6 +68,28 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(ex, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    /**
+     * Handles calls to other services rejected by their circuit breaker or bulkhead.
+     *
+     * @param ex The thrown {@link DownstreamUnavailableException}.
+     * @return A {@link ResponseEntity} containing an {@link ErrorResponse} with a {@code SERVICE_UNAVAILABLE} status.
+     */
+    @ExceptionHandler(DownstreamUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleDownstreamUnavailableException(DownstreamUnavailableException ex) {
+        return buildErrorResponse(ex, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * Handles requests whose deadline expired before a call to another service could be sent.
+     *
+     * @param ex The thrown {@link DeadlineExceededException}.
+     * @return A {@link ResponseEntity} containing an {@link ErrorResponse} with a {@code GATEWAY_TIMEOUT} status.
+     */
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<ErrorResponse> handleDeadlineExceededException(DeadlineExceededException ex) {
+        return buildErrorResponse(ex, HttpStatus.GATEWAY_TIMEOUT);
+    }
+
     /**
      * Handles generic exceptions that are not explicitly handled by other methods.
      *
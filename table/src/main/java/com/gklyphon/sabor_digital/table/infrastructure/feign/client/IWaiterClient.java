@@ -2,8 +2,8 @@ package com.gklyphon.sabor_digital.table.infrastructure.feign.client;
 
 import com.gklyphon.sabor_digital.table.application.dtos.WaiterDto;
 import org.springframework.cloud.openfeign.FeignClient;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
 import java.util.List;
 
@@ -23,6 +23,15 @@ public interface IWaiterClient {
      * @param ids The list of waiter IDs to retrieve.
      * @return A list of {@link WaiterDto} containing waiter details.
      */
-    @GetMapping("/api/waiters/by-ids")
-    List<WaiterDto> getWaitersByIds(@RequestParam("ids") List<Long> ids);
+    @PostMapping("/api/waiters/by-ids")
+    List<WaiterDto> getWaitersByIds(@RequestBody List<Long> ids);
+
+    /**
+     * Checks which of the given waiters exist.
+     *
+     * @param ids The list of waiter IDs to check.
+     * @return A bitmap whose bit {@code i} is set when the {@code i}-th ID exists.
+     */
+    @PostMapping("/api/waiters/exists")
+    byte[] existsByIds(@RequestBody List<Long> ids);
 }
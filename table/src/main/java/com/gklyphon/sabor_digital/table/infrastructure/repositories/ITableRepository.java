@@ -4,6 +4,8 @@ import com.gklyphon.sabor_digital.table.domain.models.Table;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -32,4 +34,14 @@ public interface ITableRepository extends JpaRepository<Table, Long> {
      * @return A list of tables matching the provided IDs.
      */
     List<Table> findByIdIn(List<Long> ids);
+
+    /**
+     * Retrieves which of the given table IDs exist. Only the primary key is selected, so the
+     * lookup is answered from its index without reading the rows.
+     *
+     * @param ids The list of table IDs to check.
+     * @return The IDs among the given ones that match a table.
+     */
+    @Query("SELECT t.id FROM Table t WHERE t.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") List<Long> ids);
 }
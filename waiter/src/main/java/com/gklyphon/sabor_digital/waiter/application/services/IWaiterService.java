@@ -33,4 +33,20 @@ public interface IWaiterService extends IService<Waiter, WaiterDto> {
      * @return a list of found waiters.
      */
     List<Waiter> findByIdIn(List<Long> ids);
+
+    /**
+     * Tells whether a waiter exists, without loading it.
+     *
+     * @param id The ID of the waiter.
+     * @return {@code true} if a waiter has the given ID.
+     */
+    boolean existsById(Long id);
+
+    /**
+     * Tells which of the given waiters exist.
+     *
+     * @param ids The list of waiter IDs to check.
+     * @return A bitmap whose bit {@code i} is set when the {@code i}-th ID exists.
+     */
+    byte[] existsByIds(List<Long> ids);
 }
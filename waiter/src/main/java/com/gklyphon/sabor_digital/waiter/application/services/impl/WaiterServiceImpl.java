@@ -1,7 +1,10 @@
 package com.gklyphon.sabor_digital.waiter.application.services.impl;
 
-import com.gklyphon.sabor_digital.waiter.application.dto.RestaurantDto;
-import com.gklyphon.sabor_digital.waiter.application.dto.TableDto;
+import com.gklyphon.sabor_digital.commons.utils.ChunkedInQuery;
+import com.gklyphon.sabor_digital.commons.utils.ExistenceBitmap;
+import com.gklyphon.sabor_digital.commons.utils.LongHashSet;
+import com.gklyphon.sabor_digital.feign.exception.DeadlineExceededException;
+import com.gklyphon.sabor_digital.feign.exception.DownstreamUnavailableException;
 import com.gklyphon.sabor_digital.waiter.application.dto.WaiterDto;
 import com.gklyphon.sabor_digital.waiter.application.mapper.IMapper;
 import com.gklyphon.sabor_digital.waiter.application.services.IWaiterService;
@@ -141,6 +144,8 @@ public class WaiterServiceImpl implements IWaiterService {
 
     /**
      * Retrieves a list of waiters by their IDs.
+     * Duplicated IDs are queried once, in chunks of at most {@link ChunkedInQuery#MAX_CHUNK_SIZE} IDs,
+     * and the IDs without a match are reported in the exception.
      *
      * @param ids The list of waiter IDs.
      * @return A list of found waiters.
@@ -149,40 +154,68 @@ public class WaiterServiceImpl implements IWaiterService {
     @Override
     @Transactional(readOnly = true)
     public List<Waiter> findByIdIn(List<Long> ids) {
-        List<Waiter> waiters = waiterRepository.findByIdIn(ids);
+        List<Long> distinctIds = LongHashSet.distinct(ids);
+        List<Waiter> waiters = ChunkedInQuery.findAll(distinctIds, waiterRepository::findByIdIn);
 
-        List<Long> foundIds = waiters.stream()
-                .map(Waiter::getId)
-                .toList();
+        LongHashSet foundIds = new LongHashSet(waiters.size());
+        waiters.forEach(found -> foundIds.add(found.getId()));
 
-        List<Long> missingIds = ids
-                .stream()
-                .filter(id -> !foundIds.contains(id))
-                .toList();
+        List<Long> missingIds = foundIds.missing(distinctIds);
         if (!missingIds.isEmpty()) {
-            throw new ElementNotFoundException("No waiters were found for the provided IDs");
+            throw new ElementNotFoundException("No waiters were found for the provided IDs", missingIds);
         }
-
         return waiters;
     }
 
+    /**
+     * Tells whether a waiter exists, without loading it.
+     *
+     * @param id The ID of the waiter.
+     * @return {@code true} if a waiter has the given ID.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsById(Long id) {
+        return waiterRepository.existsById(id);
+    }
+
+    /**
+     * Tells which of the given waiters exist. The distinct IDs are checked with an ID-only query,
+     * split in chunks, and the answer keeps the position of every requested ID.
+     *
+     * @param ids The list of waiter IDs to check.
+     * @return A bitmap whose bit {@code i} is set when the {@code i}-th ID exists.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public byte[] existsByIds(List<Long> ids) {
+        LongHashSet existing = LongHashSet.of(
+                ChunkedInQuery.findAll(LongHashSet.distinct(ids), waiterRepository::findExistingIds));
+        return ExistenceBitmap.of(ids, existing::contains);
+    }
+
     /**
      * Verifies the existence of related restaurant and table IDs before saving or updating a waiter.
+     * Only existence is checked, so the restaurant and tables are never transferred.
      *
      * @param waiterDto The waiter DTO containing restaurant and table IDs.
      * @throws ElementNotFoundException if restaurant or tables do not exist.
+     * @throws DownstreamUnavailableException if a service is rejecting calls.
+     * @throws DeadlineExceededException if the request deadline expires before a call is sent.
      * @throws ServiceException if an error occurs during verification.
      */
     @Transactional(readOnly = true)
     void verifyClientResponses(WaiterDto waiterDto) {
 
         try {
-            RestaurantDto restaurantDto = restaurantClient.getRestaurantById(waiterDto.getRestaurantId());
-            List<TableDto> tableDtoList = tableClient.getTablesByIdIn(waiterDto.getTablesId());
+            restaurantClient.checkRestaurantExists(waiterDto.getRestaurantId());
+            List<Long> tablesId = waiterDto.getTablesId();
 
-            if ( ( !waiterDto.getTablesId().isEmpty() && tableDtoList.isEmpty()) || restaurantDto == null ) {
+            if (!tablesId.isEmpty() && !ExistenceBitmap.containsAll(tableClient.existsByIds(tablesId), tablesId.size())) {
                 throw new ElementNotFoundException("Invalid restaurant or table id.");
             }
+        } catch (DownstreamUnavailableException | DeadlineExceededException ex) {
+            throw ex;
         } catch (Exception ex) {
             throw new ServiceException("Error fetching waiters data.", ex);
         }
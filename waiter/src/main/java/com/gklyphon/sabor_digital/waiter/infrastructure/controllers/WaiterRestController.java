@@ -17,6 +17,7 @@ import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
@@ -103,6 +104,40 @@ public class WaiterRestController {
                 waiterService.findById(id));
     }
 
+    /**
+     * Checks whether a waiter exists, without returning it.
+     *
+     * @param id The ID of the waiter.
+     * @return An empty {@code 200 OK} response if it exists, {@code 404 Not Found} otherwise.
+     */
+    @Operation(summary = "Check waiter exists", description = "Answers with an empty response whose status tells whether the waiter exists")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Waiter exists"),
+            @ApiResponse(responseCode = "404", description = "Waiter not found")
+    })
+    @RequestMapping(value = "/{id}", method = RequestMethod.HEAD)
+    public ResponseEntity<Void> exists(
+            @Parameter(description = "Waiter ID", example = "1") @PathVariable(name = "id") Long id) {
+        return waiterService.existsById(id) ? ResponseEntity.ok().build() : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Checks which of the given waiters exist.
+     *
+     * @param ids The IDs of the waiters to check.
+     * @return A bitmap whose bit {@code i} is set when the {@code i}-th ID exists.
+     */
+    @Operation(summary = "Check several waiters exist",
+            description = "Answers with a bitmap, least significant bit first, whose bit i is set when the i-th ID exists")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Existence bitmap computed"),
+            @ApiResponse(responseCode = "400", description = "Invalid request body")
+    })
+    @PostMapping(value = "/exists", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> existsByIds(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(waiterService.existsByIds(ids));
+    }
+
     /**
      * Creates a new waiter.
      *
@@ -175,6 +210,23 @@ public class WaiterRestController {
         return ResponseEntity.ok(waiterService.findByIdIn(ids));
     }
 
+    /**
+     * Retrieves a list of waiters by the IDs sent in the request body.
+     *
+     * @param ids The list of waiter IDs.
+     * @return A list of waiters.
+     */
+    @Operation(summary = "Get waiters by multiple IDs in the request body",
+            description = "Retrieves a list of waiters by their IDs given as a JSON array, for lists too large for a query string.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved waiters"),
+            @ApiResponse(responseCode = "400", description = "Invalid request body", content = @Content)
+    })
+    @PostMapping("/by-ids")
+    public ResponseEntity<?> getWaitersByIdsInBody(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(waiterService.findByIdIn(ids));
+    }
+
     /**
      * Builds a paginated HATEOAS response model from a page of waiters.
      *
@@ -1,8 +1,10 @@
 package com.gklyphon.sabor_digital.waiter.infrastructure.exception;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import org.springframework.http.HttpStatus;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Exception thrown when an entity or element is not found in the system.
@@ -17,6 +19,8 @@ public class ErrorResponse {
     private String message;
     private LocalDateTime timestamp;
     private int status;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<Long> missingIds;
 
     /**
      * Default constructor.
@@ -84,4 +88,12 @@ public class ErrorResponse {
     public void setStatus(int status) {
         this.status = status;
     }
+
+    public List<Long> getMissingIds() {
+        return missingIds;
+    }
+
+    public void setMissingIds(List<Long> missingIds) {
+        this.missingIds = missingIds;
+    }
 }
@@ -1,5 +1,7 @@
 package com.gklyphon.sabor_digital.waiter.infrastructure.exception.exceptions;
 
+import java.util.List;
+
 /**
  * Exception thrown when an entity or element is not found in the system.
  * This exception extends {@link RuntimeException} and is typically used
@@ -10,12 +12,29 @@ package com.gklyphon.sabor_digital.waiter.infrastructure.exception.exceptions;
  */
 public class ElementNotFoundException extends RuntimeException {
 
+    private final List<Long> missingIds;
+
     /**
      * Constructs a new {@code ElementNotFoundException} with the specified detail message.
      *
      * @param message The error message describing the missing element.
      */
     public ElementNotFoundException(String message) {
+        this(message, List.of());
+    }
+
+    /**
+     * Constructs a new {@code ElementNotFoundException} listing the IDs that could not be found.
+     *
+     * @param message The error message describing the missing elements.
+     * @param missingIds The IDs that do not match any element.
+     */
+    public ElementNotFoundException(String message, List<Long> missingIds) {
         super(message);
+        this.missingIds = missingIds;
+    }
+
+    public List<Long> getMissingIds() {
+        return missingIds;
     }
 }
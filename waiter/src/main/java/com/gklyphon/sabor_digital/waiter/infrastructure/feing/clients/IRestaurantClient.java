@@ -4,6 +4,8 @@ import com.gklyphon.sabor_digital.waiter.application.dto.RestaurantDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
 
 /**
  * Feign Client interface for interacting with the Restaurant Service.
@@ -23,4 +25,13 @@ public interface IRestaurantClient {
      */
     @GetMapping("/api/restaurants/{id}")
     RestaurantDto getRestaurantById(@PathVariable Long id);
+
+    /**
+     * Checks that a restaurant exists with a {@code HEAD} request, which carries no body.
+     *
+     * @param id The ID of the restaurant to check.
+     * @throws feign.FeignException.NotFound if the restaurant does not exist.
+     */
+    @RequestMapping(value = "/api/restaurants/{id}", method = RequestMethod.HEAD)
+    void checkRestaurantExists(@PathVariable Long id);
 }
@@ -2,8 +2,8 @@ package com.gklyphon.sabor_digital.waiter.infrastructure.feing.clients;
 
 import com.gklyphon.sabor_digital.waiter.application.dto.TableDto;
 import org.springframework.cloud.openfeign.FeignClient;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
 import java.util.List;
 
@@ -23,6 +23,15 @@ public interface ITableClient {
      * @param ids The list of table IDs.
      * @return A list of {@link TableDto} objects representing the requested tables.
      */
-    @GetMapping("/api/tables/by-ids")
-    List<TableDto> getTablesByIdIn(@RequestParam("ids") List<Long> ids);
+    @PostMapping("/api/tables/by-ids")
+    List<TableDto> getTablesByIdIn(@RequestBody List<Long> ids);
+
+    /**
+     * Checks which of the given tables exist.
+     *
+     * @param ids The list of table IDs to check.
+     * @return A bitmap whose bit {@code i} is set when the {@code i}-th ID exists.
+     */
+    @PostMapping("/api/tables/exists")
+    byte[] existsByIds(@RequestBody List<Long> ids);
 }
@@ -4,6 +4,8 @@ import com.gklyphon.sabor_digital.waiter.domain.models.Waiter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -31,4 +33,14 @@ public interface IWaiterRepository extends JpaRepository<Waiter, Long> {
      * @return A list of waiters matching the provided IDs.
      */
     List<Waiter> findByIdIn(List<Long> ids);
+
+    /**
+     * Retrieves which of the given waiter IDs exist. Only the primary key is selected, so the
+     * lookup is answered from its index without reading the rows.
+     *
+     * @param ids The list of waiter IDs to check.
+     * @return The IDs among the given ones that match a waiter.
+     */
+    @Query("SELECT w.id FROM Waiter w WHERE w.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") List<Long> ids);
 }
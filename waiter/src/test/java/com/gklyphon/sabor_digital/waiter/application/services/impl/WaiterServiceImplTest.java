@@ -14,6 +14,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -86,4 +87,11 @@ class WaiterServiceImplTest {
         verify(waiterRepository, times(1)).deleteById(1L);
     }
 
-}
\ No newline at end of file
+    @Test
+    void findByIdIn_shouldReportMissingIds_whenSomeNotFound() {
+        when(waiterRepository.findByIdIn(anyList())).thenReturn(List.of(TestData.WAITER));
+        ElementNotFoundException ex = assertThrows(ElementNotFoundException.class,
+                () -> waiterService.findByIdIn(List.of(1L, 2L, 1L)));
+        assertEquals(List.of(2L), ex.getMissingIds());
+    }
+}